@@ -2,6 +2,7 @@ plugins {
     id("java")
     id("application")
     id("com.gradleup.shadow") version "8.3.5"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "org.example"
@@ -28,6 +29,23 @@ tasks.test {
     useJUnitPlatform()
 }
 
+// Микробенчмарки горячих путей (src/jmh): ./gradlew jmh
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.add("gc") // выделения памяти на операцию (gc.alloc.rate.norm)
+}
+
+// Безголовый прогон партий: ./gradlew simulate --args="1000 bot 1"
+tasks.register<JavaExec>("simulate") {
+    group = "application"
+    description = "Runs headless games and prints turns/sec and per-phase timing"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("org.example.SimulationApp")
+}
+
 tasks.shadowJar {
     archiveClassifier.set("") // делает shadow JAR основным
     manifest {
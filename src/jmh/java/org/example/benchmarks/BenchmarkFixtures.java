@@ -0,0 +1,45 @@
+package org.example.benchmarks;
+
+import org.example.domain.entity.GameSession;
+import org.example.domain.entity.Player;
+import org.example.domain.factory.GeneratedLevel;
+import org.example.domain.factory.LevelGenerator;
+import org.example.domain.model.MapLayout;
+import org.example.domain.model.Position;
+import org.example.domain.model.RandomStreams;
+
+/**
+ * Фиксированные входные данные бенчмарков: уровень и сессия, построенные по постоянному зерну.
+ * Одинаковые зерно и размеры карты дают одинаковый уровень при каждом запуске.
+ */
+final class BenchmarkFixtures {
+
+    static final long SEED = 42L;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Генератор уровней с фиксированным зерном и размерами карты по умолчанию.
+     */
+    static LevelGenerator generator() {
+        return new LevelGenerator(new RandomStreams(SEED), MapLayout.DEFAULT);
+    }
+
+    /**
+     * Сессия с картой, предметами и врагами уровня; игрок стоит в стартовой клетке.
+     * Генератор принимает уровень (FogOfWarService ищет по нему комнаты).
+     */
+    static GameSession sessionFor(LevelGenerator generator, int levelNumber) {
+        GeneratedLevel level = generator.generateLevel(levelNumber);
+        generator.adoptLevel(level);
+        GameSession session = new GameSession();
+        session.setPlayer(new Player(new Position(level.getStartPosition().getX(), level.getStartPosition().getY())));
+        session.setLevelNum(levelNumber);
+        session.setCurrentMap(level.getMap());
+        session.setRooms(level.getRooms());
+        session.placeLevelItems(level.getItems());
+        session.placeEnemies(level.getEnemies());
+        return session;
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.benchmarks;
+
+import org.example.domain.entity.GameSession;
+import org.example.domain.entity.Player;
+import org.example.domain.service.CombatService;
+import org.example.domain.service.EnemyAIService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ход всех врагов уровня ({@link EnemyAIService#processEnemiesTurn}).
+ * Уровень пересоздается перед каждой итерацией, здоровье игрока восстанавливается
+ * перед каждым вызовом, чтобы враги не перестали действовать из-за смерти игрока.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EnemyTurnBenchmark {
+
+    @Param({"1", "10", "21"})
+    int level;
+
+    private GameSession session;
+    private EnemyAIService aiService;
+    private CombatService combatService;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        session = BenchmarkFixtures.sessionFor(BenchmarkFixtures.generator(), level);
+        aiService = new EnemyAIService(new Random(BenchmarkFixtures.SEED));
+        combatService = new CombatService(new Random(BenchmarkFixtures.SEED));
+    }
+
+    @Benchmark
+    public List<String> processEnemiesTurn() {
+        Player player = session.getPlayer();
+        player.setHealth(player.getMaxHealth());
+        player.setSleepTurns(0);
+        return aiService.processEnemiesTurn(session, combatService,
+                player.getPosition().getX(), player.getPosition().getY(), session.getCurrentMap());
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.benchmarks;
+
+import org.example.domain.entity.GameSession;
+import org.example.domain.factory.LevelGenerator;
+import org.example.domain.model.Position;
+import org.example.domain.service.FogOfWarService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.config.GameConstants.Icons.*;
+
+/**
+ * Пересчет поля зрения ({@link FogOfWarService#updateVisibility}).
+ * Игрок по кругу обходит все проходимые клетки уровня, поэтому каждый вызов
+ * выполняет настоящий пересчет, а не попадает в кэш неизменной позиции.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FogOfWarBenchmark {
+
+    private FogOfWarService fogOfWar;
+    private char[][] map;
+    private Position[] positions;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        LevelGenerator generator = BenchmarkFixtures.generator();
+        GameSession session = BenchmarkFixtures.sessionFor(generator, 1);
+        map = session.getCurrentMap();
+        fogOfWar = new FogOfWarService(generator);
+
+        List<Position> walkable = new ArrayList<>();
+        for (int y = 0; y < map.length; y++) {
+            for (int x = 0; x < map[y].length; x++) {
+                char tile = map[y][x];
+                if (tile != W_WALL && tile != H_WALL && tile != EMPTINESS) {
+                    walkable.add(new Position(x, y));
+                }
+            }
+        }
+        positions = walkable.toArray(new Position[0]);
+    }
+
+    @Benchmark
+    public void updateVisibility() {
+        fogOfWar.updateVisibility(positions[next], map);
+        next = next + 1 == positions.length ? 0 : next + 1;
+    }
+}
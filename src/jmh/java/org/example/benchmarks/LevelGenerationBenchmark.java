@@ -0,0 +1,37 @@
+package org.example.benchmarks;
+
+import org.example.domain.factory.LevelGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Генерация карты уровня ({@link LevelGenerator#createAsciiMap}) при фиксированном зерне.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LevelGenerationBenchmark {
+
+    @Param({"1", "10", "21"})
+    int level;
+
+    private LevelGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = BenchmarkFixtures.generator();
+    }
+
+    @Benchmark
+    public char[][] createAsciiMap() {
+        return generator.createAsciiMap(level);
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.benchmarks;
+
+import org.example.domain.dto.VisibleMapDto;
+import org.example.domain.entity.GameSession;
+import org.example.domain.entity.Player;
+import org.example.domain.factory.LevelGenerator;
+import org.example.domain.model.Position;
+import org.example.domain.service.FogOfWarService;
+import org.example.domain.service.MapVisibilityService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Подготовка видимой карты ({@link MapVisibilityService#prepareVisibleMap}).
+ * Перед каждым вызовом меняется исследованная клетка: версия видимости растет
+ * и кэш подготовленной карты не используется (замеряется полная сборка буфера).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapVisibilityBenchmark {
+
+    private MapVisibilityService visibilityService;
+    private FogOfWarService fogOfWar;
+    private char[][] map;
+    private Player player;
+
+    @Setup
+    public void setUp() {
+        LevelGenerator generator = BenchmarkFixtures.generator();
+        GameSession session = BenchmarkFixtures.sessionFor(generator, 1);
+        map = session.getCurrentMap();
+        player = session.getPlayer();
+        fogOfWar = new FogOfWarService(generator);
+        fogOfWar.updateVisibility(player.getPosition(), map);
+        visibilityService = new MapVisibilityService(fogOfWar);
+    }
+
+    @Benchmark
+    public VisibleMapDto prepareVisibleMap() {
+        Position pos = player.getPosition();
+        fogOfWar.onMapCellChanged(pos.getX(), pos.getY());
+        return visibilityService.prepareVisibleMap(map, player);
+    }
+
+    @Benchmark
+    public VisibleMapDto prepareVisibleMapCached() {
+        return visibilityService.prepareVisibleMap(map, player);
+    }
+}
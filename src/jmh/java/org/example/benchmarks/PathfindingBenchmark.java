@@ -0,0 +1,63 @@
+package org.example.benchmarks;
+
+import org.example.domain.entity.Enemy;
+import org.example.domain.entity.GameSession;
+import org.example.domain.factory.LevelGenerator;
+import org.example.domain.model.Position;
+import org.example.domain.service.EnemyAIService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поиск пути A* ({@link EnemyAIService#findPath}) от каждого врага уровня до игрока.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PathfindingBenchmark {
+
+    @Param({"1", "10", "21"})
+    int level;
+
+    private GameSession session;
+    private EnemyAIService aiService;
+    private int[] starts;
+    private Position target;
+
+    @Setup
+    public void setUp() {
+        LevelGenerator generator = BenchmarkFixtures.generator();
+        session = BenchmarkFixtures.sessionFor(generator, level);
+        aiService = new EnemyAIService(new Random(BenchmarkFixtures.SEED));
+        target = session.getPlayer().getPosition();
+
+        List<Enemy> enemies = session.getEnemies();
+        starts = new int[enemies.size() * 2];
+        for (int i = 0; i < enemies.size(); i++) {
+            starts[i * 2] = enemies.get(i).getX();
+            starts[i * 2 + 1] = enemies.get(i).getY();
+        }
+    }
+
+    @Benchmark
+    public int findPathToPlayer() {
+        char[][] map = session.getCurrentMap();
+        int total = 0;
+        for (int i = 0; i < starts.length; i += 2) {
+            List<int[]> path = aiService.findPath(session, starts[i], starts[i + 1],
+                    target.getX(), target.getY(), map);
+            if (path != null) total += path.size();
+        }
+        return total;
+    }
+}
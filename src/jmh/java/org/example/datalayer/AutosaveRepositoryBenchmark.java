@@ -0,0 +1,110 @@
+package org.example.datalayer;
+
+import org.example.domain.GameInitializer;
+import org.example.domain.entity.GameSession;
+import org.example.domain.entity.SessionStat;
+import org.example.domain.enums.SaveFormat;
+import org.example.domain.factory.GeneratedLevel;
+import org.example.domain.model.MapLayout;
+import org.example.domain.model.Position;
+import org.example.domain.model.RandomStreams;
+import org.example.domain.service.AutosaveService;
+import org.example.domain.service.FogOfWarService;
+import org.example.presentation.views.HeadlessRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Запись и чтение сохранения во всех форматах через {@link AutosaveRepository}: вместе с кодеком
+ * измеряются обновление индекса слотов, очистка старых сохранений и поиск слота при загрузке.
+ * Состояние игры снимается через {@link AutosaveService} с уровня, построенного по фиксированному зерну;
+ * репозиторий работает во временном каталоге, сохранения игрока не затрагиваются.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AutosaveRepositoryBenchmark {
+
+    @Param({"JSON", "BINARY"})
+    SaveFormat format;
+
+    private GameState gameState;
+    private Path directory;
+    private AutosaveRepository repository;
+
+    @Setup
+    public void setUp() throws IOException {
+        GameInitializer initializer = new GameInitializer(new SessionStat(),
+                new HeadlessRenderer(session -> 27, 0, 0, 0),
+                new InMemorySessionStatRepository(), new NullAutosaveRepository(),
+                new RandomStreams(42L), MapLayout.DEFAULT);
+        initializer.initializeNewGame();
+
+        GameSession session = initializer.getSession();
+        GeneratedLevel level = initializer.getLevelGenerator().generateLevel(1);
+        initializer.getLevelGenerator().adoptLevel(level);
+        session.getPlayer().setPosition(new Position(level.getStartPosition().getX(), level.getStartPosition().getY()));
+        session.setCurrentMap(level.getMap());
+        session.setRooms(level.getRooms());
+        session.placeLevelItems(level.getItems());
+        session.placeEnemies(level.getEnemies());
+        FogOfWarService fogOfWar = initializer.getFogOfWarService();
+        fogOfWar.updateVisibility(session.getPlayer().getPosition(), level.getMap());
+
+        CapturingRepository capture = new CapturingRepository();
+        new AutosaveService(capture, fogOfWar).saveGame(session, initializer.getSessionStat());
+        gameState = capture.captured;
+
+        directory = Files.createTempDirectory("autosave-bench");
+        repository = new AutosaveRepository(directory, format);
+        if (!repository.save(gameState)) {
+            throw new IOException("Benchmark save failed in " + directory);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public boolean save() {
+        return repository.save(gameState);
+    }
+
+    @Benchmark
+    public GameState load() {
+        return repository.load(0);
+    }
+
+    /**
+     * Репозиторий, запоминающий переданное состояние вместо записи на диск.
+     */
+    private static final class CapturingRepository extends NullAutosaveRepository {
+        private GameState captured;
+
+        @Override
+        public boolean save(GameState gameState) {
+            captured = gameState;
+            return true;
+        }
+    }
+}
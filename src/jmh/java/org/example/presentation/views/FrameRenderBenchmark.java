@@ -0,0 +1,125 @@
+package org.example.presentation.views;
+
+import jcurses.system.CharColor;
+import org.example.domain.dto.VisibleMapDto;
+import org.example.domain.factory.LevelGenerator;
+import org.example.domain.model.MapLayout;
+import org.example.domain.model.RandomStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.example.config.GameConstants.Colors.COLOR_YELLOW;
+
+/**
+ * Отрисовка кадра карты настоящим {@link JCursesRenderer} (composeMap + flushFrame, drawChar)
+ * поверх терминала, который ничего не выводит. Выделения памяти на кадр показывает
+ * профилировщик gc (gc.alloc.rate.norm), включенный в блоке jmh сборки.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FrameRenderBenchmark {
+
+    private JCursesRenderer renderer;
+    private VisibleMapDto map;
+    private char[] symbols;
+    private short[] colors;
+    private int[] floorCells;
+    private int step;
+
+    @Setup
+    public void setUp() {
+        char[][] ascii = new LevelGenerator(new RandomStreams(42L), MapLayout.DEFAULT).createAsciiMap(1);
+        int width = ascii[0].length;
+        symbols = new char[ascii.length * width];
+        colors = new short[symbols.length];
+        int floors = 0;
+        for (int y = 0; y < ascii.length; y++) {
+            for (int x = 0; x < width; x++) {
+                symbols[y * width + x] = ascii[y][x];
+                colors[y * width + x] = (short) (ascii[y][x] % TerminalPalette.SIZE);
+                if (ascii[y][x] == '.') floors++;
+            }
+        }
+        floorCells = new int[floors];
+        for (int i = 0, n = 0; i < symbols.length; i++) {
+            if (symbols[i] == '.') floorCells[n++] = i;
+        }
+        map = new VisibleMapDto(symbols, colors, width, ascii.length);
+        renderer = new JCursesRenderer(new NullTerminal());
+        renderer.drawMap(map);
+    }
+
+    /**
+     * Кадр без изменений: сравнение с прошлым кадром, вывода нет.
+     */
+    @Benchmark
+    public void unchangedFrame() {
+        renderer.drawMap(map);
+    }
+
+    /**
+     * Кадр, в котором сущность переходит на другую клетку пола (две измененные клетки).
+     */
+    @Benchmark
+    public void movingEntityFrame() {
+        int from = floorCells[step];
+        step = (step + 1) % floorCells.length;
+        int to = floorCells[step];
+        symbols[from] = '.';
+        colors[from] = (short) ('.' % TerminalPalette.SIZE);
+        symbols[to] = '@';
+        colors[to] = COLOR_YELLOW;
+        renderer.drawMap(map);
+    }
+
+    /**
+     * Прямой вывод всех клеток кадра через drawChar.
+     */
+    @Benchmark
+    public void drawCharPerCell() {
+        int width = map.width();
+        for (int i = 0; i < symbols.length; i++) {
+            renderer.drawChar(i % width, i / width, symbols[i], colors[i]);
+        }
+    }
+
+    /**
+     * Терминал, который ничего не выводит.
+     */
+    static final class NullTerminal implements Terminal {
+        @Override
+        public void printString(String text, int x, int y, CharColor color) {
+        }
+
+        @Override
+        public void clearScreen(CharColor color) {
+        }
+
+        @Override
+        public int readCharacter() {
+            return 0;
+        }
+
+        @Override
+        public int getScreenWidth() {
+            return 0;
+        }
+
+        @Override
+        public int getScreenHeight() {
+            return 0;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
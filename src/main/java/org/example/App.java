@@ -1,8 +1,10 @@
 package org.example;
 
 import org.example.domain.GameApplication;
+import org.example.datalayer.AsyncAutosaveRepository;
 import org.example.datalayer.AutosaveRepository;
 import org.example.datalayer.SessionStatRepository;
+import org.example.datalayer.WriteBehindSessionStatRepository;
 import org.example.domain.interfaces.IAutosaveRepository;
 import org.example.domain.interfaces.ISessionStatRepository;
 import org.example.domain.interfaces.Renderer;
@@ -14,8 +16,9 @@ public class App {
 
     public static void main(String[] args) {
         Renderer renderer = new JCursesRenderer();
-        ISessionStatRepository sessionStatRepository = new SessionStatRepository();
-        IAutosaveRepository autosaveRepository = new AutosaveRepository();
+        ISessionStatRepository sessionStatRepository =
+                new WriteBehindSessionStatRepository(new SessionStatRepository());
+        IAutosaveRepository autosaveRepository = new AsyncAutosaveRepository(new AutosaveRepository());
         try {
             new GameApplication(renderer, sessionStatRepository, autosaveRepository).run();
         } catch (IOException e) {
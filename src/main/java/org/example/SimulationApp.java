@@ -0,0 +1,47 @@
+package org.example;
+
+import org.example.domain.model.MapLayout;
+import org.example.domain.simulation.ExitSeekingBot;
+import org.example.domain.simulation.InputSource;
+import org.example.domain.simulation.RandomWalkInput;
+import org.example.domain.simulation.ReplayInput;
+import org.example.domain.simulation.SimulationEngine;
+import org.example.domain.simulation.SimulationReport;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.LongFunction;
+
+/**
+ * Точка входа безголового прогона.
+ * Аргументы: [число партий] [bot | random | replay:путь] [зерно] [лимит нажатий на партию].
+ * Размеры карты берутся из свойств game.map.size / game.map.rooms.
+ */
+public class SimulationApp {
+
+    public static void main(String[] args) throws IOException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        String input = args.length > 1 ? args[1] : "bot";
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+        long maxKeys = args.length > 3 ? Long.parseLong(args[3]) : 20_000L;
+
+        SimulationEngine engine = new SimulationEngine(seed, MapLayout.fromProperties(),
+                createInput(input), maxKeys);
+        SimulationReport report = engine.run(games);
+        System.out.print(report.format());
+    }
+
+    private static LongFunction<InputSource> createInput(String input) throws IOException {
+        if (input.startsWith("replay:")) {
+            String keys = Files.readString(Path.of(input.substring("replay:".length())), StandardCharsets.UTF_8);
+            return seed -> new ReplayInput(keys);
+        }
+        return switch (input) {
+            case "random" -> RandomWalkInput::new;
+            case "bot" -> ExitSeekingBot::new;
+            default -> throw new IllegalArgumentException("Unknown input source: " + input);
+        };
+    }
+}
@@ -1,6 +1,8 @@
 package org.example.config;
 
 import jcurses.system.CharColor;
+import org.example.domain.enums.FovType;
+import org.example.domain.enums.SaveFormat;
 
 public final class GameConstants {
 
@@ -9,12 +11,26 @@ public final class GameConstants {
         public static final int TERMINAL_WIDTH = 140;     //ширина терминала поля
         public static final int TERMINAL_HEIGHT = 40;    //высота терминала поля
         public static final int ROOMS = 9;     //комнат на уровне
-        public static final int WIDTH = 80;     //ширина игрового поля
-        public static final int HEIGHT = 30;    //высота игрового поля
+        public static final int LEVELS = 21;   //число уровней подземелья
+        public static final int WIDTH = 80;     //ширина игрового поля по умолчанию
+        public static final int HEIGHT = 30;    //высота игрового поля по умолчанию
+
+        // Область карты на экране; карта больше нее прокручивается
+        public static final int VIEWPORT_WIDTH = WIDTH;
+        public static final int VIEWPORT_HEIGHT = HEIGHT;
+        public static final int SCROLL_MARGIN = 10;   // отступ игрока от края области до прокрутки
+
+        // Системные свойства для больших карт (формат WIDTHxHEIGHT), см. MapLayout
+        public static final String SIZE_PROPERTY = "game.map.size";
+        public static final String ROOM_GRID_PROPERTY = "game.map.rooms";
+
+        // Радиус построения карты расстояний для преследования (в шагах от игрока)
+        public static final int CHASE_SEARCH_RADIUS = 64;
 
         public static final int MAP_OFFSET_X = 3; // смещение карты от левого края
         public static final int MAP_OFFSET_Y = 3; // смещение карты от левого края
         public static final int VISION_RADIUS = 8; // радиус видимости игрока
+        public static final FovType FOV_ALGORITHM = FovType.SHADOWCASTING; // алгоритм поля зрения
     }
 
     public static final class PathToFiles {
@@ -23,11 +39,22 @@ public final class GameConstants {
 
         public static final String AUTOSAVE_DIR = DATA_DIR + "/autosaves";
         public static final String AUTOSAVE_PREFIX = "autosave_";
-        public static final String AUTOSAVE_EXTENSION = ".json";
+        public static final SaveFormat AUTOSAVE_FORMAT = SaveFormat.BINARY; // формат новых сохранений
         public static final int AUTOSAVE_MAX = 10;
+        public static final String AUTOSAVE_INDEX_PATH = AUTOSAVE_DIR + "/index.json"; // индекс слотов сохранений
 
         public static final String STATISTICS_PATH = DATA_DIR + "/statistics.json";
-        public static final String SCOREBOARD_PATH = DATA_DIR + "/scoreboard.json";
+        public static final long STATISTICS_FLUSH_INTERVAL_MS = 2000; // период фоновой записи статистики
+        public static final int STATISTICS_FLUSH_EVERY = 50;           // запись после стольких изменений
+        public static final String SCOREBOARD_PATH = DATA_DIR + "/scoreboard.json"; // старый формат (переносится в журнал)
+        public static final String SCOREBOARD_LOG_PATH = DATA_DIR + "/scoreboard.log";
+        public static final String SCOREBOARD_INDEX_PATH = DATA_DIR + "/scoreboard_top.json";
+        public static final String SCOREBOARD_MIGRATION_MARKER_PATH = DATA_DIR + "/scoreboard.migrating"; // незавершенный перенос
+        public static final String SCOREBOARD_LOCK_PATH = DATA_DIR + "/scoreboard.lock"; // блокировка между процессами
+        public static final int SCOREBOARD_TOP_N = 10;            // размер индекса лучших результатов
+        public static final int SCOREBOARD_COMPACT_EVERY = 1000;  // компактизация после стольких записей
+
+        public static final String LATENCY_REPORT_PATH = DATA_DIR + "/latency.txt"; // замеры фаз хода (пишется при выходе)
 
     }
 
@@ -56,8 +83,14 @@ public final class GameConstants {
         public static final int FOUR_DIRECTIONS = 4;
         public static final int EIGHT_DIRECTIONS = 8;
         public static final int GHOST_TELEPORT_RANGE = 3;
-        public static final int OGRE_DOUBLE_STEP = 2;
         public static final int OGRE_REST_DURATION = 1;
+        // Энергия обычного действия; враг со скоростью ACTION_ENERGY_COST действует раз за ход игрока
+        public static final int ACTION_ENERGY_COST = 100;
+    }
+
+    public static final class Seed {
+        // Системное свойство с зерном забега (-Dgame.seed=42); без него зерно случайное
+        public static final String PROPERTY = "game.seed";
     }
 
     public static final class TextMessages {
@@ -107,6 +140,7 @@ public final class GameConstants {
         public static final int KEY_W = 'w';
         public static final int KEY_S = 's';
         public static final int ESC_KEY_CODE = 27; // Выход// Стрелка вниз
+        public static final int KEY_DEBUG_OVERLAY = '`'; // Оверлей замеров хода
     }
 
     public static final class Player {
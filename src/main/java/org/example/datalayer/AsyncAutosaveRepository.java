@@ -0,0 +1,159 @@
+package org.example.datalayer;
+
+import org.example.domain.enums.SaveFormat;
+import org.example.domain.interfaces.IAutosaveRepository;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Репозиторий автосохранений с записью в отдельном потоке.
+ * save только ставит снимок состояния в очередь и сразу возвращает управление;
+ * единственный фоновый поток записывает его через основной репозиторий.
+ * Если до записи пришел более новый снимок, старый отбрасывается (coalescing).
+ * Операции чтения сначала дописывают ожидающий снимок, чтобы видеть актуальные данные.
+ * Ошибка фоновой записи сообщается следующему вызову save.
+ * {@link #close()} в конце игры дописывает очередь и останавливает поток;
+ * следующий save (новая игра в том же запуске) запускает поток заново.
+ */
+public class AsyncAutosaveRepository implements IAutosaveRepository {
+
+    private final IAutosaveRepository delegate;
+    private ExecutorService writer; // null - поток остановлен close()
+
+    private final AtomicReference<GameState> pending = new AtomicReference<>();
+    private final AtomicBoolean writeFailed = new AtomicBoolean(); // последняя фоновая запись не удалась
+    private final Object writeLock = new Object(); // упорядочивает записи на диск
+    private final Object writerLock = new Object(); // защищает writer
+
+    public AsyncAutosaveRepository(IAutosaveRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Ставит снимок в очередь записи.
+     *
+     * @return false, если не удалась предыдущая фоновая запись (ошибка сообщается один раз)
+     */
+    @Override
+    public boolean save(GameState gameState) {
+        boolean previousWriteOk = !writeFailed.getAndSet(false);
+        // Задача записи ставится только если очередь была пуста, иначе снимок просто заменяется
+        if (pending.getAndSet(gameState) == null) {
+            try {
+                writer().execute(this::writePending);
+            } catch (RejectedExecutionException e) {
+                // Поток остановлен параллельным close(), который сам допишет этот снимок
+            }
+        }
+        return previousWriteOk;
+    }
+
+    @Override
+    public GameState loadLatest() {
+        flush();
+        return delegate.loadLatest();
+    }
+
+    @Override
+    public GameState load(int slotIndex) {
+        flush();
+        return delegate.load(slotIndex);
+    }
+
+    @Override
+    public List<String> getSaveInfo() {
+        flush();
+        return delegate.getSaveInfo();
+    }
+
+    @Override
+    public List<SaveSlotMetadata> getSaveSlotMetadata() {
+        flush();
+        return delegate.getSaveSlotMetadata();
+    }
+
+    @Override
+    public void cleanupOldSaves() {
+        flush();
+        delegate.cleanupOldSaves();
+    }
+
+    @Override
+    public boolean hasSaves() {
+        flush();
+        return delegate.hasSaves();
+    }
+
+    /**
+     * Синхронно записывает ожидающий снимок (например, при выходе из игры).
+     */
+    @Override
+    public void flush() {
+        writePending();
+        delegate.flush();
+    }
+
+    @Override
+    public SaveFormat getSaveFormat() {
+        return delegate.getSaveFormat();
+    }
+
+    @Override
+    public void setSaveFormat(SaveFormat saveFormat) {
+        // Ожидающий снимок пишется в том формате, который был выбран при его сохранении
+        flush();
+        delegate.setSaveFormat(saveFormat);
+    }
+
+    /**
+     * Дописывает ожидающий снимок и останавливает фоновый поток.
+     * Если запись в этот момент идет в фоне, close дожидается ее окончания.
+     */
+    @Override
+    public void close() {
+        ExecutorService stopped;
+        synchronized (writerLock) {
+            stopped = writer;
+            writer = null;
+        }
+        if (stopped != null) {
+            stopped.shutdown();
+        }
+        flush();
+    }
+
+    private ExecutorService writer() {
+        synchronized (writerLock) {
+            if (writer == null) {
+                writer = Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "autosave-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            return writer;
+        }
+    }
+
+    private void writePending() {
+        synchronized (writeLock) {
+            GameState gameState = pending.getAndSet(null);
+            if (gameState == null) return;
+            boolean written;
+            try {
+                written = delegate.save(gameState);
+            } catch (RuntimeException e) {
+                System.err.println("Failed to save game: " + e.getMessage());
+                written = false;
+            }
+            if (!written) {
+                writeFailed.set(true);
+            }
+        }
+    }
+}
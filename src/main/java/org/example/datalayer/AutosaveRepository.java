@@ -1,15 +1,17 @@
 package org.example.datalayer;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.example.config.GameConstants.PathToFiles.*;
+import org.example.domain.enums.SaveFormat;
+import org.example.domain.events.AutosaveEvent;
 import org.example.domain.interfaces.IAutosaveRepository;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -22,29 +24,59 @@ import static org.example.config.GameConstants.PathToFiles.*;
 
 public class AutosaveRepository implements IAutosaveRepository {
 
-    private final ObjectMapper objectMapper;
+    // Формат, в котором пишутся новые сохранения (читаются сохранения любого формата)
+    private SaveFormat saveFormat;
+
+    // Каталог сохранений
+    private final Path directory;
+
+    // Индекс сведений о сохранениях для меню загрузки
+    private final SaveIndex saveIndex;
 
     public AutosaveRepository() {
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
-        this.objectMapper.enable(com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT);
+        this(AUTOSAVE_FORMAT);
+    }
+
+    public AutosaveRepository(SaveFormat saveFormat) {
+        this(Paths.get(AUTOSAVE_DIR), saveFormat);
+    }
+
+    /**
+     * Репозиторий сохранений в указанном каталоге (индекс слотов лежит там же).
+     */
+    public AutosaveRepository(Path directory, SaveFormat saveFormat) {
+        this.directory = directory;
+        this.saveFormat = saveFormat;
+        this.saveIndex = new SaveIndex(directory.resolve(Paths.get(AUTOSAVE_INDEX_PATH).getFileName()));
         createAutosaveDirectory();
     }
 
     @Override
     public boolean save(GameState gameState) {
+        AutosaveEvent event = new AutosaveEvent();
+        event.begin();
         try {
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String filename = AUTOSAVE_PREFIX + timestamp + AUTOSAVE_EXTENSION;
-            String filepath = AUTOSAVE_DIR + "/" + filename;
+            String filename = AUTOSAVE_PREFIX + timestamp + saveFormat.getExtension();
 
-            objectMapper.writeValue(new File(filepath), gameState);
+            byte[] data = writeState(gameState, directory.resolve(filename), saveFormat);
+            event.bytesWritten = data.length;
+            saveIndex.put(SaveSlotMetadata.of(filename, gameState, data));
             cleanupOldSaves();
+            event.success = true;
             return true;
         } catch (IOException e) {
             System.err.println("Failed to save game: " + e.getMessage());
             e.printStackTrace();
             return false;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.levelNumber = gameState.getLevelState() != null
+                        ? gameState.getLevelState().getLevelNumber() : 0;
+                event.format = saveFormat.name();
+                event.commit();
+            }
         }
     }
 
@@ -58,7 +90,7 @@ public class AutosaveRepository implements IAutosaveRepository {
             }
 
             File latestSave = saveFiles.get(0);
-            return objectMapper.readValue(latestSave, GameState.class);
+            return readState(latestSave.toPath());
         } catch (IOException e) {
             System.err.println("Failed to load save: " + e.getMessage());
             e.printStackTrace();
@@ -77,8 +109,15 @@ public class AutosaveRepository implements IAutosaveRepository {
             }
 
             File saveFile = saveFiles.get(slotIndex);
+            byte[] data = Files.readAllBytes(saveFile.toPath());
+
+            // Сверяем контрольную сумму с индексом
+            SaveSlotMetadata metadata = saveIndex.get(saveFile.getName());
+            if (metadata != null && metadata.checksum() != SaveSlotMetadata.checksum(data)) {
+                System.err.println("Save checksum mismatch: " + saveFile.getName());
+            }
 
-            return objectMapper.readValue(saveFile, GameState.class);
+            return decodeState(saveFile.toPath(), data);
         } catch (IOException e) {
             System.err.println("Failed to load game state from slot " + slotIndex + ": " + e.getMessage());
             e.printStackTrace();
@@ -89,25 +128,25 @@ public class AutosaveRepository implements IAutosaveRepository {
     @Override
     public List<String> getSaveInfo() {
         List<File> saves = getAutosaveFilesSorted();
+        List<SaveSlotMetadata> metadataList = saveIndex.list(saves, this::readMetadata);
         List<String> info = new ArrayList<>();
         DateTimeFormatter displayFormat = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm:ss");
 
-        for (File save : saves) {
+        for (SaveSlotMetadata metadata : metadataList) {
             try {
-                String filename = save.getName();
+                String filename = metadata.fileName();
                 String timestampStr = filename.substring(AUTOSAVE_PREFIX.length(),
-                        filename.length() - AUTOSAVE_EXTENSION.length());
+                        filename.length() - SaveFormat.fromFileName(filename).getExtension().length());
 
                 LocalDateTime timestamp = LocalDateTime.parse(timestampStr,
                         DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
 
                 String displayTime = timestamp.format(displayFormat);
-                GameState gameState = objectMapper.readValue(save, GameState.class);
-                String levelInfo = "Level " + gameState.getLevelState().getLevelNumber();
+                String levelInfo = "Level " + metadata.levelNumber();
 
                 info.add(String.format("%s - %s - %s", displayTime, levelInfo, filename));
             } catch (Exception e) {
-                info.add(save.getName() + " [corrupted]");
+                info.add(metadata.fileName() + " [corrupted]");
             }
         }
         return info;
@@ -121,6 +160,7 @@ public class AutosaveRepository implements IAutosaveRepository {
                 for (int i = AUTOSAVE_MAX; i < saveFiles.size(); i++) {
                     File fileToDelete = saveFiles.get(i);
                     if (fileToDelete.delete()) {
+                        saveIndex.remove(fileToDelete.getName());
                         System.out.println("Deleted old save: " + fileToDelete.getName());
                     } else {
                         System.err.println("Failed to delete: " + fileToDelete.getName());
@@ -137,14 +177,75 @@ public class AutosaveRepository implements IAutosaveRepository {
         return !getAutosaveFilesSorted().isEmpty();
     }
 
+    @Override
+    public List<SaveSlotMetadata> getSaveSlotMetadata() {
+        return saveIndex.list(getAutosaveFilesSorted(), this::readMetadata);
+    }
+
+    @Override
+    public void flush() {
+        // Запись синхронная, буферизации нет
+    }
+
+    @Override
+    public SaveFormat getSaveFormat() {
+        return saveFormat;
+    }
+
+    @Override
+    public void setSaveFormat(SaveFormat saveFormat) {
+        this.saveFormat = saveFormat;
+    }
+
+    /**
+     * Читает сохранение; формат определяется по расширению файла.
+     */
+    static GameState readState(Path path) throws IOException {
+        return decodeState(path, Files.readAllBytes(path));
+    }
+
+    private static GameState decodeState(Path path, byte[] data) throws IOException {
+        SaveFormat format = SaveFormat.fromFileName(path.getFileName().toString());
+        if (format == null) {
+            throw new IOException("Unknown save format: " + path.getFileName());
+        }
+        return GameStateCodec.forFormat(format).decode(data);
+    }
+
+    /**
+     * Пишет сохранение во временный файл и атомарно переименовывает его,
+     * чтобы на диске не оказалось обрезанного сохранения.
+     *
+     * @return записанные байты файла
+     */
+    static byte[] writeState(GameState gameState, Path target, SaveFormat format) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        byte[] data = GameStateCodec.forFormat(format).encode(gameState);
+        Files.write(temp, data);
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return data;
+    }
+
+    /**
+     * Строит запись индекса полным чтением файла (если ее нет в индексе или она устарела).
+     */
+    private SaveSlotMetadata readMetadata(File file) throws IOException {
+        byte[] data = Files.readAllBytes(file.toPath());
+        return SaveSlotMetadata.of(file.getName(), decodeState(file.toPath(), data), data);
+    }
+
     private List<File> getAutosaveFilesSorted() {
-        File dir = new File(AUTOSAVE_DIR);
+        File dir = directory.toFile();
         if (!dir.exists() || !dir.isDirectory()) {
             return new ArrayList<>();
         }
 
         File[] files = dir.listFiles((d, name) ->
-                name.startsWith(AUTOSAVE_PREFIX) && name.endsWith(AUTOSAVE_EXTENSION));
+                name.startsWith(AUTOSAVE_PREFIX) && SaveFormat.fromFileName(name) != null);
 
         if (files == null) {
             return new ArrayList<>();
@@ -157,9 +258,8 @@ public class AutosaveRepository implements IAutosaveRepository {
 
     private void createAutosaveDirectory() {
         try {
-            Path path = Paths.get(AUTOSAVE_DIR);
-            if (!Files.exists(path)) {
-                Files.createDirectories(path);
+            if (!Files.exists(directory)) {
+                Files.createDirectories(directory);
             }
         } catch (IOException e) {
             System.err.println("Failed to create autosave directory: " + e.getMessage());
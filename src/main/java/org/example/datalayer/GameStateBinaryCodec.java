@@ -0,0 +1,443 @@
+package org.example.datalayer;
+
+import org.example.domain.entity.Enemy;
+import org.example.domain.entity.Item;
+import org.example.domain.entity.SessionStat;
+import org.example.domain.model.Position;
+import org.example.domain.model.Room;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Компактный бинарный формат сохранения.
+ * Структура файла: сигнатура, версия формата, сжатые (Deflate) секции состояния и CRC32 в конце.
+ * Карта хранится палитрой символов и одним байтом на клетку, исследованные клетки -
+ * битовой маской, враги и предметы - упакованными записями фиксированного вида.
+ */
+public class GameStateBinaryCodec implements GameStateCodec {
+
+    private static final int MAGIC = 0x52474D53; // "RGMS"
+    private static final int VERSION = 1;
+
+    // Битовые флаги наличия секций
+    private static final int HAS_PLAYER = 1;
+    private static final int HAS_LEVEL = 2;
+    private static final int HAS_STATS = 4;
+    private static final int HAS_SESSION = 8;
+    private static final int HAS_FOG = 16;
+
+    // Вид карты игровой сессии
+    private static final int SESSION_MAP_NONE = 0;
+    private static final int SESSION_MAP_SAME_AS_LEVEL = 1;
+    private static final int SESSION_MAP_OWN = 2;
+
+    @Override
+    public byte[] encode(GameState state) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(2048);
+        DataOutputStream header = new DataOutputStream(bytes);
+        header.writeInt(MAGIC);
+        header.writeShort(VERSION);
+        header.flush();
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        DeflaterOutputStream deflated = new DeflaterOutputStream(bytes, deflater);
+        DataOutputStream out = new DataOutputStream(deflated);
+        writeString(out, state.getTimestamp());
+
+        int flags = 0;
+        if (state.getPlayerState() != null) flags |= HAS_PLAYER;
+        if (state.getLevelState() != null) flags |= HAS_LEVEL;
+        if (state.getSessionStat() != null) flags |= HAS_STATS;
+        if (state.getGameSessionState() != null) flags |= HAS_SESSION;
+        if (state.getFogOfWarState() != null) flags |= HAS_FOG;
+        out.writeByte(flags);
+
+        if (state.getPlayerState() != null) writePlayer(out, state.getPlayerState());
+        if (state.getLevelState() != null) writeLevel(out, state.getLevelState());
+        if (state.getSessionStat() != null) writeStats(out, state.getSessionStat());
+        if (state.getGameSessionState() != null) writeSession(out, state.getGameSessionState(), state.getLevelState());
+        if (state.getFogOfWarState() != null) writeFog(out, state.getFogOfWarState());
+        out.flush();
+        deflated.finish();
+        deflater.end();
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        header.writeInt((int) crc.getValue());
+        header.flush();
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public GameState decode(byte[] data) throws IOException {
+        if (data.length < 10) {
+            throw new IOException("Save file is too short");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - 4);
+        int storedCrc = ((data[data.length - 4] & 0xFF) << 24) | ((data[data.length - 3] & 0xFF) << 16)
+                | ((data[data.length - 2] & 0xFF) << 8) | (data[data.length - 1] & 0xFF);
+        if ((int) crc.getValue() != storedCrc) {
+            throw new IOException("Save file checksum mismatch");
+        }
+
+        DataInputStream header = new DataInputStream(new ByteArrayInputStream(data, 0, 6));
+        if (header.readInt() != MAGIC) {
+            throw new IOException("Not a binary save file");
+        }
+        int version = header.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary save version: " + version);
+        }
+
+        Inflater inflater = new Inflater();
+        DataInputStream in = new DataInputStream(new InflaterInputStream(
+                new ByteArrayInputStream(data, 6, data.length - 10), inflater));
+        try {
+            return readBody(in);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private GameState readBody(DataInputStream in) throws IOException {
+        GameState state = new GameState(readString(in));
+        int flags = in.readUnsignedByte();
+        if ((flags & HAS_PLAYER) != 0) state.setPlayerState(readPlayer(in));
+        if ((flags & HAS_LEVEL) != 0) state.setLevelState(readLevel(in));
+        if ((flags & HAS_STATS) != 0) state.setSessionStat(readStats(in));
+        if ((flags & HAS_SESSION) != 0) state.setGameSessionState(readSession(in, state.getLevelState()));
+        if ((flags & HAS_FOG) != 0) state.setFogOfWarState(readFog(in));
+        return state;
+    }
+
+    // ==================== ИГРОК ====================
+
+    private void writePlayer(DataOutputStream out, GameState.PlayerState player) throws IOException {
+        out.writeInt(player.getMaxHealth());
+        out.writeInt(player.getHealth());
+        out.writeInt(player.getAgility());
+        out.writeInt(player.getStrength());
+        out.writeShort(player.getPositionX());
+        out.writeShort(player.getPositionY());
+        out.writeInt(player.getSleepTurns());
+        writeItems(out, player.getInventoryItems());
+        out.writeBoolean(player.getEquippedWeapon() != null);
+        if (player.getEquippedWeapon() != null) {
+            writeItem(out, player.getEquippedWeapon());
+        }
+    }
+
+    private GameState.PlayerState readPlayer(DataInputStream in) throws IOException {
+        GameState.PlayerState player = new GameState.PlayerState();
+        player.setMaxHealth(in.readInt());
+        player.setHealth(in.readInt());
+        player.setAgility(in.readInt());
+        player.setStrength(in.readInt());
+        player.setPositionX(in.readShort());
+        player.setPositionY(in.readShort());
+        player.setSleepTurns(in.readInt());
+        player.setInventoryItems(readItems(in));
+        if (in.readBoolean()) {
+            player.setEquippedWeapon(readItem(in));
+        }
+        return player;
+    }
+
+    // ==================== УРОВЕНЬ ====================
+
+    private void writeLevel(DataOutputStream out, GameState.LevelState level) throws IOException {
+        out.writeInt(level.getLevelNumber());
+        writeMap(out, level.getAsciiMap());
+        writeItems(out, level.getItems());
+
+        List<Enemy> enemies = level.getEnemies() != null ? level.getEnemies() : List.of();
+        out.writeShort(enemies.size());
+        for (Enemy enemy : enemies) {
+            out.writeChar(enemy.getType());
+            out.writeInt(enemy.getHealth());
+            out.writeInt(enemy.getAgility());
+            out.writeInt(enemy.getStrength());
+            out.writeInt(enemy.getHostility());
+            out.writeShort(enemy.getColor());
+            out.writeInt(enemy.getSpecialAbility());
+            out.writeBoolean(enemy.isInvisible());
+            out.writeInt(enemy.getRestTurns());
+            out.writeShort(enemy.getX());
+            out.writeShort(enemy.getY());
+            out.writeByte(enemy.getDiagX());
+            out.writeByte(enemy.getDiagY());
+        }
+
+        writeRooms(out, level.getRooms());
+    }
+
+    private GameState.LevelState readLevel(DataInputStream in) throws IOException {
+        GameState.LevelState level = new GameState.LevelState();
+        level.setLevelNumber(in.readInt());
+        level.setAsciiMap(readMap(in));
+        level.setItems(readItems(in));
+
+        int enemyCount = in.readUnsignedShort();
+        List<Enemy> enemies = new ArrayList<>(enemyCount);
+        for (int i = 0; i < enemyCount; i++) {
+            char type = in.readChar();
+            int health = in.readInt();
+            int agility = in.readInt();
+            int strength = in.readInt();
+            int hostility = in.readInt();
+            short color = in.readShort();
+            int specialAbility = in.readInt();
+            boolean invisible = in.readBoolean();
+            int restTurns = in.readInt();
+            Enemy enemy = new Enemy(type, health, agility, strength, hostility,
+                    color, specialAbility, invisible, restTurns);
+            enemy.setX(in.readShort());
+            enemy.setY(in.readShort());
+            enemy.setDiagX(in.readByte());
+            enemy.setDiagY(in.readByte());
+            enemies.add(enemy);
+        }
+        level.setEnemies(enemies);
+
+        level.setRooms(readRooms(in));
+        return level;
+    }
+
+    // ==================== СТАТИСТИКА И СЕССИЯ ====================
+
+    private void writeStats(DataOutputStream out, SessionStat stat) throws IOException {
+        out.writeInt(stat.getTreasures());
+        out.writeInt(stat.getLevelNum());
+        out.writeInt(stat.getEnemies());
+        out.writeInt(stat.getFood());
+        out.writeInt(stat.getElixirs());
+        out.writeInt(stat.getScrolls());
+        out.writeInt(stat.getAttacks());
+        out.writeInt(stat.getMissed());
+        out.writeInt(stat.getMoves());
+    }
+
+    private SessionStat readStats(DataInputStream in) throws IOException {
+        return new SessionStat(in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt(),
+                in.readInt(), in.readInt(), in.readInt(), in.readInt());
+    }
+
+    private void writeSession(DataOutputStream out, GameState.GameSessionState session,
+                              GameState.LevelState level) throws IOException {
+        char[][] map = session.getCurrentMap();
+        char[][] levelMap = level != null ? level.getAsciiMap() : null;
+        if (map == null) {
+            out.writeByte(SESSION_MAP_NONE);
+        } else if (map == levelMap || Arrays.deepEquals(map, levelMap)) {
+            // Карта сессии обычно совпадает с картой уровня - не дублируем ее
+            out.writeByte(SESSION_MAP_SAME_AS_LEVEL);
+        } else {
+            out.writeByte(SESSION_MAP_OWN);
+            writeMap(out, map);
+        }
+    }
+
+    private GameState.GameSessionState readSession(DataInputStream in, GameState.LevelState level) throws IOException {
+        GameState.GameSessionState session = new GameState.GameSessionState();
+        int kind = in.readUnsignedByte();
+        if (kind == SESSION_MAP_SAME_AS_LEVEL && level != null) {
+            session.setCurrentMap(level.getAsciiMap());
+        } else if (kind == SESSION_MAP_OWN) {
+            session.setCurrentMap(readMap(in));
+        }
+        return session;
+    }
+
+    // ==================== ТУМАН ВОЙНЫ ====================
+
+    private void writeFog(DataOutputStream out, GameState.FogOfWarState fog) throws IOException {
+        List<Position> cells = fog.getExploredCells() != null ? fog.getExploredCells() : List.of();
+        int width = 0;
+        int height = 0;
+        for (Position pos : cells) {
+            width = Math.max(width, pos.getX() + 1);
+            height = Math.max(height, pos.getY() + 1);
+        }
+
+        long[] words = new long[(width * height + 63) >>> 6];
+        for (Position pos : cells) {
+            int bit = pos.getY() * width + pos.getX();
+            words[bit >>> 6] |= 1L << bit;
+        }
+
+        out.writeShort(width);
+        out.writeShort(height);
+        for (long word : words) {
+            out.writeLong(word);
+        }
+        writeRooms(out, fog.getExploredRooms());
+    }
+
+    private GameState.FogOfWarState readFog(DataInputStream in) throws IOException {
+        int width = in.readUnsignedShort();
+        int height = in.readUnsignedShort();
+        List<Position> cells = new ArrayList<>();
+        int wordCount = (width * height + 63) >>> 6;
+        for (int w = 0; w < wordCount; w++) {
+            long word = in.readLong();
+            while (word != 0) {
+                int bit = (w << 6) + Long.numberOfTrailingZeros(word);
+                cells.add(new Position(bit % width, bit / width));
+                word &= word - 1;
+            }
+        }
+
+        GameState.FogOfWarState fog = new GameState.FogOfWarState();
+        fog.setExploredCells(cells);
+        fog.setExploredRooms(readRooms(in));
+        return fog;
+    }
+
+    // ==================== ОБЩИЕ ЗАПИСИ ====================
+
+    /**
+     * Карта: размеры, палитра встречающихся символов и по одному байту-индексу на клетку.
+     */
+    private void writeMap(DataOutputStream out, char[][] map) throws IOException {
+        if (map == null) {
+            out.writeShort(0);
+            out.writeShort(0);
+            return;
+        }
+        int height = map.length;
+        int width = height > 0 ? map[0].length : 0;
+        out.writeShort(height);
+        out.writeShort(width);
+
+        char[] palette = new char[256];
+        int paletteSize = 0;
+        byte[] cells = new byte[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                char c = map[y][x];
+                int index = 0;
+                while (index < paletteSize && palette[index] != c) index++;
+                if (index == paletteSize) {
+                    if (paletteSize == palette.length) {
+                        throw new IOException("Map has too many distinct symbols");
+                    }
+                    palette[paletteSize++] = c;
+                }
+                cells[y * width + x] = (byte) index;
+            }
+        }
+
+        out.writeShort(paletteSize);
+        for (int i = 0; i < paletteSize; i++) {
+            out.writeChar(palette[i]);
+        }
+        out.write(cells);
+    }
+
+    private char[][] readMap(DataInputStream in) throws IOException {
+        int height = in.readUnsignedShort();
+        int width = in.readUnsignedShort();
+        if (height == 0) return null;
+
+        char[] palette = new char[in.readUnsignedShort()];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = in.readChar();
+        }
+
+        byte[] cells = new byte[width * height];
+        in.readFully(cells);
+        char[][] map = new char[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                map[y][x] = palette[cells[y * width + x] & 0xFF];
+            }
+        }
+        return map;
+    }
+
+    private void writeItems(DataOutputStream out, List<Item> items) throws IOException {
+        if (items == null) items = List.of();
+        out.writeShort(items.size());
+        for (Item item : items) {
+            writeItem(out, item);
+        }
+    }
+
+    private List<Item> readItems(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(readItem(in));
+        }
+        return items;
+    }
+
+    private void writeItem(DataOutputStream out, Item item) throws IOException {
+        writeString(out, item.getType());
+        writeString(out, item.getSubType());
+        out.writeInt(item.getHealth());
+        out.writeInt(item.getMaxHealth());
+        out.writeInt(item.getAgility());
+        out.writeInt(item.getStrength());
+        out.writeInt(item.getValue());
+        out.writeShort(item.getX());
+        out.writeShort(item.getY());
+    }
+
+    private Item readItem(DataInputStream in) throws IOException {
+        Item item = new Item(readString(in), readString(in),
+                in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt());
+        item.setPosition(in.readShort(), in.readShort());
+        return item;
+    }
+
+    private void writeRooms(DataOutputStream out, List<Room> rooms) throws IOException {
+        if (rooms == null) rooms = List.of();
+        out.writeShort(rooms.size());
+        for (Room room : rooms) {
+            out.writeShort(room.getId());
+            out.writeShort(room.getX1());
+            out.writeShort(room.getY1());
+            out.writeShort(room.getWidth());
+            out.writeShort(room.getHeight());
+            out.writeByte((room.isStartRoom() ? 1 : 0) | (room.isExitRoom() ? 2 : 0));
+        }
+    }
+
+    private List<Room> readRooms(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        List<Room> rooms = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Room room = new Room(in.readShort(), in.readShort(), in.readShort(), in.readShort(), in.readShort());
+            int roomFlags = in.readUnsignedByte();
+            room.setStartRoom((roomFlags & 1) != 0);
+            room.setExitRoom((roomFlags & 2) != 0);
+            rooms.add(room);
+        }
+        return rooms;
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.datalayer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.domain.enums.SaveFormat;
+
+import java.io.IOException;
+
+/**
+ * Преобразование GameState в байты файла сохранения и обратно.
+ */
+public interface GameStateCodec {
+
+    byte[] encode(GameState gameState) throws IOException;
+
+    GameState decode(byte[] data) throws IOException;
+
+    /**
+     * Возвращает кодек для указанного формата сохранения.
+     */
+    static GameStateCodec forFormat(SaveFormat format) {
+        return switch (format) {
+            case JSON -> new JsonCodec();
+            case BINARY -> new GameStateBinaryCodec();
+        };
+    }
+
+    /**
+     * JSON-формат (исходный формат сохранений).
+     */
+    final class JsonCodec implements GameStateCodec {
+        private final ObjectMapper objectMapper;
+
+        public JsonCodec() {
+            this.objectMapper = new ObjectMapper();
+            this.objectMapper.registerModule(new JavaTimeModule());
+            this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        }
+
+        @Override
+        public byte[] encode(GameState gameState) throws IOException {
+            return objectMapper.writeValueAsBytes(gameState);
+        }
+
+        @Override
+        public GameState decode(byte[] data) throws IOException {
+            return objectMapper.readValue(data, GameState.class);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.datalayer;
+
+import org.example.domain.entity.GameSession;
+import org.example.domain.entity.SessionStat;
+import org.example.domain.interfaces.ISessionStatRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Репозиторий статистики в памяти, без обращений к диску.
+ * Используется безголовыми прогонами: результаты партий накапливаются
+ * в списке и доступны через {@link #getAllStats()} для анализа баланса.
+ */
+public class InMemorySessionStatRepository implements ISessionStatRepository {
+
+    private final List<SessionStat> results = new ArrayList<>();
+    private SessionStat current = new SessionStat();
+
+    @Override
+    public synchronized void save(SessionStat sessionStat) {
+        current = sessionStat;
+    }
+
+    @Override
+    public synchronized void addToScoreboard(SessionStat sessionStat, GameSession gameSession) {
+        SessionStat result = sessionStat.copy();
+        if (gameSession != null && gameSession.getPlayer() != null) {
+            result.setTreasures(gameSession.getPlayer().getInventory().getTreasureValue());
+        }
+        results.add(result);
+    }
+
+    @Override
+    public synchronized void reset(SessionStat sessionStat) {
+        sessionStat.reset();
+        current = sessionStat;
+    }
+
+    /**
+     * Возвращает результаты всех завершенных партий (по убыванию рейтинга).
+     */
+    @Override
+    public synchronized List<SessionStat> getAllStats() {
+        List<SessionStat> sorted = new ArrayList<>(results);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    @Override
+    public void flush() {
+        // Записывать нечего
+    }
+
+    /**
+     * @return число завершенных партий (смертью или победой)
+     */
+    public synchronized int size() {
+        return results.size();
+    }
+
+    public synchronized SessionStat getCurrent() {
+        return current;
+    }
+}
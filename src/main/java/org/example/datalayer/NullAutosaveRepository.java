@@ -0,0 +1,64 @@
+package org.example.datalayer;
+
+import org.example.domain.enums.SaveFormat;
+import org.example.domain.interfaces.IAutosaveRepository;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Репозиторий автосохранений, который ничего не сохраняет.
+ * Используется безголовыми прогонами, чтобы партии не трогали сохранения игрока.
+ */
+public class NullAutosaveRepository implements IAutosaveRepository {
+
+    private SaveFormat saveFormat = SaveFormat.BINARY;
+
+    @Override
+    public boolean save(GameState gameState) {
+        return true;
+    }
+
+    @Override
+    public GameState loadLatest() {
+        return null;
+    }
+
+    @Override
+    public GameState load(int slotIndex) {
+        return null;
+    }
+
+    @Override
+    public List<String> getSaveInfo() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<SaveSlotMetadata> getSaveSlotMetadata() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void cleanupOldSaves() {
+    }
+
+    @Override
+    public boolean hasSaves() {
+        return false;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public SaveFormat getSaveFormat() {
+        return saveFormat;
+    }
+
+    @Override
+    public void setSaveFormat(SaveFormat saveFormat) {
+        this.saveFormat = saveFormat;
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.datalayer;
+
+import org.example.domain.enums.SaveFormat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.example.config.GameConstants.PathToFiles.AUTOSAVE_DIR;
+import static org.example.config.GameConstants.PathToFiles.AUTOSAVE_PREFIX;
+
+/**
+ * Конвертер файлов сохранения между форматами (JSON и бинарный).
+ * Запуск: SaveFormatConverter &lt;json|binary&gt; [файлы...];
+ * без списка файлов конвертируются все автосохранения.
+ */
+public final class SaveFormatConverter {
+
+    private SaveFormatConverter() {
+    }
+
+    /**
+     * Конвертирует файл сохранения в указанный формат. Исходный файл удаляется
+     * только после успешной записи нового.
+     *
+     * @return путь к новому файлу (или исходный путь, если формат уже совпадает)
+     */
+    public static Path convert(Path source, SaveFormat target) throws IOException {
+        SaveFormat sourceFormat = SaveFormat.fromFileName(source.getFileName().toString());
+        if (sourceFormat == null) {
+            throw new IOException("Unknown save format: " + source.getFileName());
+        }
+        if (sourceFormat == target) {
+            return source;
+        }
+
+        String name = source.getFileName().toString();
+        String baseName = name.substring(0, name.length() - sourceFormat.getExtension().length());
+        Path destination = source.resolveSibling(baseName + target.getExtension());
+
+        GameState gameState = AutosaveRepository.readState(source);
+        AutosaveRepository.writeState(gameState, destination, target);
+        Files.delete(source);
+        return destination;
+    }
+
+    /**
+     * Конвертирует все автосохранения в указанный формат.
+     *
+     * @return число сконвертированных файлов
+     */
+    public static int convertAll(SaveFormat target) {
+        File[] files = new File(AUTOSAVE_DIR).listFiles((d, name) ->
+                name.startsWith(AUTOSAVE_PREFIX) && SaveFormat.fromFileName(name) != null);
+        if (files == null) return 0;
+
+        int converted = 0;
+        for (File file : files) {
+            try {
+                if (!convert(file.toPath(), target).equals(file.toPath())) {
+                    converted++;
+                }
+            } catch (IOException e) {
+                System.err.println("Failed to convert " + file.getName() + ": " + e.getMessage());
+            }
+        }
+        return converted;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: SaveFormatConverter <json|binary> [files...]");
+            return;
+        }
+
+        SaveFormat target = SaveFormat.valueOf(args[0].toUpperCase());
+        if (args.length == 1) {
+            System.out.println("Converted " + convertAll(target) + " save(s) to " + target);
+            return;
+        }
+        for (int i = 1; i < args.length; i++) {
+            System.out.println(convert(Paths.get(args[i]), target));
+        }
+    }
+}
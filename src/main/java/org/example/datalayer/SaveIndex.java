@@ -0,0 +1,121 @@
+package org.example.datalayer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Индекс сохранений: небольшой файл со сведениями о каждом сохранении
+ * (время, уровень, сокровища, размер, контрольная сумма).
+ * Обновляется при сохранении и удалении старых файлов; записи, которых нет
+ * в индексе или размер которых не совпадает с файлом, строятся заново чтением файла.
+ */
+public class SaveIndex {
+
+    /**
+     * Построение записи индекса по файлу сохранения (полное чтение файла).
+     */
+    public interface MetadataReader {
+        SaveSlotMetadata read(File file) throws IOException;
+    }
+
+    private final Path indexPath;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Map<String, SaveSlotMetadata> entries = null; // загружается лениво
+
+    public SaveIndex(Path indexPath) {
+        this.indexPath = indexPath;
+    }
+
+    public synchronized SaveSlotMetadata get(String fileName) {
+        ensureLoaded();
+        return entries.get(fileName);
+    }
+
+    public synchronized void put(SaveSlotMetadata metadata) {
+        ensureLoaded();
+        entries.put(metadata.fileName(), metadata);
+        store();
+    }
+
+    public synchronized void remove(String fileName) {
+        ensureLoaded();
+        if (entries.remove(fileName) != null) {
+            store();
+        }
+    }
+
+    /**
+     * Возвращает сведения о файлах в переданном порядке. Устаревшие и недостающие
+     * записи перестраиваются, записи удаленных файлов выбрасываются.
+     * Файлы, которые не удалось прочитать, пропускаются.
+     */
+    public synchronized List<SaveSlotMetadata> list(List<File> files, MetadataReader reader) {
+        ensureLoaded();
+        boolean changed = false;
+
+        Map<String, SaveSlotMetadata> actual = new LinkedHashMap<>();
+        List<SaveSlotMetadata> result = new ArrayList<>(files.size());
+        for (File file : files) {
+            SaveSlotMetadata metadata = entries.get(file.getName());
+            if (metadata == null || metadata.fileSize() != file.length()) {
+                try {
+                    metadata = reader.read(file);
+                } catch (IOException e) {
+                    System.err.println("Failed to index save " + file.getName() + ": " + e.getMessage());
+                    continue;
+                }
+                changed = true;
+            }
+            actual.put(file.getName(), metadata);
+            result.add(metadata);
+        }
+
+        if (changed || actual.size() != entries.size()) {
+            entries = actual;
+            store();
+        }
+        return result;
+    }
+
+    private void ensureLoaded() {
+        if (entries != null) return;
+
+        entries = new LinkedHashMap<>();
+        if (!Files.exists(indexPath)) return;
+        try {
+            List<SaveSlotMetadata> stored = objectMapper.readValue(indexPath.toFile(),
+                    new TypeReference<List<SaveSlotMetadata>>() {});
+            for (SaveSlotMetadata metadata : stored) {
+                entries.put(metadata.fileName(), metadata);
+            }
+        } catch (IOException e) {
+            // Поврежденный индекс просто перестраивается по файлам
+            System.err.println("Failed to read save index: " + e.getMessage());
+        }
+    }
+
+    private void store() {
+        try {
+            Path temp = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+            objectMapper.writeValue(temp.toFile(), new ArrayList<>(entries.values()));
+            try {
+                Files.move(temp, indexPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, indexPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to write save index: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.datalayer;
+
+import org.example.domain.entity.Item;
+
+import java.util.zip.CRC32;
+
+/**
+ * Краткие сведения о файле сохранения для меню загрузки.
+ * Хранятся в индексе сохранений, чтобы не разбирать каждый файл целиком.
+ *
+ * @param fileName    имя файла сохранения
+ * @param timestamp   время сохранения (как в GameState)
+ * @param levelNumber номер уровня
+ * @param treasure    стоимость сокровищ игрока
+ * @param fileSize    размер файла в байтах
+ * @param checksum    CRC32 содержимого файла
+ */
+public record SaveSlotMetadata(String fileName, String timestamp, int levelNumber,
+                               int treasure, long fileSize, long checksum) {
+
+    /**
+     * Собирает сведения по состоянию игры и байтам записанного файла.
+     */
+    public static SaveSlotMetadata of(String fileName, GameState gameState, byte[] data) {
+        int level = gameState.getLevelState() != null ? gameState.getLevelState().getLevelNumber() : 0;
+
+        int treasure = 0;
+        if (gameState.getPlayerState() != null && gameState.getPlayerState().getInventoryItems() != null) {
+            for (Item item : gameState.getPlayerState().getInventoryItems()) {
+                if ("treasure".equalsIgnoreCase(item.getType())) {
+                    treasure += item.getValue();
+                }
+            }
+        }
+
+        return new SaveSlotMetadata(fileName, gameState.getTimestamp(), level, treasure,
+                data.length, checksum(data));
+    }
+
+    public static long checksum(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return crc.getValue();
+    }
+}
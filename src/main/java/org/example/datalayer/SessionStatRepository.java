@@ -2,7 +2,6 @@ package org.example.datalayer;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.example.config.GameConstants;
 import org.example.domain.entity.GameSession;
@@ -10,40 +9,159 @@ import org.example.domain.entity.Inventory;
 import org.example.domain.entity.Player;
 import org.example.domain.entity.SessionStat;
 import org.example.domain.enums.ItemType;
+import org.example.domain.events.StatisticsSaveEvent;
 import org.example.domain.interfaces.ISessionStatRepository;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.BiConsumer;
 
+/**
+ * Репозиторий статистики и таблицы рекордов.
+ * Таблица рекордов хранится как журнал только для дозаписи (scoreboard.log, одна
+ * JSON-запись на строку) и небольшой индекс лучших N результатов (scoreboard_top.json).
+ * Добавление результата - дозапись одной строки и перезапись индекса из N записей;
+ * экран рекордов читает только индекс, полная история читается потоком из журнала.
+ * Периодическая компактизация убирает из журнала оборванные строки и перестраивает индекс.
+ * <p>
+ * Таблицу могут делить несколько процессов: журнал и индекс меняются только под
+ * блокировкой файла scoreboard.lock, а индекс перечитывается с диска перед каждым изменением.
+ */
 public class SessionStatRepository implements ISessionStatRepository {
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    private final Path statisticsPath;
+    private final Path legacyScoreboardPath;
+    private final Path logPath;
+    private final Path indexPath;
+    private final Path migrationMarkerPath;
+    private final Path lockPath;
+
+    // Индекс таблицы рекордов, прочитанный под блокировкой для текущей операции
+    private List<SessionStat> topStats = new ArrayList<>();
+    private long totalRecords;
+    private int appendsSinceCompaction;
+
+    public SessionStatRepository() {
+        this(Paths.get(GameConstants.PathToFiles.DATA_DIR));
+    }
+
+    /**
+     * Репозиторий с файлами статистики и рекордов в указанном каталоге (имена файлов - как в GameConstants).
+     */
+    public SessionStatRepository(Path dataDir) {
+        this.statisticsPath = dataDir.resolve(fileName(GameConstants.PathToFiles.STATISTICS_PATH));
+        this.legacyScoreboardPath = dataDir.resolve(fileName(GameConstants.PathToFiles.SCOREBOARD_PATH));
+        this.logPath = dataDir.resolve(fileName(GameConstants.PathToFiles.SCOREBOARD_LOG_PATH));
+        this.indexPath = dataDir.resolve(fileName(GameConstants.PathToFiles.SCOREBOARD_INDEX_PATH));
+        this.migrationMarkerPath = dataDir.resolve(fileName(GameConstants.PathToFiles.SCOREBOARD_MIGRATION_MARKER_PATH));
+        this.lockPath = dataDir.resolve(fileName(GameConstants.PathToFiles.SCOREBOARD_LOCK_PATH));
+    }
+
+    /**
+     * Записывает статистику во временный файл и атомарно заменяет им основной,
+     * поэтому при сбое на диске остается либо старая, либо новая версия файла.
+     */
     @Override
     public void save(SessionStat sessionStat) throws IOException {
-        File statsFile = new File(GameConstants.PathToFiles.STATISTICS_PATH);
+        StatisticsSaveEvent event = new StatisticsSaveEvent();
+        event.begin();
+
+        File statsFile = statisticsPath.toFile();
         createParentDirectoryIfNeeded(statsFile);
-        objectMapper.writerWithDefaultPrettyPrinter().writeValue(statsFile, sessionStat);
+
+        Path target = statsFile.toPath();
+        Path temp = target.resolveSibling(statsFile.getName() + ".tmp");
+        byte[] data = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(sessionStat);
+        Files.write(temp, data);
+        moveAtomically(temp, target);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.levelNumber = sessionStat.getLevelNum();
+            event.bytesWritten = data.length;
+            event.commit();
+        }
     }
 
     @Override
-    public void addToScoreboard(SessionStat sessionStat, GameSession gameSession) throws IOException {
-        File scoreboardFile = new File(GameConstants.PathToFiles.SCOREBOARD_PATH);
-        createScoreboardFileIfNeeded(scoreboardFile);
+    public void flush() {
+        // Запись синхронная, буферизации нет
+    }
+
+    /**
+     * Дописывает результат в журнал рекордов и обновляет индекс лучших результатов.
+     * Индекс перечитывается под блокировкой, поэтому результаты других процессов не теряются.
+     */
+    @Override
+    public synchronized void addToScoreboard(SessionStat sessionStat, GameSession gameSession) throws IOException {
+        try (FileChannel lock = openScoreboardLock()) {
+            lock.lock();
+            loadScoreboard();
+
+            ObjectNode sessionStatJson = createSessionStatJson(sessionStat, gameSession);
+            appendToLog(List.of(objectMapper.writeValueAsString(sessionStatJson)));
+
+            totalRecords++;
+            appendsSinceCompaction++;
+            insertTop(objectMapper.treeToValue(sessionStatJson, SessionStat.class));
 
-        JsonNode allStatJson = objectMapper.readTree(scoreboardFile);
-        if (!allStatJson.isObject()) {
-            throw new IllegalStateException("scoreboard.json должен быть JSON-объектом");
+            if (appendsSinceCompaction >= GameConstants.PathToFiles.SCOREBOARD_COMPACT_EVERY) {
+                compact();
+            } else {
+                writeScoreboardIndex();
+            }
         }
+    }
+
+    /**
+     * Перечитывает журнал, отбрасывает поврежденные строки (например, оборванную
+     * при сбое последнюю запись), атомарно перезаписывает журнал и перестраивает индекс.
+     */
+    public synchronized void compactScoreboard() throws IOException {
+        try (FileChannel lock = openScoreboardLock()) {
+            lock.lock();
+            compact();
+        }
+    }
 
-        ObjectNode rootObject = (ObjectNode) allStatJson;
-        ArrayNode sessionStatsArray = getOrCreateSessionStatsArray(rootObject);
-        ObjectNode sessionStatJson = createSessionStatJson(sessionStat, gameSession);
+    private void compact() throws IOException {
+        List<String> validLines = new ArrayList<>();
+        List<SessionStat> top = new ArrayList<>();
 
-        sessionStatsArray.add(sessionStatJson);
-        objectMapper.writerWithDefaultPrettyPrinter().writeValue(scoreboardFile, rootObject);
+        boolean dropped = readLog((line, stat) -> {
+            validLines.add(line);
+            top.add(stat);
+            if (top.size() > GameConstants.PathToFiles.SCOREBOARD_TOP_N * 2) {
+                trimTop(top);
+            }
+        });
+
+        if (dropped) {
+            Path temp = logPath.resolveSibling(logPath.getFileName() + ".tmp");
+            Files.write(temp, validLines, StandardCharsets.UTF_8);
+            moveAtomically(temp, logPath);
+        }
+
+        trimTop(top);
+        topStats = top;
+        totalRecords = validLines.size();
+        appendsSinceCompaction = 0;
+        writeScoreboardIndex();
     }
 
     @Override
@@ -52,32 +170,42 @@ public class SessionStatRepository implements ISessionStatRepository {
         save(sessionStat);
     }
 
+    /**
+     * Возвращает все результаты из журнала (по убыванию рейтинга).
+     * Журнал читается потоком построчно; поврежденные строки пропускаются.
+     */
     @Override
-    public List<SessionStat> getAllStats() {
+    public synchronized List<SessionStat> getAllStats() {
         List<SessionStat> stats = new ArrayList<>();
-        ObjectMapper mapper = new ObjectMapper();
-
-        try {
-            File file = new File(GameConstants.PathToFiles.SCOREBOARD_PATH);
-            if (!file.exists()) {
-                return stats;
-            }
-
-            JsonNode root = mapper.readTree(file);
-            JsonNode sessionNode = root.get("sessionStats");
-
-            if (sessionNode != null && sessionNode.isArray()) {
-                SessionStat[] statArray = mapper.treeToValue(sessionNode, SessionStat[].class);
-                stats = Arrays.asList(statArray);
-            }
+        try (FileChannel lock = openScoreboardLock()) {
+            lock.lock();
+            migrateLegacyScoreboard();
+            readLog((line, stat) -> stats.add(stat));
         } catch (IOException e) {
             System.err.println("Error loading scoreboard: " + e.getMessage());
             e.printStackTrace();
+            return new ArrayList<>();
         }
-
+        Collections.sort(stats);
         return stats;
     }
 
+    /**
+     * Возвращает лучшие результаты из индекса (по убыванию рейтинга), журнал не читается.
+     */
+    @Override
+    public synchronized List<SessionStat> getTopStats() {
+        try (FileChannel lock = openScoreboardLock()) {
+            lock.lock();
+            loadScoreboard();
+        } catch (IOException e) {
+            System.err.println("Error loading scoreboard: " + e.getMessage());
+            e.printStackTrace();
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(topStats);
+    }
+
     // Приватные вспомогательные методы
 
     private ObjectNode createSessionStatJson(SessionStat sessionStat, GameSession gameSession) {
@@ -115,22 +243,181 @@ public class SessionStatRepository implements ISessionStatRepository {
         }
     }
 
-    private void createScoreboardFileIfNeeded(File scoreboardFile) throws IOException {
-        if (!scoreboardFile.exists()) {
-            ObjectNode root = objectMapper.createObjectNode();
-            root.set("sessionStats", objectMapper.createArrayNode());
-            objectMapper.writerWithDefaultPrettyPrinter().writeValue(scoreboardFile, root);
+    /**
+     * Открывает файл блокировки таблицы рекордов: блокировка между процессами берется
+     * lock() и снимается закрытием канала.
+     */
+    private FileChannel openScoreboardLock() throws IOException {
+        createParentDirectoryIfNeeded(lockPath.toFile());
+        return FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Читает индекс рекордов с диска (вызывается под блокировкой). При первом запуске переносит
+     * старый scoreboard.json в журнал; если индекса нет или он поврежден, строит его компактизацией журнала.
+     */
+    private void loadScoreboard() throws IOException {
+        migrateLegacyScoreboard();
+
+        File indexFile = indexPath.toFile();
+        if (indexFile.exists()) {
+            try {
+                JsonNode root = objectMapper.readTree(indexFile);
+                SessionStat[] top = objectMapper.treeToValue(root.get("top"), SessionStat[].class);
+                topStats = new ArrayList<>(Arrays.asList(top));
+                totalRecords = root.path("totalRecords").asLong();
+                appendsSinceCompaction = root.path("appendsSinceCompaction").asInt();
+                return;
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Scoreboard index is corrupted, rebuilding: " + e.getMessage());
+            }
         }
+        compact();
     }
 
-    private ArrayNode getOrCreateSessionStatsArray(ObjectNode rootObject) {
-        JsonNode sessionNode = rootObject.get("sessionStats");
-        if (sessionNode != null && sessionNode.isArray()) {
-            return (ArrayNode) sessionNode;
+    /**
+     * Переносит записи из старого формата (один JSON-файл со всеми результатами) в журнал.
+     * Старый файл сохраняется с суффиксом .migrated.
+     * <p>
+     * Перед дозаписью создается маркер с длиной журнала до переноса. Если перенос прервался,
+     * при следующем запуске журнал обрезается до этой длины и перенос повторяется,
+     * поэтому записи старого файла не дублируются.
+     */
+    private void migrateLegacyScoreboard() throws IOException {
+        File legacyFile = legacyScoreboardPath.toFile();
+        Path markerPath = migrationMarkerPath;
+
+        if (Files.exists(markerPath)) {
+            if (!legacyFile.exists()) {
+                // Перенос завершен, не успели удалить только маркер
+                Files.delete(markerPath);
+                return;
+            }
+            long logLength = Long.parseLong(Files.readString(markerPath, StandardCharsets.UTF_8).trim());
+            truncateLog(logPath, logLength);
         } else {
-            ArrayNode arraySessions = objectMapper.createArrayNode();
-            rootObject.set("sessionStats", arraySessions);
-            return arraySessions;
+            if (!legacyFile.exists()) return;
+            long logLength = Files.exists(logPath) ? Files.size(logPath) : 0;
+            Path temp = markerPath.resolveSibling(markerPath.getFileName() + ".tmp");
+            Files.writeString(temp, Long.toString(logLength), StandardCharsets.UTF_8);
+            moveAtomically(temp, markerPath);
+        }
+
+        JsonNode sessionNode = objectMapper.readTree(legacyFile).get("sessionStats");
+        List<String> lines = new ArrayList<>();
+        if (sessionNode != null && sessionNode.isArray()) {
+            for (JsonNode node : sessionNode) {
+                lines.add(objectMapper.writeValueAsString(node));
+            }
+        }
+        appendToLog(lines);
+
+        Path legacyPath = legacyFile.toPath();
+        moveAtomically(legacyPath, legacyPath.resolveSibling(legacyFile.getName() + ".migrated"));
+
+        // Индекс будет перестроен по журналу
+        Files.deleteIfExists(indexPath);
+        Files.delete(markerPath);
+    }
+
+    /**
+     * Отбрасывает записи, дописанные в журнал после указанной длины.
+     */
+    private static void truncateLog(Path logPath, long length) throws IOException {
+        if (!Files.exists(logPath)) return;
+        try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.WRITE)) {
+            if (channel.size() > length) {
+                channel.truncate(length);
+            }
+        }
+    }
+
+    /**
+     * Читает журнал построчно и передает visitor каждую корректную запись.
+     *
+     * @return true, если в журнале были поврежденные строки
+     */
+    private boolean readLog(BiConsumer<String, SessionStat> visitor) throws IOException {
+        if (!Files.exists(logPath)) return false;
+
+        boolean dropped = false;
+        try (BufferedReader reader = Files.newBufferedReader(logPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                SessionStat stat;
+                try {
+                    stat = objectMapper.readValue(line, SessionStat.class);
+                } catch (IOException e) {
+                    dropped = true;
+                    continue;
+                }
+                visitor.accept(line, stat);
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * Дописывает строки в журнал. Если журнал оборван на середине строки (сбой во время
+     * прошлой дозаписи), сначала дописывается перевод строки: оборванный хвост остается
+     * отдельной поврежденной строкой и не склеивается с новой записью.
+     */
+    private void appendToLog(List<String> lines) throws IOException {
+        createParentDirectoryIfNeeded(logPath.toFile());
+        try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (size > 0) {
+                ByteBuffer last = ByteBuffer.allocate(1);
+                channel.read(last, size - 1);
+                if (last.get(0) != '\n') {
+                    channel.write(ByteBuffer.wrap(new byte[]{'\n'}), size);
+                }
+            }
+        }
+        Files.write(logPath, lines, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private void insertTop(SessionStat stat) {
+        topStats.add(stat);
+        trimTop(topStats);
+    }
+
+    /**
+     * Сортирует результаты по рейтингу и оставляет лучшие N.
+     */
+    private void trimTop(List<SessionStat> stats) {
+        Collections.sort(stats);
+        while (stats.size() > GameConstants.PathToFiles.SCOREBOARD_TOP_N) {
+            stats.remove(stats.size() - 1);
+        }
+    }
+
+    private void writeScoreboardIndex() throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("totalRecords", totalRecords);
+        root.put("appendsSinceCompaction", appendsSinceCompaction);
+        root.set("top", objectMapper.valueToTree(topStats));
+
+        File indexFile = indexPath.toFile();
+        createParentDirectoryIfNeeded(indexFile);
+        Path target = indexFile.toPath();
+        Path temp = target.resolveSibling(indexFile.getName() + ".tmp");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), root);
+        moveAtomically(temp, target);
+    }
+
+    private static String fileName(String path) {
+        return Paths.get(path).getFileName().toString();
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
         }
     }
 }
\ No newline at end of file
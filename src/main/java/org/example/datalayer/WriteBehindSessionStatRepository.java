@@ -0,0 +1,141 @@
+package org.example.datalayer;
+
+import org.example.domain.entity.GameSession;
+import org.example.domain.entity.SessionStat;
+import org.example.domain.interfaces.ISessionStatRepository;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.config.GameConstants.PathToFiles.STATISTICS_FLUSH_EVERY;
+import static org.example.config.GameConstants.PathToFiles.STATISTICS_FLUSH_INTERVAL_MS;
+
+/**
+ * Репозиторий статистики с отложенной записью (write-behind).
+ * Вызов save только запоминает снимок статистики в памяти; на диск снимок
+ * записывает фоновый поток - по таймеру, после заданного числа изменений
+ * и при явном вызове {@link #flush()} (например, при выходе из игры).
+ * {@link #close()} в конце игры дописывает снимок и останавливает поток;
+ * следующий save (новая игра в том же запуске) запускает поток заново.
+ */
+public class WriteBehindSessionStatRepository implements ISessionStatRepository {
+
+    private final ISessionStatRepository delegate;
+    private final Object lock = new Object();      // защищает pending и writer (держится коротко)
+    private final Object writeLock = new Object(); // упорядочивает записи на диск
+    private SessionStat pending = null; // последний еще не записанный снимок
+    private int pendingChanges = 0;
+    private ScheduledExecutorService writer; // null - поток остановлен close()
+
+    public WriteBehindSessionStatRepository(ISessionStatRepository delegate) {
+        this.delegate = delegate;
+        synchronized (lock) {
+            startWriter();
+        }
+    }
+
+    @Override
+    public void save(SessionStat sessionStat) {
+        boolean flushNow;
+        ScheduledExecutorService target;
+        synchronized (lock) {
+            pending = sessionStat.copy();
+            pendingChanges++;
+            flushNow = pendingChanges >= STATISTICS_FLUSH_EVERY;
+            if (flushNow) {
+                pendingChanges = 0;
+            }
+            target = writer != null ? writer : startWriter();
+        }
+        if (flushNow) {
+            try {
+                target.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                // Поток остановлен параллельным close(), который сам допишет этот снимок
+            }
+        }
+    }
+
+    @Override
+    public void addToScoreboard(SessionStat sessionStat, GameSession gameSession) throws IOException {
+        flush();
+        delegate.addToScoreboard(sessionStat, gameSession);
+    }
+
+    @Override
+    public void reset(SessionStat sessionStat) {
+        sessionStat.reset();
+        save(sessionStat);
+    }
+
+    @Override
+    public List<SessionStat> getAllStats() {
+        return delegate.getAllStats();
+    }
+
+    @Override
+    public List<SessionStat> getTopStats() {
+        return delegate.getTopStats();
+    }
+
+    /**
+     * Синхронно записывает последний снимок, если он есть.
+     */
+    @Override
+    public void flush() throws IOException {
+        // Снимок берется под блокировкой записи, чтобы более старый снимок не перезаписал новый
+        synchronized (writeLock) {
+            SessionStat snapshot;
+            synchronized (lock) {
+                snapshot = pending;
+                pending = null;
+                pendingChanges = 0;
+            }
+            if (snapshot != null) {
+                delegate.save(snapshot);
+            }
+        }
+    }
+
+    /**
+     * Записывает оставшиеся данные и останавливает фоновый поток.
+     */
+    @Override
+    public void close() throws IOException {
+        ScheduledExecutorService stopped;
+        synchronized (lock) {
+            stopped = writer;
+            writer = null;
+        }
+        if (stopped != null) {
+            stopped.shutdown();
+        }
+        flush();
+    }
+
+    /**
+     * Запускает фоновый поток записи по таймеру (вызывается под lock).
+     */
+    private ScheduledExecutorService startWriter() {
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stats-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::flushQuietly,
+                STATISTICS_FLUSH_INTERVAL_MS, STATISTICS_FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        return writer;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            System.err.println("Ошибка записи статистики: " + e.getMessage());
+        }
+    }
+}
@@ -8,9 +8,11 @@ import org.example.domain.enums.MenuAction;
 import org.example.domain.interfaces.IAutosaveRepository;
 import org.example.domain.interfaces.ISessionStatRepository;
 import org.example.domain.interfaces.Renderer;
+import org.example.domain.service.TurnProfiler;
 import sun.misc.Signal;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.List;
 
 import static org.example.config.GameConstants.ScreenConfig.HIDE_CURSOR;
@@ -23,6 +25,7 @@ public class GameApplication {
     private final SessionStat sessionStat;
     private final ISessionStatRepository sessionStatRepository;
     private final IAutosaveRepository autosaveRepository;
+    private final TurnProfiler turnProfiler = new TurnProfiler(); // замеры фаз хода за весь запуск
 
     public GameApplication(Renderer renderer, ISessionStatRepository sessionStatRepository, IAutosaveRepository autosaveRepository1) {
         this.renderer = renderer;
@@ -46,13 +49,15 @@ public class GameApplication {
                     case NEW_GAME -> startNewGame();
                     case LOAD_GAME -> loadGame();
                     case SCOREBOARD -> {
-                        List<SessionStat> stats = sessionStatRepository.getAllStats();
+                        List<SessionStat> stats = sessionStatRepository.getTopStats();
                         renderer.drawScoreboard(stats);
                     }
                     case EXIT -> running = false;
                 }
             }
         } finally {
+            closeRepositories();
+            writeLatencyReport();
             renderer.shutdown();
         }
     }
@@ -63,7 +68,7 @@ public class GameApplication {
         GameInitializer initializer = new GameInitializer(sessionStat, renderer, sessionStatRepository, autosaveRepository);
         initializer.initializeNewGame();
 
-        GameLoop currentGameLoop = new GameLoop(initializer);
+        GameLoop currentGameLoop = new GameLoop(initializer, turnProfiler);
         currentGameLoop.start();
     }
 
@@ -97,7 +102,7 @@ public class GameApplication {
 
             // Запускаем игровой цикл
             try {
-                new GameLoop(initializer).start();
+                new GameLoop(initializer, turnProfiler).start();
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
@@ -118,7 +123,37 @@ public class GameApplication {
     }
 
     private void handleShutdownSignal() {
-        Signal.handle(new Signal(SIGINT_STRING), signal -> { renderer.shutdown(); System.out.println(TERMINATE); System.exit(0); });
+        Signal.handle(new Signal(SIGINT_STRING), signal -> {
+            closeRepositories();
+            writeLatencyReport();
+            renderer.shutdown();
+            System.out.println(TERMINATE);
+            System.exit(0);
+        });
+    }
+
+    /**
+     * Записывает гистограммы длительности фаз хода за весь запуск.
+     */
+    private void writeLatencyReport() {
+        if (turnProfiler.getTurns() == 0) return;
+        try {
+            turnProfiler.writeReport(Paths.get(GameConstants.PathToFiles.LATENCY_REPORT_PATH));
+        } catch (IOException e) {
+            System.err.println("Ошибка записи замеров: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Дописывает на диск отложенные данные репозиториев и останавливает их фоновые потоки перед выходом.
+     */
+    private void closeRepositories() {
+        autosaveRepository.close();
+        try {
+            sessionStatRepository.close();
+        } catch (IOException e) {
+            System.err.println("Ошибка записи статистики: " + e.getMessage());
+        }
     }
 
 }
@@ -8,6 +8,10 @@ import org.example.domain.entity.SessionStat;
 import org.example.domain.service.StatisticsService;
 import org.example.domain.entity.*;
 import org.example.domain.factory.LevelGenerator;
+import org.example.domain.factory.LevelPregenerator;
+import org.example.domain.model.MapLayout;
+import org.example.domain.model.RandomStreams;
+import org.example.config.GameConstants;
 import org.example.domain.service.*;
 import org.example.domain.interfaces.Renderer;
 import org.example.domain.input.ItemSelectionState;
@@ -26,12 +30,15 @@ public class GameInitializer {
     private final ItemSelectionState itemSelectionState;
     private final GameCommandHandler gameCommandHandler;
     private final SessionStat sessionStat;
+    private final RandomStreams randomStreams;
+    private final MapLayout mapLayout;
 
     // Сервисы игровых механик
     private final CombatService combatService;
     private final EnemyAIService enemyAIService;
     private final FogOfWarService fogOfWarService;
     private final LevelGenerator levelGenerator;
+    private final LevelPregenerator levelPregenerator;
     private final AutosaveService autosaveService;
     private final StatisticsService statisticsService;
     private final Message message;
@@ -41,13 +48,26 @@ public class GameInitializer {
      * Выполняет настройку зависимостей между сервисами.
      */
     public GameInitializer(SessionStat sessionStat, Renderer renderer, ISessionStatRepository sessionStatRepository, IAutosaveRepository autosaveRepository) {
+        this(sessionStat, renderer, sessionStatRepository, autosaveRepository,
+                RandomStreams.fromProperty(GameConstants.Seed.PROPERTY), MapLayout.fromProperties());
+    }
+
+    /**
+     * Конструктор с явно заданным зерном и размерами карты (безголовые прогоны, бенчмарки).
+     */
+    public GameInitializer(SessionStat sessionStat, Renderer renderer, ISessionStatRepository sessionStatRepository,
+                           IAutosaveRepository autosaveRepository, RandomStreams randomStreams, MapLayout mapLayout) {
         this.sessionStat = sessionStat;
 
         // domain
+        this.randomStreams = randomStreams;
+        this.mapLayout = mapLayout;
         this.session = new GameSession();
-        this.combatService = new CombatService();
-        this.enemyAIService = new EnemyAIService();
-        this.levelGenerator = new LevelGenerator();
+        this.session.setActivityZones(mapLayout);
+        this.combatService = new CombatService(randomStreams.stream(RandomStreams.Stream.COMBAT));
+        this.enemyAIService = new EnemyAIService(randomStreams.stream(RandomStreams.Stream.AI));
+        this.levelGenerator = new LevelGenerator(randomStreams, mapLayout);
+        this.levelPregenerator = new LevelPregenerator(randomStreams, mapLayout);
         this.fogOfWarService = new FogOfWarService(levelGenerator);
         this.statisticsService = new StatisticsService(sessionStatRepository);
         this.itemSelectionState = new ItemSelectionState();
@@ -118,6 +138,12 @@ public class GameInitializer {
      * @return генератор уровней/карт
      */
     public LevelGenerator getLevelGenerator() { return levelGenerator; }
+
+    /**
+     * @return фоновый генератор следующего уровня
+     */
+    public LevelPregenerator getLevelPregenerator() { return levelPregenerator; }
+
     public AutosaveService getAutosaveService() {
         return autosaveService;
     }
@@ -132,6 +158,16 @@ public class GameInitializer {
 
     public SessionStat getSessionStat() { return sessionStat; }
 
+    /**
+     * @return потоки случайных чисел забега (зерно - getSeed())
+     */
+    public RandomStreams getRandomStreams() { return randomStreams; }
+
+    /**
+     * @return размеры карты и сетка комнат
+     */
+    public MapLayout getMapLayout() { return mapLayout; }
+
     public GameCommandHandler getGameInputManager() {
         return gameCommandHandler;
     }
@@ -1,13 +1,18 @@
 package org.example.domain;
 
 import org.example.domain.entity.*;
+import org.example.domain.enums.GamePhase;
+import org.example.domain.events.TurnEvent;
+import org.example.config.GameConstants;
+import org.example.domain.factory.GeneratedLevel;
 import org.example.domain.factory.LevelGenerator;
+import org.example.domain.factory.LevelPregenerator;
 import org.example.domain.input.GameCommandHandler;
 import org.example.domain.input.InputCommand;
 import org.example.domain.input.ItemSelectionState;
 import org.example.domain.interfaces.Renderer;
+import org.example.domain.interfaces.TurnMetrics;
 import org.example.domain.model.Position;
-import org.example.domain.model.Room;
 import org.example.domain.service.*;
 
 import java.io.IOException;
@@ -29,12 +34,24 @@ public class GameLoop {
     private final FogOfWarService fogOfWarService;
     private final Message message;
     private final LevelGenerator levelGenerator;
+    private final LevelPregenerator levelPregenerator;
     private final SessionStat currentSessionStat;
+    private final TurnMetrics metrics;
 
     private char[][] asciiMap;
     private boolean running = false;
+    private boolean debugOverlay = false;
+    private long turnNumber; // номер хода в рамках этого цикла (для событий JFR)
 
     public GameLoop(GameInitializer initializer) {
+        this(initializer, TurnMetrics.NONE);
+    }
+
+    /**
+     * @param metrics приемник замеров длительности фаз хода
+     */
+    public GameLoop(GameInitializer initializer, TurnMetrics metrics) {
+        this.metrics = metrics;
         this.session = initializer.getSession();
         this.currentSessionStat = initializer.getSessionStat();
         this.renderer = initializer.getRenderer();
@@ -48,7 +65,8 @@ public class GameLoop {
         this.combatService = initializer.getCombatService();
         this.enemyAIService = initializer.getEnemyAIService();
         this.levelGenerator = initializer.getLevelGenerator();
-        this.asciiMap = new char[org.example.config.GameConstants.Map.HEIGHT][org.example.config.GameConstants.Map.WIDTH];
+        this.levelPregenerator = initializer.getLevelPregenerator();
+        this.asciiMap = new char[initializer.getMapLayout().getHeight()][initializer.getMapLayout().getWidth()];
     }
 
     public void start() throws IOException {
@@ -57,6 +75,7 @@ public class GameLoop {
         } else {
             initializeLoadedGame();
             fogOfWarService.updateVisibility(getPlayerPosition(), asciiMap);
+            pregenerateNextLevel();
         }
 
         gameCommandHandler.bindWorld(session, asciiMap, currentSessionStat);
@@ -66,31 +85,72 @@ public class GameLoop {
             updateTimers();
 
             if (session.getPlayer().isSleepTurns()) {
+                TurnEvent sleepEvent = new TurnEvent();
+                sleepEvent.begin();
+                long sleepStart = System.nanoTime();
                 running = gameCommandHandler.handleSleepTurn();
+                metrics.record(GamePhase.AI, System.nanoTime() - sleepStart);
+                metrics.turnCompleted();
+                commitTurnEvent(sleepEvent, "SLEEP");
                 continue;
             }
 
+            long renderStart = System.nanoTime();
+            renderer.setDebugOverlay(debugOverlay ? metrics.getSummaryLines() : null);
             renderer.renderWorld(session, asciiMap, mapVisibilityService, fogOfWarService, itemSelectionState, message);
+            long inputStart = System.nanoTime();
+            metrics.record(GamePhase.RENDER, inputStart - renderStart);
 
             InputCommand command = gameCommandHandler.processInput();
+            long commandStart = System.nanoTime();
+            metrics.record(GamePhase.INPUT, commandStart - inputStart);
 
             if (command.getType() == InputCommand.Type.QUIT) {
+                metrics.discardTurn();
                 autosaveService.saveGame(session, currentSessionStat);
                 running = false;
                 continue;
             }
 
+            if (command.getType() == InputCommand.Type.TOGGLE_DEBUG) {
+                metrics.discardTurn(); // переключение оверлея - не ход, отрисовка не входит в следующий ход
+                debugOverlay = !debugOverlay;
+                continue;
+            }
+
+            TurnEvent turnEvent = new TurnEvent();
+            turnEvent.begin();
             processCommand(command);
+            metrics.record(GamePhase.COMMAND, System.nanoTime() - commandStart);
             updateWorldState();
+            metrics.turnCompleted();
+            commitTurnEvent(turnEvent, command.getType().name());
 
             if (session.getPlayer().getHealth() <= 0) {
                 gameCommandHandler.handleDeath();
                 running = false;
             }
         }
+        levelPregenerator.shutdown();
+        autosaveService.close(); // сохранение при выходе должно попасть на диск до возврата в меню
         renderer.shutdown();
     }
 
+    /**
+     * Завершает событие JFR хода и заполняет его поля (только если событие будет записано).
+     */
+    private void commitTurnEvent(TurnEvent event, String commandName) {
+        turnNumber++;
+        event.end();
+        if (event.shouldCommit()) {
+            event.turnNumber = turnNumber;
+            event.levelNumber = session.getLevelNum();
+            event.enemyCount = session.getEnemyTable().size();
+            event.command = commandName;
+            event.commit();
+        }
+    }
+
     private void updateTimers() {
         if (message.getMessageTimer() > 0) {
             message.setMessageTimer(message.getMessageTimer() - 1);
@@ -113,11 +173,15 @@ public class GameLoop {
     }
 
     private void updateWorldState() {
+        long fovStart = System.nanoTime();
         fogOfWarService.updateVisibility(getPlayerPosition(), asciiMap);
+        long aiStart = System.nanoTime();
+        metrics.record(GamePhase.FOV, aiStart - fovStart);
 
         Position pos = getPlayerPosition();
         List<String> enemyMessages = enemyAIService.witchMoveEnemiesPattern(
                 session, combatService, pos.getX(), pos.getY(), asciiMap);
+        metrics.record(GamePhase.AI, System.nanoTime() - aiStart);
 
         if (!enemyMessages.isEmpty()) {
             message.setActiveMessageLine2(String.join(", ", enemyMessages));
@@ -134,7 +198,7 @@ public class GameLoop {
     private void generateNewLevel() throws IOException {
         int levelToGenerate = (session.getCurrentMap() == null) ? session.getLevelNum() : session.getLevelNum() + 1;
 
-        if (levelToGenerate > 21) {
+        if (levelToGenerate > GameConstants.Map.LEVELS) {
             gameCommandHandler.handleVictory();
             running = false;
             return;
@@ -142,27 +206,30 @@ public class GameLoop {
 
         if (session.getCurrentMap() != null) session.setLevelNum(levelToGenerate);
 
-        asciiMap = levelGenerator.createAsciiMap(levelToGenerate);
+        // Уровень обычно уже построен в фоне; спуск сводится к подмене ссылок
+        long generationStart = System.nanoTime();
+        GeneratedLevel level = levelPregenerator.take(levelToGenerate);
+        levelGenerator.adoptLevel(level);
+        metrics.record(GamePhase.LEVEL_GENERATION, System.nanoTime() - generationStart);
+
+        asciiMap = level.getMap();
         session.setCurrentMap(asciiMap);
-        session.setRooms(levelGenerator.getRooms());
-        session.getCurrentLevelItems().clear();
-        session.getCurrentLevelItems().addAll(levelGenerator.getItems());
+        session.setRooms(level.getRooms());
+        session.placeLevelItems(level.getItems());
 
         gameCommandHandler.bindWorld(session, asciiMap, currentSessionStat);
 
-        for (Room room : levelGenerator.getRooms()) {
-            if (room.isStartRoom()) {
-                getPlayerPosition().setX(room.getX1() + 2);
-                getPlayerPosition().setY(room.getY1() + 2);
-                break;
-            }
+        Position start = level.getStartPosition();
+        if (start != null) {
+            getPlayerPosition().setX(start.getX());
+            getPlayerPosition().setY(start.getY());
         }
 
-        session.getEnemies().clear();
-        session.getEnemies().addAll(levelGenerator.generateEnemiesForSession(session, asciiMap));
+        session.placeEnemies(level.getEnemies());
 
         fogOfWarService.reset();
         fogOfWarService.updateVisibility(getPlayerPosition(), asciiMap);
+        pregenerateNextLevel();
 
         if (levelToGenerate > 1) {
             message.setActiveMessageLine1("You have gone deeper...");
@@ -171,6 +238,16 @@ public class GameLoop {
         message.setMessageTimer(MESSAGE_DURATION);
     }
 
+    /**
+     * Заказывает фоновую генерацию следующего уровня.
+     */
+    private void pregenerateNextLevel() {
+        int nextLevel = session.getLevelNum() + 1;
+        if (nextLevel <= GameConstants.Map.LEVELS) {
+            levelPregenerator.requestLevel(nextLevel);
+        }
+    }
+
     private Position getPlayerPosition() {
         return session.getPlayer().getPosition();
     }
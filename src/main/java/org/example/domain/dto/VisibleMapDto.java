@@ -1,8 +1,37 @@
 package org.example.domain.dto;
 
-public record VisibleMapDto(char[][] symbols, short[][] colors) {
-    public char getSymbol(int x, int y) { return symbols[y][x]; }
-    public short getColor(int x, int y) { return colors[y][x]; }
-    public int width() { return symbols[0].length; }
-    public int height() { return symbols.length; }
+/**
+ * Видимая часть карты для отрисовки: символы и цвета клеток в плоских массивах
+ * (индекс y * width + x). Объект только для чтения - буферы принадлежат
+ * {@link org.example.domain.service.MapVisibilityService} и переиспользуются между кадрами.
+ * Если карта больше области экрана, объект описывает окно карты с левым верхним
+ * углом (originX, originY); координаты x, y в getSymbol/getColor - координаты окна.
+ */
+public final class VisibleMapDto {
+    private final char[] symbols;
+    private final short[] colors;
+    private final int width;
+    private final int height;
+    private final int originX;
+    private final int originY;
+
+    public VisibleMapDto(char[] symbols, short[] colors, int width, int height) {
+        this(symbols, colors, width, height, 0, 0);
+    }
+
+    public VisibleMapDto(char[] symbols, short[] colors, int width, int height, int originX, int originY) {
+        this.symbols = symbols;
+        this.colors = colors;
+        this.width = width;
+        this.height = height;
+        this.originX = originX;
+        this.originY = originY;
+    }
+
+    public char getSymbol(int x, int y) { return symbols[y * width + x]; }
+    public short getColor(int x, int y) { return colors[y * width + x]; }
+    public int width() { return width; }
+    public int height() { return height; }
+    public int originX() { return originX; }
+    public int originY() { return originY; }
 }
@@ -6,6 +6,11 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import static org.example.config.GameConstants.Colors.COLOR_WHITE;
 
+/**
+ * Враг. Пока враг находится в {@link EnemyTable} уровня, объект служит легковесным
+ * представлением строки таблицы: изменяемые свойства читаются и пишутся в ее массивы.
+ * После удаления из таблицы враг хранит последние значения в собственных полях.
+ */
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class Enemy {
     private char type;
@@ -27,6 +32,10 @@ public class Enemy {
     @JsonProperty("restTurns")
     private int restTurns; // Для огра - счетчик отдыха после атаки
 
+    // Строка таблицы врагов уровня (null - враг не привязан к таблице)
+    private EnemyTable table;
+    private int row;
+
     // Битовые маски способностей
     public static final int ABILITY_VAMPIRE_DRAIN = 1;    // Вампир: поглощает макс. HP
     public static final int ABILITY_FIRST_MISS = 2;       // Вампир: первая атака промах
@@ -66,19 +75,21 @@ public class Enemy {
 
     // Геттеры и сеттеры для основных свойств
     public char getType() {
-        return type;
+        return table != null ? table.type[row] : type;
     }
 
     public void setType(char type) {
-        this.type = type;
+        if (table != null) table.type[row] = type;
+        else this.type = type;
     }
 
     public int getHealth() {
-        return health;
+        return table != null ? table.health[row] : health;
     }
 
     public void setHealth(int health) {
-        this.health = health;
+        if (table != null) table.health[row] = health;
+        else this.health = health;
     }
 
     public int getAgility() {
@@ -94,52 +105,62 @@ public class Enemy {
     }
 
     public boolean isInvisible() {
-        return isInvisible;
+        return table != null ? table.invisible[row] : isInvisible;
     }
 
     public void setInvisible(boolean invisible) {
-        isInvisible = invisible;
+        if (table != null) table.invisible[row] = invisible;
+        else isInvisible = invisible;
     }
 
     public int getRestTurns() {
-        return restTurns;
+        return table != null ? table.restTurns[row] : restTurns;
     }
 
     public void setRestTurns(int restTurns) {
-        this.restTurns = restTurns;
+        if (table != null) table.restTurns[row] = restTurns;
+        else this.restTurns = restTurns;
     }
 
     // Геттеры и сеттеры для координат и направления движения
     public int getX() {
-        return x;
+        return table != null ? table.x[row] : x;
     }
 
+    /**
+     * Для врага в таблице индекс клеток не обновляется - перемещение выполняется
+     * через {@link EnemyTable#move(int, int, int)} (GameSession.moveEnemy).
+     */
     public void setX(int x) {
-        this.x = x;
+        if (table != null) table.x[row] = x;
+        else this.x = x;
     }
 
     public int getY() {
-        return y;
+        return table != null ? table.y[row] : y;
     }
 
     public void setY(int y) {
-        this.y = y;
+        if (table != null) table.y[row] = y;
+        else this.y = y;
     }
 
     public int getDiagX() {
-        return diagX;
+        return table != null ? table.diagX[row] : diagX;
     }
 
     public void setDiagX(int diagX) {
-        this.diagX = diagX;
+        if (table != null) table.diagX[row] = (byte) diagX;
+        else this.diagX = diagX;
     }
 
     public int getDiagY() {
-        return diagY;
+        return table != null ? table.diagY[row] : diagY;
     }
 
     public void setDiagY(int diagY) {
-        this.diagY = diagY;
+        if (table != null) table.diagY[row] = (byte) diagY;
+        else this.diagY = diagY;
     }
 
     /**
@@ -148,7 +169,11 @@ public class Enemy {
      * @return true если способность присутствует
      */
     public boolean hasAbility(int abilityMask) {
-        return (specialAbility & abilityMask) == abilityMask;
+        return (getSpecialAbility() & abilityMask) == abilityMask;
+    }
+
+    public int getSpecialAbility() {
+        return table != null ? table.abilities[row] : specialAbility;
     }
 
     /**
@@ -156,10 +181,56 @@ public class Enemy {
      * @param abilityMask битовая маска способности для удаления
      */
     public void removeAbility(int abilityMask) {
-        specialAbility &= ~abilityMask;
+        if (table != null) table.abilities[row] &= ~abilityMask;
+        else specialAbility &= ~abilityMask;
     }
 
     public short getColor() {
         return color;
     }
+
+    /**
+     * Создает независимую копию врага (снимок для фонового сохранения).
+     */
+    public Enemy copy() {
+        Enemy copy = new Enemy(getType(), getHealth(), agility, strength, hostility,
+                color, getSpecialAbility(), isInvisible(), getRestTurns());
+        copy.x = getX();
+        copy.y = getY();
+        copy.diagX = getDiagX();
+        copy.diagY = getDiagY();
+        return copy;
+    }
+
+    // ==================== ПРИВЯЗКА К ТАБЛИЦЕ ВРАГОВ ====================
+
+    void attach(EnemyTable table, int row) {
+        this.table = table;
+        this.row = row;
+    }
+
+    /**
+     * Отвязывает представление от таблицы, копируя изменяемые значения строки в поля.
+     */
+    void detach() {
+        if (table == null) return;
+        type = table.type[row];
+        health = table.health[row];
+        x = table.x[row];
+        y = table.y[row];
+        diagX = table.diagX[row];
+        diagY = table.diagY[row];
+        specialAbility = table.abilities[row];
+        isInvisible = table.invisible[row];
+        restTurns = table.restTurns[row];
+        table = null;
+    }
+
+    boolean isAttachedTo(EnemyTable table) {
+        return this.table == table;
+    }
+
+    int row() {
+        return row;
+    }
 }
\ No newline at end of file
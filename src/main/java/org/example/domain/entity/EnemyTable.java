@@ -0,0 +1,365 @@
+package org.example.domain.entity;
+
+import org.example.domain.enums.EnemyType;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static org.example.config.GameConstants.ProbabilitiesAndBalance.ACTION_ENERGY_COST;
+
+/**
+ * Хранилище врагов уровня в виде параллельных массивов примитивов (struct-of-arrays).
+ * Строка таблицы - один живой враг; убитый враг удаляется перестановкой последней
+ * строки на его место, поэтому в таблице нет "мертвых" записей и циклы не проверяют здоровье.
+ * Индекс клеток (номер строки + 1, 0 - пусто) дает поиск врага по координатам за O(1).
+ * <p>
+ * Для сохранений, боя и отрисовки каждой строке соответствует легковесное представление
+ * {@link Enemy}: его геттеры и сеттеры читают и пишут массивы таблицы. При удалении строки
+ * представление отсоединяется и сохраняет последние значения у себя.
+ */
+public class EnemyTable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Параллельные массивы полей врагов, индекс - номер строки
+    char[] type = new char[INITIAL_CAPACITY];
+    int[] x = new int[INITIAL_CAPACITY];
+    int[] y = new int[INITIAL_CAPACITY];
+    int[] health = new int[INITIAL_CAPACITY];
+    int[] agility = new int[INITIAL_CAPACITY];
+    int[] strength = new int[INITIAL_CAPACITY];
+    int[] hostility = new int[INITIAL_CAPACITY];
+    short[] color = new short[INITIAL_CAPACITY];
+    int[] abilities = new int[INITIAL_CAPACITY];
+    int[] restTurns = new int[INITIAL_CAPACITY];
+    byte[] diagX = new byte[INITIAL_CAPACITY];
+    byte[] diagY = new byte[INITIAL_CAPACITY];
+    boolean[] invisible = new boolean[INITIAL_CAPACITY];
+    // Энергия хода: скорость (энергия за тик), стоимость шага и накопленная энергия
+    private int[] speed = new int[INITIAL_CAPACITY];
+    private int[] moveCost = new int[INITIAL_CAPACITY];
+    private int[] energy = new int[INITIAL_CAPACITY];
+    private Enemy[] views = new Enemy[INITIAL_CAPACITY];
+    private int size;
+
+    // Индекс клеток: номер строки + 1 врага в клетке y * width + x
+    private int width;
+    private int height;
+    private int[] cellRows;
+
+    private final List<Enemy> listView = new EnemyListView();
+
+    public EnemyTable(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.cellRows = new int[width * height];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Добавляет копию врага в конец таблицы.
+     *
+     * @return представление добавленной строки
+     */
+    public Enemy add(Enemy source) {
+        ensureCapacity(size + 1);
+        int row = size++;
+        type[row] = source.getType();
+        x[row] = source.getX();
+        y[row] = source.getY();
+        health[row] = source.getHealth();
+        agility[row] = source.getAgility();
+        strength[row] = source.getStrength();
+        hostility[row] = source.getHostility();
+        color[row] = source.getColor();
+        abilities[row] = source.getSpecialAbility();
+        restTurns[row] = source.getRestTurns();
+        diagX[row] = (byte) source.getDiagX();
+        diagY[row] = (byte) source.getDiagY();
+        invisible[row] = source.isInvisible();
+        EnemyType enemyType = EnemyType.fromSymbol(type[row]);
+        speed[row] = enemyType != null ? enemyType.getSpeed() : ACTION_ENERGY_COST;
+        moveCost[row] = enemyType != null ? enemyType.getMoveCost() : ACTION_ENERGY_COST;
+        energy[row] = 0;
+
+        Enemy view = new Enemy(type[row], health[row], agility[row], strength[row], hostility[row],
+                color[row], abilities[row], invisible[row], restTurns[row]);
+        view.attach(this, row);
+        views[row] = view;
+        indexPut(x[row], y[row], row);
+        return view;
+    }
+
+    /**
+     * Удаляет строку, переставляя на ее место последнюю строку (O(1)).
+     * Представление удаленной строки отсоединяется и сохраняет свои значения.
+     */
+    public void remove(int row) {
+        Enemy removed = views[row];
+        removed.detach();
+        indexRemove(x[row], y[row], row);
+
+        int last = --size;
+        if (row != last) {
+            indexRemove(x[last], y[last], last);
+            copyRow(last, row);
+            views[row] = views[last];
+            views[row].attach(this, row);
+            indexPut(x[row], y[row], row);
+        }
+        views[last] = null;
+    }
+
+    /**
+     * Удаляет врага, если он принадлежит этой таблице.
+     */
+    public boolean remove(Enemy enemy) {
+        if (!enemy.isAttachedTo(this)) return false;
+        remove(enemy.row());
+        return true;
+    }
+
+    /**
+     * Удаляет всех врагов (представления отсоединяются).
+     */
+    public void clear() {
+        for (int row = 0; row < size; row++) {
+            views[row].detach();
+            views[row] = null;
+        }
+        size = 0;
+        Arrays.fill(cellRows, 0);
+    }
+
+    /**
+     * Меняет размеры индекса клеток и перестраивает его.
+     */
+    public void resize(int newWidth, int newHeight) {
+        if (newWidth * newHeight > cellRows.length) {
+            cellRows = new int[newWidth * newHeight];
+        }
+        width = newWidth;
+        height = newHeight;
+        reindex();
+    }
+
+    /**
+     * Перестраивает индекс клеток по координатам строк.
+     */
+    public void reindex() {
+        Arrays.fill(cellRows, 0);
+        for (int row = 0; row < size; row++) {
+            indexPut(x[row], y[row], row);
+        }
+    }
+
+    /**
+     * Возвращает номер строки врага в клетке или -1 (O(1)).
+     */
+    public int rowAt(int cx, int cy) {
+        if (!inBounds(cx, cy)) return -1;
+        return cellRows[cy * width + cx] - 1;
+    }
+
+    /**
+     * Возвращает представление врага в клетке или null (O(1)).
+     */
+    public Enemy viewAt(int cx, int cy) {
+        int row = rowAt(cx, cy);
+        return row >= 0 ? views[row] : null;
+    }
+
+    public Enemy view(int row) {
+        return views[row];
+    }
+
+    /**
+     * Возвращает номер строки врага или -1, если враг не принадлежит таблице (например, убит).
+     */
+    public int rowOf(Enemy enemy) {
+        return enemy.isAttachedTo(this) ? enemy.row() : -1;
+    }
+
+    /**
+     * Перемещает врага строки row, поддерживая индекс клеток.
+     */
+    public void move(int row, int nx, int ny) {
+        indexRemove(x[row], y[row], row);
+        x[row] = nx;
+        y[row] = ny;
+        indexPut(nx, ny, row);
+    }
+
+    /**
+     * Перемещает врага; для врага не из этой таблицы меняются только его координаты.
+     */
+    public void move(Enemy enemy, int nx, int ny) {
+        if (enemy.isAttachedTo(this)) {
+            move(enemy.row(), nx, ny);
+        } else {
+            enemy.setX(nx);
+            enemy.setY(ny);
+        }
+    }
+
+    /**
+     * Проверяет согласованность индекса клеток с таблицей (для assert-проверок).
+     */
+    public boolean checkIndex() {
+        int occupied = 0;
+        for (int i = 0; i < width * height; i++) {
+            if (cellRows[i] != 0) occupied++;
+        }
+        for (int row = 0; row < size; row++) {
+            if (rowAt(x[row], y[row]) != row || !views[row].isAttachedTo(this) || views[row].row() != row) {
+                return false;
+            }
+        }
+        return occupied == size;
+    }
+
+    /**
+     * Неизменяемый список представлений строк (без копирования, отражает изменения таблицы).
+     */
+    public List<Enemy> asList() {
+        return listView;
+    }
+
+    // ==================== ДОСТУП К ПОЛЯМ СТРОК ====================
+
+    public char getType(int row) { return type[row]; }
+    public int getX(int row) { return x[row]; }
+    public int getY(int row) { return y[row]; }
+    public int getHealth(int row) { return health[row]; }
+    public int getAgility(int row) { return agility[row]; }
+    public int getStrength(int row) { return strength[row]; }
+    public int getHostility(int row) { return hostility[row]; }
+    public short getColor(int row) { return color[row]; }
+    public int getRestTurns(int row) { return restTurns[row]; }
+    public void setRestTurns(int row, int turns) { restTurns[row] = turns; }
+    public boolean isInvisible(int row) { return invisible[row]; }
+    public void setInvisible(int row, boolean value) { invisible[row] = value; }
+
+    public boolean hasAbility(int row, int abilityMask) {
+        return (abilities[row] & abilityMask) == abilityMask;
+    }
+
+    public int getSpeed(int row) { return speed[row]; }
+    public int getMoveCost(int row) { return moveCost[row]; }
+    public int getEnergy(int row) { return energy[row]; }
+
+    /**
+     * Меняет скорость и стоимость шага врага (накопленная энергия сохраняется).
+     */
+    public void setSpeed(int row, int newSpeed, int newMoveCost) {
+        speed[row] = newSpeed;
+        moveCost[row] = newMoveCost;
+    }
+
+    /**
+     * Обнуляет накопленную энергию (например, при пробуждении спящего врага).
+     */
+    public void resetEnergy(int row) {
+        energy[row] = 0;
+    }
+
+    /**
+     * Списывает энергию за действие (энергия может уйти в минус - долг за дорогое действие).
+     */
+    public void spendEnergy(int row, int cost) {
+        energy[row] -= cost;
+    }
+
+    /**
+     * Начисляет энергию до ближайшего тика, на котором враг сможет действовать (энергия > 0).
+     *
+     * @return число тиков до готовности (0, если враг уже готов)
+     */
+    public int chargeEnergy(int row) {
+        int current = energy[row];
+        if (current > 0) return 0;
+        int ticks = -current / speed[row] + 1;
+        energy[row] = current + ticks * speed[row];
+        return ticks;
+    }
+
+    // ==================== ПРИВАТНЫЕ МЕТОДЫ ====================
+
+    private void copyRow(int from, int to) {
+        type[to] = type[from];
+        x[to] = x[from];
+        y[to] = y[from];
+        health[to] = health[from];
+        agility[to] = agility[from];
+        strength[to] = strength[from];
+        hostility[to] = hostility[from];
+        color[to] = color[from];
+        abilities[to] = abilities[from];
+        restTurns[to] = restTurns[from];
+        diagX[to] = diagX[from];
+        diagY[to] = diagY[from];
+        invisible[to] = invisible[from];
+        speed[to] = speed[from];
+        moveCost[to] = moveCost[from];
+        energy[to] = energy[from];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= type.length) return;
+        int newCapacity = Math.max(capacity, type.length * 2);
+        type = Arrays.copyOf(type, newCapacity);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        health = Arrays.copyOf(health, newCapacity);
+        agility = Arrays.copyOf(agility, newCapacity);
+        strength = Arrays.copyOf(strength, newCapacity);
+        hostility = Arrays.copyOf(hostility, newCapacity);
+        color = Arrays.copyOf(color, newCapacity);
+        abilities = Arrays.copyOf(abilities, newCapacity);
+        restTurns = Arrays.copyOf(restTurns, newCapacity);
+        diagX = Arrays.copyOf(diagX, newCapacity);
+        diagY = Arrays.copyOf(diagY, newCapacity);
+        invisible = Arrays.copyOf(invisible, newCapacity);
+        speed = Arrays.copyOf(speed, newCapacity);
+        moveCost = Arrays.copyOf(moveCost, newCapacity);
+        energy = Arrays.copyOf(energy, newCapacity);
+        views = Arrays.copyOf(views, newCapacity);
+    }
+
+    private void indexPut(int cx, int cy, int row) {
+        if (inBounds(cx, cy)) {
+            cellRows[cy * width + cx] = row + 1;
+        }
+    }
+
+    /**
+     * Освобождает клетку, только если в ней записана именно эта строка.
+     */
+    private void indexRemove(int cx, int cy, int row) {
+        if (inBounds(cx, cy) && cellRows[cy * width + cx] == row + 1) {
+            cellRows[cy * width + cx] = 0;
+        }
+    }
+
+    private boolean inBounds(int cx, int cy) {
+        return cx >= 0 && cy >= 0 && cx < width && cy < height;
+    }
+
+    private final class EnemyListView extends AbstractList<Enemy> implements RandomAccess {
+        @Override
+        public Enemy get(int index) {
+            if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+            return views[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
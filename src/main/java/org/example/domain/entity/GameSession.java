@@ -1,25 +1,136 @@
 package org.example.domain.entity;
 
+import org.example.config.GameConstants;
+import org.example.domain.model.ActivityZones;
+import org.example.domain.model.EnergyScheduler;
+import org.example.domain.model.MapLayout;
+import org.example.domain.model.OccupancyGrid;
 import org.example.domain.model.Room;
 import java.util.ArrayList;
 import java.util.List;
 
 public class GameSession {
     // Поля сущности игровой сессии
-    private List<Enemy> enemies = new ArrayList<>(); // Список врагов на уровне
     private Player player;                           // Игрок
     private char[][] currentMap;                     // Текущая карта уровня
     private List<Room> rooms;                        // Комнаты уровня
     private int levelNum;                            // Номер текущего уровня
     private List<Item> currentLevelItems = new ArrayList<>(); // Предметы на уровне
 
+    // Враги уровня: параллельные массивы с собственным индексом клеток
+    private final EnemyTable enemyTable =
+            new EnemyTable(GameConstants.Map.WIDTH, GameConstants.Map.HEIGHT);
+
+    // Очередь ходов врагов по тикам (тик - один ход игрока)
+    private final EnergyScheduler<Enemy> enemyScheduler = new EnergyScheduler<>();
+
+    // Зоны активности: враги вдали от игрока спят и не попадают в очередь ходов
+    private final ActivityZones<Enemy> enemyActivity = new ActivityZones<>(
+            MapLayout.DEFAULT.getRoomStepX(), MapLayout.DEFAULT.getRoomStepY(),
+            GameConstants.Map.WIDTH, GameConstants.Map.HEIGHT);
+
+    // Индекс предметов уровня по клеткам карты (в клетке лежит не больше одного предмета)
+    private final OccupancyGrid<Item> itemGrid =
+            new OccupancyGrid<>(GameConstants.Map.WIDTH, GameConstants.Map.HEIGHT);
+
     // Геттеры и сеттеры
+
+    /**
+     * Возвращает неизменяемое представление живых врагов уровня.
+     * Порядок строк меняется при удалении врага (последний враг занимает место удаленного).
+     */
     public List<Enemy> getEnemies() {
-        return enemies;
+        return enemyTable.asList();
+    }
+
+    public EnemyTable getEnemyTable() {
+        return enemyTable;
+    }
+
+    public EnergyScheduler<Enemy> getEnemyScheduler() {
+        return enemyScheduler;
+    }
+
+    public ActivityZones<Enemy> getEnemyActivity() {
+        return enemyActivity;
+    }
+
+    /**
+     * Задает зоны активности по сетке комнат уровня (зона - ячейка комнаты).
+     */
+    public void setActivityZones(MapLayout layout) {
+        enemyActivity.setZoneSize(layout.getRoomStepX(), layout.getRoomStepY());
+        scheduleAllEnemies();
     }
 
     public void setEnemies(List<Enemy> enemies) {
-        this.enemies = enemies;
+        placeEnemies(enemies);
+    }
+
+    /**
+     * Заменяет врагов уровня копиями переданных (мертвые враги пропускаются)
+     * и планирует их первые ходы.
+     * Список может быть представлением этой же таблицы ({@link #getEnemies()}),
+     * поэтому враги копируются до очистки таблицы.
+     */
+    public void placeEnemies(List<Enemy> levelEnemies) {
+        List<Enemy> source = new ArrayList<>(levelEnemies);
+        enemyTable.clear();
+        for (Enemy enemy : source) {
+            if (enemy.getHealth() > 0) {
+                enemyTable.add(enemy);
+            }
+        }
+        scheduleAllEnemies();
+    }
+
+    /**
+     * Будит всех врагов и планирует их ходы заново с пустой энергией.
+     * Далекие от игрока враги снова уснут на первом же тике.
+     */
+    private void scheduleAllEnemies() {
+        enemyScheduler.clear();
+        enemyActivity.clear();
+        for (int row = 0; row < enemyTable.size(); row++) {
+            enemyTable.resetEnergy(row);
+            enemyScheduler.schedule(enemyTable.view(row), enemyScheduler.getTick() + enemyTable.chargeEnergy(row));
+        }
+    }
+
+    /**
+     * Возвращает живого врага в клетке или null (O(1)).
+     */
+    public Enemy getEnemyAt(int x, int y) {
+        return enemyTable.viewAt(x, y);
+    }
+
+    /**
+     * Перемещает врага, поддерживая индекс клеток.
+     */
+    public void moveEnemy(Enemy enemy, int x, int y) {
+        enemyTable.move(enemy, x, y);
+    }
+
+    /**
+     * Удаляет врага из уровня и из индекса клеток (O(1)).
+     */
+    public void removeEnemy(Enemy enemy) {
+        enemyTable.remove(enemy);
+    }
+
+    /**
+     * Перестраивает индекс клеток по текущим координатам врагов.
+     */
+    public void rebuildEnemyIndex() {
+        enemyTable.reindex();
+    }
+
+    /**
+     * Проверяет согласованность индекса клеток с таблицей врагов.
+     * Используется в assert-проверках (запуск с -ea).
+     */
+    public boolean checkEnemyIndex() {
+        return enemyTable.checkIndex();
     }
 
     public Player getPlayer() {
@@ -36,6 +147,49 @@ public class GameSession {
 
     public void setCurrentLevelItems(List<Item> items) {
         this.currentLevelItems = items;
+        rebuildItemIndex();
+    }
+
+    /**
+     * Заменяет предметы уровня и перестраивает индекс клеток.
+     */
+    public void placeLevelItems(List<Item> levelItems) {
+        currentLevelItems.clear();
+        currentLevelItems.addAll(levelItems);
+        rebuildItemIndex();
+    }
+
+    /**
+     * Возвращает предмет, лежащий в клетке, или null (O(1)).
+     */
+    public Item getItemAt(int x, int y) {
+        return itemGrid.get(x, y);
+    }
+
+    /**
+     * Кладет предмет на уровень в его текущие координаты.
+     */
+    public void addLevelItem(Item item) {
+        currentLevelItems.add(item);
+        itemGrid.put(item.getX(), item.getY(), item);
+    }
+
+    /**
+     * Убирает предмет с уровня (например, при подборе).
+     */
+    public void removeLevelItem(Item item) {
+        itemGrid.remove(item.getX(), item.getY(), item);
+        currentLevelItems.remove(item);
+    }
+
+    /**
+     * Перестраивает индекс клеток по текущему списку предметов.
+     */
+    public void rebuildItemIndex() {
+        itemGrid.clear();
+        for (Item item : currentLevelItems) {
+            itemGrid.put(item.getX(), item.getY(), item);
+        }
     }
 
     public char[][] getCurrentMap() {
@@ -44,6 +198,13 @@ public class GameSession {
 
     public void setCurrentMap(char[][] currentMap) {
         this.currentMap = currentMap;
+        if (currentMap != null) {
+            enemyTable.resize(currentMap[0].length, currentMap.length);
+            enemyActivity.resize(currentMap[0].length, currentMap.length);
+            scheduleAllEnemies();
+            itemGrid.resize(currentMap[0].length, currentMap.length);
+            rebuildItemIndex();
+        }
     }
 
     /**
@@ -68,4 +229,4 @@ public class GameSession {
     public void setLevelNum(int levelNum) {
         this.levelNum = levelNum;
     }
-}
\ No newline at end of file
+}
@@ -161,4 +161,14 @@ public class Item {
         this.x = x;
         this.y = y;
     }
+
+    /**
+     * Создает независимую копию предмета (снимок для фонового сохранения).
+     * @return копия предмета с теми же характеристиками и позицией
+     */
+    public Item copy() {
+        Item copy = new Item(type, subType, health, maxHealth, agility, strength, value);
+        copy.setPosition(x, y);
+        return copy;
+    }
 }
\ No newline at end of file
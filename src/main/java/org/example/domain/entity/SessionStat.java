@@ -84,6 +84,14 @@ public class SessionStat implements Comparable<SessionStat> {
         this.moves = 0;
     }
 
+    /**
+     * Создает независимую копию статистики (снимок для фоновой записи).
+     */
+    public SessionStat copy() {
+        return new SessionStat(treasures, levelNum, enemies, food, elixirs,
+                scrolls, attacks, missed, moves);
+    }
+
     /**
      * Сравнивает текущую статистику с другой для определения порядка сортировки.
      * Приоритет сравнения:
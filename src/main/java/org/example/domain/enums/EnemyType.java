@@ -4,14 +4,27 @@ import org.example.config.GameConstants;
 import org.example.domain.entity.Enemy;
 
 import static org.example.config.GameConstants.Colors.*;
+import static org.example.config.GameConstants.ProbabilitiesAndBalance.ACTION_ENERGY_COST;
 import static org.example.domain.entity.Enemy.*;
 
+/**
+ * Типы врагов. Скорость - энергия, получаемая за ход игрока; шаг стоит moveCost энергии,
+ * атака завершает ход и списывает всю оставшуюся энергию (не меньше ACTION_ENERGY_COST).
+ * Дробные скорости задаются соотношением этих величин (например, скорость 75 при шаге 100 -
+ * три шага за четыре хода, скорость 150 - три шага за два хода).
+ */
 public enum EnemyType {
-    ZOMBIE(GameConstants.Icons.ZOMBIE, 18, 3, 6, 4, COLOR_GREEN, 0),
-    VAMPIRE(GameConstants.Icons.VAMPIRE, 24, 7, 8, 6, COLOR_RED, ABILITY_VAMPIRE_DRAIN | ABILITY_FIRST_MISS),
-    GHOST(GameConstants.Icons.GHOST, 6, 6, 3, 2, COLOR_WHITE, ABILITY_TELEPORT | ABILITY_INVISIBLE),
-    OGRE(GameConstants.Icons.OGRE, 32, 2,  14, 4, COLOR_YELLOW, ABILITY_OGRE_CHARGE | ABILITY_OGRE_REST),
-    SNAKE_MAGE(GameConstants.Icons.SNAKE_MAGE, 10, 8, 7, 6, COLOR_WHITE, ABILITY_SNAKE_SLEEP | ABILITY_DIAGONAL_MOVE);
+    ZOMBIE(GameConstants.Icons.ZOMBIE, 18, 3, 6, 4, COLOR_GREEN, 0,
+            ACTION_ENERGY_COST, ACTION_ENERGY_COST),
+    VAMPIRE(GameConstants.Icons.VAMPIRE, 24, 7, 8, 6, COLOR_RED, ABILITY_VAMPIRE_DRAIN | ABILITY_FIRST_MISS,
+            ACTION_ENERGY_COST, ACTION_ENERGY_COST),
+    GHOST(GameConstants.Icons.GHOST, 6, 6, 3, 2, COLOR_WHITE, ABILITY_TELEPORT | ABILITY_INVISIBLE,
+            ACTION_ENERGY_COST, ACTION_ENERGY_COST),
+    // Огр делает два шага за ход игрока
+    OGRE(GameConstants.Icons.OGRE, 32, 2,  14, 4, COLOR_YELLOW, ABILITY_OGRE_CHARGE | ABILITY_OGRE_REST,
+            2 * ACTION_ENERGY_COST, ACTION_ENERGY_COST),
+    SNAKE_MAGE(GameConstants.Icons.SNAKE_MAGE, 10, 8, 7, 6, COLOR_WHITE, ABILITY_SNAKE_SLEEP | ABILITY_DIAGONAL_MOVE,
+            ACTION_ENERGY_COST, ACTION_ENERGY_COST);
 
 
     private final char type;
@@ -21,8 +34,11 @@ public enum EnemyType {
     private final int hostility;
     private final short color;
     private final int specialAbility;
+    private final int speed;
+    private final int moveCost;
 
-    EnemyType(char type, int baseHealth, int agility, int strength, int hostility, short color, int specialAbility) {
+    EnemyType(char type, int baseHealth, int agility, int strength, int hostility, short color, int specialAbility,
+              int speed, int moveCost) {
         this.type = type;
         this.baseHealth = baseHealth;
         this.agility = agility;
@@ -30,6 +46,26 @@ public enum EnemyType {
         this.hostility = hostility;
         this.color = color;
         this.specialAbility = specialAbility;
+        this.speed = speed;
+        this.moveCost = moveCost;
+    }
+
+    /**
+     * Возвращает тип врага по символу или null для неизвестного символа.
+     */
+    public static EnemyType fromSymbol(char symbol) {
+        for (EnemyType enemyType : values()) {
+            if (enemyType.type == symbol) return enemyType;
+        }
+        return null;
+    }
+
+    public int getSpeed() {
+        return speed;
+    }
+
+    public int getMoveCost() {
+        return moveCost;
     }
 
     public Enemy create(int level) {
@@ -0,0 +1,18 @@
+package org.example.domain.enums;
+
+import org.example.domain.interfaces.FovAlgorithm;
+import org.example.domain.service.RayCastingFov;
+import org.example.domain.service.ShadowcastingFov;
+
+// Энум доступных алгоритмов поля зрения
+public enum FovType {
+    RAY_CASTING,     // лучи Брезенхэма по периметру квадрата обзора (эталонная реализация)
+    SHADOWCASTING;   // симметричный рекурсивный shadowcasting
+
+    public FovAlgorithm create() {
+        return switch (this) {
+            case RAY_CASTING -> new RayCastingFov();
+            case SHADOWCASTING -> new ShadowcastingFov();
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.domain.enums;
+
+// Энум фаз игрового хода для замеров времени
+public enum GamePhase {
+    RENDER("render"),             // отрисовка мира
+    INPUT("input"),               // ожидание и разбор ввода
+    COMMAND("command"),           // выполнение команды игрока (включая генерацию уровня при спуске)
+    FOV("fov"),                   // пересчет поля зрения
+    AI("ai"),                     // ход врагов
+    LEVEL_GENERATION("levelgen"); // получение нового уровня (входит в COMMAND)
+
+    private final String label;
+
+    GamePhase(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.domain.enums;
+
+// Энум форматов файлов автосохранения
+public enum SaveFormat {
+    JSON(".json"),   // текстовый JSON (Jackson)
+    BINARY(".sav");  // компактный бинарный формат
+
+    private final String extension;
+
+    SaveFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Определяет формат по имени файла или возвращает null, если расширение неизвестно.
+     */
+    public static SaveFormat fromFileName(String fileName) {
+        for (SaveFormat format : values()) {
+            if (fileName.endsWith(format.extension)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
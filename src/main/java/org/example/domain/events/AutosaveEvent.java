@@ -0,0 +1,33 @@
+package org.example.domain.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Событие JFR: запись автосохранения на диск.
+ */
+@Name("org.example.Autosave")
+@Label("Autosave")
+@Category({"Rogue", "Persistence"})
+@Description("Encoding and writing of a save file")
+@StackTrace(false)
+public class AutosaveEvent extends Event {
+
+    @Label("Level Number")
+    public int levelNumber;
+
+    @Label("Format")
+    public String format;
+
+    @Label("Bytes Written")
+    @DataAmount(DataAmount.BYTES)
+    public long bytesWritten;
+
+    @Label("Success")
+    public boolean success;
+}
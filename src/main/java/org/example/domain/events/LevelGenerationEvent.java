@@ -0,0 +1,34 @@
+package org.example.domain.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Событие JFR: построение карты уровня (LevelGenerator.createAsciiMap).
+ */
+@Name("org.example.LevelGeneration")
+@Label("Level Generation")
+@Category({"Rogue", "Level"})
+@Description("Generation of a level map: rooms, corridors, items and exit")
+@StackTrace(false)
+public class LevelGenerationEvent extends Event {
+
+    @Label("Level Number")
+    public int levelNumber;
+
+    @Label("Map Width")
+    public int width;
+
+    @Label("Map Height")
+    public int height;
+
+    @Label("Room Count")
+    public int roomCount;
+
+    @Label("Item Count")
+    public int itemCount;
+}
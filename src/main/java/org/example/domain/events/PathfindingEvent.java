@@ -0,0 +1,29 @@
+package org.example.domain.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Событие JFR: поиск пути A* для врага.
+ */
+@Name("org.example.Pathfinding")
+@Label("Enemy Pathfinding")
+@Category({"Rogue", "Enemy AI"})
+@Description("A* path search for an enemy")
+@StackTrace(false)
+public class PathfindingEvent extends Event {
+
+    @Label("Level Number")
+    public int levelNumber;
+
+    @Label("Enemy Count")
+    public int enemyCount;
+
+    @Label("Path Length")
+    @Description("Number of steps of the found path, -1 if no path exists")
+    public int pathLength;
+}
@@ -0,0 +1,27 @@
+package org.example.domain.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Событие JFR: запись статистики текущей сессии (SessionStatRepository.save).
+ */
+@Name("org.example.StatisticsSave")
+@Label("Statistics Save")
+@Category({"Rogue", "Persistence"})
+@Description("Writing of the current session statistics file")
+@StackTrace(false)
+public class StatisticsSaveEvent extends Event {
+
+    @Label("Level Number")
+    public int levelNumber;
+
+    @Label("Bytes Written")
+    @DataAmount(DataAmount.BYTES)
+    public long bytesWritten;
+}
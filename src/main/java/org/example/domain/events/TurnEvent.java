@@ -0,0 +1,32 @@
+package org.example.domain.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Событие JFR: ход игрового цикла от получения команды до конца хода врагов.
+ * Ожидание ввода в длительность не входит.
+ */
+@Name("org.example.Turn")
+@Label("Game Turn")
+@Category({"Rogue", "Game Loop"})
+@Description("Processing of one turn: player command, field of view and enemy moves")
+@StackTrace(false)
+public class TurnEvent extends Event {
+
+    @Label("Turn Number")
+    public long turnNumber;
+
+    @Label("Level Number")
+    public int levelNumber;
+
+    @Label("Enemy Count")
+    public int enemyCount;
+
+    @Label("Command")
+    public String command;
+}
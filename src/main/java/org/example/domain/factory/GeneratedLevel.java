@@ -0,0 +1,62 @@
+package org.example.domain.factory;
+
+import org.example.domain.entity.Enemy;
+import org.example.domain.entity.Item;
+import org.example.domain.model.Position;
+import org.example.domain.model.Room;
+
+import java.util.List;
+
+/**
+ * Полностью сгенерированный уровень: карта, комнаты, предметы, враги и стартовая позиция игрока.
+ * Хранит также генератор, построивший уровень, чтобы основной генератор мог
+ * принять его внутренние структуры без повторного построения.
+ */
+public final class GeneratedLevel {
+    private final int levelNumber;
+    private final char[][] map;
+    private final List<Room> rooms;
+    private final List<Item> items;
+    private final List<Enemy> enemies;
+    private final Position startPosition;
+    private final LevelGenerator generator;
+
+    GeneratedLevel(int levelNumber, char[][] map, List<Room> rooms, List<Item> items,
+                   List<Enemy> enemies, Position startPosition, LevelGenerator generator) {
+        this.levelNumber = levelNumber;
+        this.map = map;
+        this.rooms = rooms;
+        this.items = items;
+        this.enemies = enemies;
+        this.startPosition = startPosition;
+        this.generator = generator;
+    }
+
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+
+    public char[][] getMap() {
+        return map;
+    }
+
+    public List<Room> getRooms() {
+        return rooms;
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public List<Enemy> getEnemies() {
+        return enemies;
+    }
+
+    public Position getStartPosition() {
+        return startPosition;
+    }
+
+    LevelGenerator getGenerator() {
+        return generator;
+    }
+}
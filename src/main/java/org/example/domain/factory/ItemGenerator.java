@@ -1,5 +1,6 @@
 package org.example.domain.factory;
 
+import org.example.config.GameConstants;
 import org.example.domain.entity.Item;
 import java.util.ArrayList;
 import java.util.List;
@@ -11,24 +12,30 @@ import java.util.Random;
  */
 public class ItemGenerator {
 
-    // Общий генератор случайных чисел для всего класса
-    private static final Random rand = new Random();
-
     /**
      * Генерирует список предметов для указанного уровня подземелья
      *
      * @param level Уровень подземелья (от 1 и выше)
+     * @param rand  Поток случайных чисел для предметов
      * @return Список сгенерированных предметов
      */
-    public static List<Item> generateForLevel(int level) {
+    public static List<Item> generateForLevel(int level, Random rand) {
+        return generateForLevel(level, rand, GameConstants.Map.ROOMS);
+    }
+
+    /**
+     * Генерирует предметы для уровня с заданным числом комнат.
+     * Количество предметов растет пропорционально числу комнат.
+     */
+    public static List<Item> generateForLevel(int level, Random rand, int roomCount) {
         List<Item> items = new ArrayList<>();
 
         // Базовое количество предметов увеличивается с уровнем
-        int itemCount = 12 + level * 5;
+        int itemCount = (12 + level * 5) * roomCount / GameConstants.Map.ROOMS;
 
         // Генерация каждого предмета
         for (int i = 0; i < itemCount; i++) {
-            Item item = generateSingleItem(level);
+            Item item = generateSingleItem(level, rand);
             items.add(item);
         }
 
@@ -41,7 +48,7 @@ public class ItemGenerator {
      * @param level Уровень подземелья для расчета характеристик
      * @return Сгенерированный предмет
      */
-    private static Item generateSingleItem(int level) {
+    private static Item generateSingleItem(int level, Random rand) {
         int roll = rand.nextInt(100);
 
         // Распределение вероятностей:
@@ -52,22 +59,22 @@ public class ItemGenerator {
         // 68-99: Оружие (32%)
 
         if (roll < 8) {
-            return generateTreasure(level);
+            return generateTreasure(level, rand);
         } else if (roll < 28) {
-            return generateFood(level);
+            return generateFood(level, rand);
         } else if (roll < 50) {
-            return generateElixir(level);
+            return generateElixir(level, rand);
         } else if (roll < 68) {
-            return generateScroll();
+            return generateScroll(rand);
         } else {
-            return generateWeapon(level);
+            return generateWeapon(level, rand);
         }
     }
 
     /**
      * Генерирует сокровище (золото)
      */
-    private static Item generateTreasure(int level) {
+    private static Item generateTreasure(int level, Random rand) {
         // Количество золота увеличивается с уровнем
         int goldAmount = 50 + rand.nextInt(100) + level * 40;
         return new Item("treasure", "Gold", 0, 0, 0, 0, goldAmount);
@@ -76,7 +83,7 @@ public class ItemGenerator {
     /**
      * Генерирует еду (восстанавливает здоровье)
      */
-    private static Item generateFood(int level) {
+    private static Item generateFood(int level, Random rand) {
         // Эффективность еды увеличивается с уровнем
         int healthRestore = 8 + level + rand.nextInt(6);
         return new Item("food", "Food", healthRestore, 0, 0, 0, 0);
@@ -85,7 +92,7 @@ public class ItemGenerator {
     /**
      * Генерирует эликсир (увеличивает характеристики)
      */
-    private static Item generateElixir(int level) {
+    private static Item generateElixir(int level, Random rand) {
         boolean isStrength = rand.nextBoolean();
         String name;
         int agilityBonus;
@@ -107,7 +114,7 @@ public class ItemGenerator {
     /**
      * Генерирует магический свиток
      */
-    private static Item generateScroll() {
+    private static Item generateScroll(Random rand) {
         int type = rand.nextInt(3);
 
         return switch (type) {
@@ -120,7 +127,7 @@ public class ItemGenerator {
     /**
      * Генерирует оружие
      */
-    private static Item generateWeapon(int level) {
+    private static Item generateWeapon(int level, Random rand) {
         String name;
         int damageBonus;
 
@@ -1,10 +1,12 @@
 package org.example.domain.factory;
 
-import org.example.config.GameConstants;
 import org.example.domain.entity.Enemy;
 import org.example.domain.entity.GameSession;
 import org.example.domain.entity.Item;
+import org.example.domain.events.LevelGenerationEvent;
 import org.example.domain.enums.EnemyType;
+import org.example.domain.model.MapLayout;
+import org.example.domain.model.RandomStreams;
 import org.example.domain.model.Room;
 import org.example.domain.model.Position;
 
@@ -19,28 +21,54 @@ import static org.example.config.GameConstants.ProbabilitiesAndBalance.*;
  * Создает карту с комнатами, коридорами и предметами.
  */
 public class LevelGenerator {
-    // Константы генерации карты
-    private static final int ROOMS_AT_LEVEL = GameConstants.Map.ROOMS;
-    private static final int MAX_WIDTH_ROOM_SIZE = GameConstants.Map.WIDTH / 3 - 2;
-    private static final int MIN_WIDTH_ROOM_SIZE = MAX_WIDTH_ROOM_SIZE / 4;
-    private static final int MAX_HEIGHT_ROOM_SIZE = GameConstants.Map.HEIGHT / 3 - 2;
-    private static final int MIN_HEIGHT_ROOM_SIZE = MAX_HEIGHT_ROOM_SIZE / 2 + 1;
+    // Параметры генерации карты (зависят от размеров карты и сетки комнат)
+    private final MapLayout layout;
+    private final int maxWidthRoomSize;
+    private final int minWidthRoomSize;
+    private final int maxHeightRoomSize;
+    private final int minHeightRoomSize;
 
     // Основные структуры данных
     private List<Room> rooms;
-    private final Random rand;
+    private final RandomStreams streams;
+    private Random rand;        // раскладка комнат и коридоров
+    private Random itemRand;    // предметы и их размещение
+    private Random enemyRand;   // враги
     private List<Item> items = new ArrayList<>();
 
-    // Внутренние карты для быстрого доступа
-    private final Map<Position, Room> cellToRoomMap = new HashMap<>();    // Клетка -> комната
-    private final Set<Position> corridorCells = new HashSet<>();          // Клетки коридоров
-    private final Map<Position, Character> cellTypeMap = new HashMap<>(); // Тип клетки (символ)
+    // Внутренние сетки для быстрого доступа (индекс клетки y * gridWidth + x)
+    private int gridWidth;
+    private int gridHeight;
+    private short[] roomGrid = new short[0]; // Клетка -> индекс комнаты + 1 (0 - вне комнат)
+    private short[] cellTypes = new short[0]; // Тип клетки (символ карты)
 
     /**
-     * Конструктор генератора уровней.
+     * Конструктор генератора уровней со случайным зерном.
      */
     public LevelGenerator() {
-        this.rand = new Random();
+        this(RandomStreams.randomSeed());
+    }
+
+    /**
+     * Конструктор генератора уровней. Уровень с данным номером определяется зерном streams.
+     */
+    public LevelGenerator(RandomStreams streams) {
+        this(streams, MapLayout.DEFAULT);
+    }
+
+    /**
+     * Конструктор генератора уровней с заданными размерами карты и сеткой комнат.
+     */
+    public LevelGenerator(RandomStreams streams, MapLayout layout) {
+        this.streams = streams;
+        this.layout = layout;
+        this.maxWidthRoomSize = layout.getCellWidth() - 2;
+        this.minWidthRoomSize = maxWidthRoomSize / 4;
+        this.maxHeightRoomSize = layout.getCellHeight() - 2;
+        this.minHeightRoomSize = maxHeightRoomSize / 2 + 1;
+        this.rand = streams.levelStream(RandomStreams.Stream.LAYOUT, 0);
+        this.itemRand = streams.levelStream(RandomStreams.Stream.ITEMS, 0);
+        this.enemyRand = streams.levelStream(RandomStreams.Stream.ENEMIES, 0);
     }
 
     /**
@@ -49,8 +77,16 @@ public class LevelGenerator {
      * @return двумерный массив символов, представляющий карту
      */
     public char[][] createAsciiMap(int levelNumber) {
+        LevelGenerationEvent event = new LevelGenerationEvent();
+        event.begin();
+
+        // Свои потоки для каждого уровня: уровень не зависит от истории генератора
+        rand = streams.levelStream(RandomStreams.Stream.LAYOUT, levelNumber);
+        itemRand = streams.levelStream(RandomStreams.Stream.ITEMS, levelNumber);
+        enemyRand = streams.levelStream(RandomStreams.Stream.ENEMIES, levelNumber);
+
         // Инициализация пустой карты
-        char[][] asciiMap = new char[GameConstants.Map.HEIGHT][GameConstants.Map.WIDTH];
+        char[][] asciiMap = new char[layout.getHeight()][layout.getWidth()];
         initializeEmptyMap(asciiMap);
 
         // Генерация и размещение комнат
@@ -69,17 +105,63 @@ public class LevelGenerator {
         // Обновление внутренних структур
         rebuildInternalMaps(asciiMap);
 
+        event.end();
+        if (event.shouldCommit()) {
+            event.levelNumber = levelNumber;
+            event.width = layout.getWidth();
+            event.height = layout.getHeight();
+            event.roomCount = rooms.size();
+            event.itemCount = items.size();
+            event.commit();
+        }
         return asciiMap;
     }
 
+    /**
+     * Генерирует уровень целиком: карту, предметы и врагов.
+     * Игрок ставится в стартовую комнату, враги не попадают на его клетку.
+     */
+    public GeneratedLevel generateLevel(int levelNumber) {
+        char[][] asciiMap = createAsciiMap(levelNumber);
+        Position start = findStartPosition();
+        List<Enemy> enemies = generateEnemies(levelNumber, asciiMap, start);
+        return new GeneratedLevel(levelNumber, asciiMap, rooms, items, enemies, start, this);
+    }
+
+    /**
+     * Делает уровень, построенный другим генератором, текущим.
+     * Внутренние структуры переносятся по ссылке, без перестроения.
+     */
+    public void adoptLevel(GeneratedLevel level) {
+        LevelGenerator source = level.getGenerator();
+        if (source == this) return;
+
+        rooms = source.rooms;
+        items = source.items;
+        gridWidth = source.gridWidth;
+        gridHeight = source.gridHeight;
+        roomGrid = source.roomGrid;
+        cellTypes = source.cellTypes;
+    }
+
+    /**
+     * Возвращает стартовую позицию игрока в стартовой комнате.
+     */
+    private Position findStartPosition() {
+        for (Room room : rooms) {
+            if (room.isStartRoom()) {
+                return new Position(room.getX1() + 2, room.getY1() + 2);
+            }
+        }
+        return null;
+    }
+
     /**
      * Инициализирует карту пустыми клетками (пробелами).
      */
     private void initializeEmptyMap(char[][] asciiMap) {
-        for (int y = 0; y < GameConstants.Map.HEIGHT; y++) {
-            for (int x = 0; x < GameConstants.Map.WIDTH; x++) {
-                asciiMap[y][x] = ' ';
-            }
+        for (char[] row : asciiMap) {
+            Arrays.fill(row, ' ');
         }
     }
 
@@ -87,8 +169,7 @@ public class LevelGenerator {
      * Генерирует и размещает предметы на карте.
      */
     private void generateAndPlaceItems(char[][] asciiMap, int levelNumber) {
-        items = ItemGenerator.generateForLevel(levelNumber);
-        Random randomItem = new Random();
+        items = ItemGenerator.generateForLevel(levelNumber, itemRand, layout.getRoomCount());
 
         for (Item item : items) {
             boolean placed = false;
@@ -96,9 +177,9 @@ public class LevelGenerator {
 
             // Пытаемся разместить предмет в случайной позиции внутри комнаты
             while (!placed && attempts < 100) {
-                Room room = rooms.get(randomItem.nextInt(rooms.size()));
-                int rx = room.getX1() + 1 + randomItem.nextInt(room.getWidth() - 2);
-                int ry = room.getY1() + 1 + randomItem.nextInt(room.getHeight() - 2);
+                Room room = rooms.get(itemRand.nextInt(rooms.size()));
+                int rx = room.getX1() + 1 + itemRand.nextInt(room.getWidth() - 2);
+                int ry = room.getY1() + 1 + itemRand.nextInt(room.getHeight() - 2);
 
                 // Размещаем только на свободном полу
                 if (asciiMap[ry][rx] == '.') {
@@ -143,11 +224,12 @@ public class LevelGenerator {
     private List<Room> createRooms(int levelNumber) {
         List<Room> rooms = new ArrayList<>();
 
-        for (int i = 0; i < ROOMS_AT_LEVEL; i++) {
+        int roomCount = layout.getRoomCount();
+        for (int i = 0; i < roomCount; i++) {
             Room room = generateRandomRoom(i);
             // Первая комната - стартовая, последняя - с выходом
             if (i == 0) room.setStartRoom(true);
-            if (i == ROOMS_AT_LEVEL - 1) room.setExitRoom(true);
+            if (i == roomCount - 1) room.setExitRoom(true);
             rooms.add(room);
         }
         return rooms;
@@ -157,12 +239,13 @@ public class LevelGenerator {
      * Генерирует случайную комнату.
      */
     private Room generateRandomRoom(int index) {
-        int width = MIN_WIDTH_ROOM_SIZE + rand.nextInt(MAX_WIDTH_ROOM_SIZE - MIN_WIDTH_ROOM_SIZE);
-        int height = MIN_HEIGHT_ROOM_SIZE + rand.nextInt(MAX_HEIGHT_ROOM_SIZE - MIN_HEIGHT_ROOM_SIZE);
+        int width = minWidthRoomSize + rand.nextInt(maxWidthRoomSize - minWidthRoomSize);
+        int height = minHeightRoomSize + rand.nextInt(maxHeightRoomSize - minHeightRoomSize);
 
-        // Распределение комнат в сетке 3x3
-        int gridX = (index % 3) * (MAX_WIDTH_ROOM_SIZE + 3);
-        int gridY = (index / 3) * (MAX_HEIGHT_ROOM_SIZE + 3);
+        // Распределение комнат по ячейкам сетки
+        int columns = layout.getRoomColumns();
+        int gridX = (index % columns) * (maxWidthRoomSize + 3);
+        int gridY = (index / columns) * (maxHeightRoomSize + 3);
 
         return new Room(index, new Position(gridX, gridY), width, height);
     }
@@ -171,8 +254,6 @@ public class LevelGenerator {
      * Добавляет комнаты на карту.
      */
     private void addRoomsOnAsciiMap(char[][] asciiMap) {
-        cellToRoomMap.clear();
-
         // Рисуем стены комнат
         for (Room room : rooms) {
             drawRoomWalls(asciiMap, room);
@@ -190,14 +271,14 @@ public class LevelGenerator {
     private void drawRoomWalls(char[][] asciiMap, Room room) {
         // Горизонтальные стены
         for (int x = room.getX1(); x <= room.getX2(); x++) {
-            setCell(asciiMap, x, room.getY1(), '~', room); // Верхняя стена
-            setCell(asciiMap, x, room.getY2(), '~', room); // Нижняя стена
+            setCell(asciiMap, x, room.getY1(), '~'); // Верхняя стена
+            setCell(asciiMap, x, room.getY2(), '~'); // Нижняя стена
         }
 
         // Вертикальные стены
         for (int y = room.getY1(); y <= room.getY2(); y++) {
-            setCell(asciiMap, room.getX1(), y, '|', room); // Левая стена
-            setCell(asciiMap, room.getX2(), y, '|', room); // Правая стена
+            setCell(asciiMap, room.getX1(), y, '|'); // Левая стена
+            setCell(asciiMap, room.getX2(), y, '|'); // Правая стена
         }
     }
 
@@ -207,35 +288,32 @@ public class LevelGenerator {
     private void fillRoomFloor(char[][] asciiMap, Room room) {
         for (int x = room.getX1() + 1; x < room.getX2(); x++) {
             for (int y = room.getY1() + 1; y < room.getY2(); y++) {
-                setCell(asciiMap, x, y, '.', room);
+                setCell(asciiMap, x, y, '.');
             }
         }
     }
 
     /**
-     * Устанавливает символ в клетке и обновляет внутренние структуры.
+     * Устанавливает символ в клетке. Внутренние сетки строятся один раз
+     * по готовой карте в rebuildInternalMaps.
      */
-    private void setCell(char[][] asciiMap, int x, int y, char symbol, Room room) {
+    private void setCell(char[][] asciiMap, int x, int y, char symbol) {
         asciiMap[y][x] = symbol;
-        Position pos = new Position(x, y);
-        cellTypeMap.put(pos, symbol);
-
-        if (room != null) {
-            cellToRoomMap.put(pos, room);
-        }
     }
 
     /**
      * Добавляет коридоры, соединяющие комнаты.
      */
     private void addCorridorsOnAsciiMap(char[][] asciiMap) {
-        // Соединяем комнаты по сетке 3x3
-        for (int yRoom = 0; yRoom < 3; yRoom++) {
-            for (int xRoom = 0; xRoom < 3; xRoom++) {
-                if (xRoom < 2) {
+        // Соединяем соседние комнаты сетки
+        int columns = layout.getRoomColumns();
+        int rows = layout.getRoomRows();
+        for (int yRoom = 0; yRoom < rows; yRoom++) {
+            for (int xRoom = 0; xRoom < columns; xRoom++) {
+                if (xRoom < columns - 1) {
                     addHorizontalCorridor(asciiMap, xRoom, yRoom);
                 }
-                if (yRoom < 2) {
+                if (yRoom < rows - 1) {
                     addVerticalCorridor(asciiMap, xRoom, yRoom);
                 }
             }
@@ -246,7 +324,7 @@ public class LevelGenerator {
      * Добавляет горизонтальный коридор между двумя комнатами.
      */
     private void addHorizontalCorridor(char[][] asciiMap, int xRoom, int yRoom) {
-        int first = yRoom * 3 + xRoom;
+        int first = yRoom * layout.getRoomColumns() + xRoom;
         int second = first + 1;
 
         Room room1 = rooms.get(first);
@@ -269,17 +347,14 @@ public class LevelGenerator {
         addHorizontalLine(asciiMap, xStart + 1, crossLine + 1, yStart);
         addVerticalLine(asciiMap, yStart, yEnd, crossLine);
         addHorizontalLine(asciiMap, crossLine, xEnd, yEnd);
-
-        // Обновляем структуры данных
-        updateCorridorCells(xStart, xEnd, yStart, yEnd);
     }
 
     /**
      * Добавляет вертикальный коридор между двумя комнатами.
      */
     private void addVerticalCorridor(char[][] asciiMap, int xRoom, int yRoom) {
-        int first = yRoom * 3 + xRoom;
-        int second = first + 3;
+        int first = yRoom * layout.getRoomColumns() + xRoom;
+        int second = first + layout.getRoomColumns();
 
         Room room1 = rooms.get(first);
         Room room2 = rooms.get(second);
@@ -303,24 +378,6 @@ public class LevelGenerator {
         addVerticalLine(asciiMap, crossLine, yEnd, xEnd);
     }
 
-    /**
-     * Обновляет клетки коридоров во внутренних структурах.
-     */
-    private void updateCorridorCells(int x1, int x2, int y1, int y2) {
-        int minX = Math.min(x1, x2);
-        int maxX = Math.max(x1, x2);
-        int minY = Math.min(y1, y2);
-        int maxY = Math.max(y1, y2);
-
-        for (int x = minX; x <= maxX; x++) {
-            for (int y = minY; y <= maxY; y++) {
-                Position pos = new Position(x, y);
-                corridorCells.add(pos);
-                cellTypeMap.put(pos, CORRIDOR);
-            }
-        }
-    }
-
     /**
      * Рисует горизонтальную линию символов.
      */
@@ -366,31 +423,39 @@ public class LevelGenerator {
      * Перестраивает внутренние структуры данных на основе карты.
      */
     private void rebuildInternalMaps(char[][] map) {
-        cellToRoomMap.clear();
-        corridorCells.clear();
-        cellTypeMap.clear();
-
-        if (map == null || rooms == null) return;
-
-        // Заполняем карту типов клеток
-        for (int y = 0; y < map.length; y++) {
-            for (int x = 0; x < map[y].length; x++) {
-                Position pos = new Position(x, y);
-                char tile = map[y][x];
-                cellTypeMap.put(pos, tile);
+        if (map == null || rooms == null) {
+            gridWidth = 0;
+            gridHeight = 0;
+            roomGrid = new short[0];
+            cellTypes = new short[0];
+            return;
+        }
 
-                if (tile == CORRIDOR) {
-                    corridorCells.add(pos);
-                }
+        // Новые массивы, а не очистка старых: прежние сетки могут принадлежать принятому уровню
+        gridHeight = map.length;
+        gridWidth = gridHeight > 0 ? map[0].length : 0;
+        roomGrid = new short[gridWidth * gridHeight];
+        cellTypes = new short[gridWidth * gridHeight];
+
+        // Заполняем сетку типов клеток
+        for (int y = 0; y < gridHeight; y++) {
+            char[] row = map[y];
+            int base = y * gridWidth;
+            for (int x = 0; x < gridWidth; x++) {
+                cellTypes[base + x] = (short) row[x];
             }
         }
 
-        // Заполняем карту клетка->комната
-        for (Room room : rooms) {
-            for (int x = room.getX1(); x <= room.getX2(); x++) {
-                for (int y = room.getY1(); y <= room.getY2(); y++) {
-                    cellToRoomMap.put(new Position(x, y), room);
-                }
+        // Заполняем сетку клетка->комната
+        for (int i = 0; i < rooms.size(); i++) {
+            Room room = rooms.get(i);
+            short roomId = (short) (i + 1);
+            int x1 = Math.max(0, room.getX1());
+            int x2 = Math.min(gridWidth - 1, room.getX2());
+            int y1 = Math.max(0, room.getY1());
+            int y2 = Math.min(gridHeight - 1, room.getY2());
+            for (int y = y1; y <= y2; y++) {
+                Arrays.fill(roomGrid, y * gridWidth + x1, y * gridWidth + x2 + 1, roomId);
             }
         }
     }
@@ -400,10 +465,18 @@ public class LevelGenerator {
      * Метод не меняет session напрямую — возвращает список, который может быть добавлен в session.
      */
     public List<Enemy> generateEnemiesForSession(GameSession session, char[][] asciiMap) {
+        Position playerPos = session.getPlayer() != null ? session.getPlayer().getPosition() : null;
+        return generateEnemies(session.getLevelNum(), asciiMap, playerPos);
+    }
+
+    /**
+     * Генерирует врагов для уровня levelNum, не занимая клетку playerPos.
+     */
+    private List<Enemy> generateEnemies(int levelNum, char[][] asciiMap, Position playerPos) {
         List<Room> rooms = getRooms();
         if (rooms == null || rooms.isEmpty()) return Collections.emptyList();
 
-        Random rand = getRand();
+        Random rand = enemyRand;
         int totalRoomsWithEnemies = calculateTotalRoomsWithEnemies(rooms.size(), rand);
 
         List<Room> shuffled = new ArrayList<>(rooms);
@@ -412,13 +485,11 @@ public class LevelGenerator {
         List<Enemy> enemies = new ArrayList<>();
         int enemiesPlaced = 0;
 
-        Position playerPos = session.getPlayer() != null ? session.getPlayer().getPosition() : null;
-
         for (Room room : shuffled) {
             if (enemiesPlaced >= totalRoomsWithEnemies) break;
             if (room.isStartRoom()) continue;
 
-            enemiesPlaced += createEnemiesInRoom(room, rand, session, asciiMap, enemies, playerPos);
+            enemiesPlaced += createEnemiesInRoom(room, rand, levelNum, asciiMap, enemies, playerPos);
         }
 
         return enemies;
@@ -435,7 +506,7 @@ public class LevelGenerator {
      * Заполняет переданный список enemies новыми сущностями из комнаты.
      * Проверяет, чтобы враг не оказался на стене, предмете или на позиции игрока.
      */
-    private int createEnemiesInRoom(Room room, Random rand, GameSession session, char[][] asciiMap,
+    private int createEnemiesInRoom(Room room, Random rand, int levelNum, char[][] asciiMap,
                                     List<Enemy> outEnemies, Position playerPos) {
         int created = 0;
         int enemiesInRoom = 1; // можно усложнить по уровню или рандому
@@ -463,7 +534,7 @@ public class LevelGenerator {
                 }
 
                 EnemyType randomType = EnemyType.values()[rand.nextInt(EnemyType.values().length)];
-                Enemy enemy = randomType.create(session.getLevelNum());
+                Enemy enemy = randomType.create(levelNum);
                 enemy.setX(enemyX);
                 enemy.setY(enemyY);
 
@@ -488,6 +559,23 @@ public class LevelGenerator {
     }
 
     public Room getRoomAt(int x, int y) {
-        return cellToRoomMap.get(new Position(x, y));
+        if (x < 0 || y < 0 || x >= gridWidth || y >= gridHeight) return null;
+        int roomId = roomGrid[y * gridWidth + x];
+        return roomId == 0 ? null : rooms.get(roomId - 1);
+    }
+
+    /**
+     * Возвращает символ клетки на момент построения уровня (пробел вне карты).
+     */
+    public char getCellType(int x, int y) {
+        if (x < 0 || y < 0 || x >= gridWidth || y >= gridHeight) return ' ';
+        return (char) cellTypes[y * gridWidth + x];
+    }
+
+    /**
+     * Проверяет, является ли клетка коридором.
+     */
+    public boolean isCorridor(int x, int y) {
+        return getCellType(x, y) == CORRIDOR;
     }
 }
\ No newline at end of file
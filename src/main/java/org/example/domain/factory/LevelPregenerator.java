@@ -0,0 +1,87 @@
+package org.example.domain.factory;
+
+import org.example.domain.model.MapLayout;
+import org.example.domain.model.RandomStreams;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Фоновая генерация следующего уровня.
+ * Уровень не зависит от состояния игрока (только от номера), поэтому его можно
+ * построить заранее, пока игрок проходит текущий. Каждый уровень строится отдельным
+ * экземпляром LevelGenerator, так что фоновый поток не трогает текущий уровень.
+ * Если к моменту спуска уровень еще строится, спуск дожидается фоновой генерации;
+ * синхронно уровень строится, только если он не был заказан или генерация не удалась.
+ */
+public class LevelPregenerator {
+
+    private final RandomStreams streams;
+    private final MapLayout layout;
+    private final ExecutorService worker;
+
+    private Future<GeneratedLevel> pending;  // заказанный уровень
+    private int pendingLevel;                // его номер
+
+    public LevelPregenerator(RandomStreams streams, MapLayout layout) {
+        this.streams = streams;
+        this.layout = layout;
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "level-pregen");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Заказывает фоновую генерацию уровня. Повторный заказ того же уровня игнорируется,
+     * заказ другого уровня отменяет предыдущий.
+     */
+    public synchronized void requestLevel(int levelNumber) {
+        if (pending != null) {
+            if (pendingLevel == levelNumber) return;
+            pending.cancel(true);
+        }
+        pendingLevel = levelNumber;
+        pending = worker.submit(() -> new LevelGenerator(streams, layout).generateLevel(levelNumber));
+    }
+
+    /**
+     * Возвращает уровень: заказанный уровень берется из фоновой генерации (при необходимости
+     * с ожиданием ее окончания), незаказанный генерируется синхронно.
+     */
+    public synchronized GeneratedLevel take(int levelNumber) {
+        Future<GeneratedLevel> ready = pending;
+        boolean matches = ready != null && pendingLevel == levelNumber;
+        pending = null;
+
+        if (matches) {
+            // Генерация уже идет: дождаться ее дешевле, чем начинать заново
+            try {
+                return ready.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | CancellationException e) {
+                System.err.println("Level pre-generation failed: " + e.getMessage());
+            }
+        } else if (ready != null) {
+            ready.cancel(true);
+        }
+        return new LevelGenerator(streams, layout).generateLevel(levelNumber);
+    }
+
+    /**
+     * Останавливает фоновый поток, отменяя незавершенную генерацию.
+     */
+    public synchronized void shutdown() {
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+        worker.shutdownNow();
+    }
+}
@@ -20,6 +20,7 @@ import static org.example.config.GameConstants.TextMessages.DIED;
 import static org.example.config.GameConstants.TextMessages.MESSAGE_DURATION;
 import static org.example.config.GameConstants.TextMessages.VICTORY;
 import static org.example.config.GameConstants.Control.ESC_KEY_CODE;
+import static org.example.config.GameConstants.Control.KEY_DEBUG_OVERLAY;
 
 public class GameCommandHandler {
 
@@ -99,6 +100,9 @@ public class GameCommandHandler {
         // Снятие оружия
         if (keyCode == 113 || keyCode == 81) return InputCommand.unequipWeapon();
 
+        // Отладочный оверлей
+        if (keyCode == KEY_DEBUG_OVERLAY) return InputCommand.toggleDebug();
+
         // Пропуск хода
         if (keyCode == 46 || keyCode == 32) return InputCommand.none();
 
@@ -119,6 +123,8 @@ public class GameCommandHandler {
                    message.setActiveMessageLine1(combatService.attackEnemy(session, enemyAtPosition, currentSessionStat, statisticsService));
                     message.setMessageTimer(MESSAGE_DURATION);
                     if (enemyAtPosition.getHealth() <= 0) {
+                        // Удаление из таблицы врагов; отвязанный враг сохраняет координаты для рендерера
+                        session.removeEnemy(enemyAtPosition);
                         renderer.removeEnemy(session, enemyAtPosition, asciiMap);
                         statisticsService.incrementEnemies(currentSessionStat);
                     }
@@ -308,8 +314,9 @@ public class GameCommandHandler {
 
         if (item.getType().equalsIgnoreCase("treasure")) {
             inv.add(item);
-            session.getCurrentLevelItems().remove(item);
+            session.removeLevelItem(item);
             asciiMap[y][x] = GameConstants.Icons.FLOOR;
+            fogOfWarService.onMapCellChanged(x, y);
             message.setActiveMessageLine3("Picked up: " + item.getValue() + " gold");
             message.setMessageTimer(MESSAGE_DURATION);
             try {
@@ -332,8 +339,9 @@ public class GameCommandHandler {
         }
 
         inv.add(item);
-        session.getCurrentLevelItems().remove(item);
+        session.removeLevelItem(item);
         asciiMap[y][x] = GameConstants.Icons.FLOOR;
+        fogOfWarService.onMapCellChanged(x, y);
         message.setActiveMessageLine3("Picked up: " + item.getSubType());
         message.setMessageTimer(MESSAGE_DURATION);
     }
@@ -343,6 +351,7 @@ public class GameCommandHandler {
         renderer.drawMessage(DEATH_MESSAGE_X, DIED, COLOR_RED);
         renderer.readCharacter();
         statisticsService.addToScoreboard(currentSessionStat, session);
+        statisticsService.close();
     }
 
     public void handleVictory() throws IOException {
@@ -350,6 +359,7 @@ public class GameCommandHandler {
         renderer.drawMessage(DEATH_MESSAGE_Y, VICTORY, COLOR_GREEN);
         renderer.readCharacter();
         statisticsService.addToScoreboard(currentSessionStat, session);
+        statisticsService.close();
     }
 
     public boolean handleSleepTurn() throws IOException {
@@ -381,15 +391,12 @@ public class GameCommandHandler {
     }
 
     private Item getItemAt(int x, int y) {
-        for (Item item : session.getCurrentLevelItems()) {
-            if (item.getX() == x && item.getY() == y) return item;
-        }
-        return null;
+        return session.getItemAt(x, y);
     }
 
     private boolean isValidMove(int x, int y) {
-        return x >= 0 && x < GameConstants.Map.WIDTH &&
-                y >= 0 && y < GameConstants.Map.HEIGHT &&
+        return y >= 0 && y < asciiMap.length &&
+                x >= 0 && x < asciiMap[y].length &&
                 asciiMap[y][x] != W_WALL &&
                 asciiMap[y][x] != H_WALL &&
                 asciiMap[y][x] != EMPTINESS;
@@ -399,12 +406,7 @@ public class GameCommandHandler {
      * Проверяет наличие предмета на указанной позиции
      */
     private boolean isItemAtPosition(int x, int y) {
-        for (Item item : session.getCurrentLevelItems()) {
-            if (item.getX() == x && item.getY() == y) {
-                return true;
-            }
-        }
-        return false;
+        return session.getItemAt(x, y) != null;
     }
 
     /**
@@ -423,8 +425,8 @@ public class GameCommandHandler {
             int y = py + dir[1];
 
             // Проверяем границы и что клетка - пол (FLOOR)
-            if (x >= 0 && x < GameConstants.Map.WIDTH &&
-                    y >= 0 && y < GameConstants.Map.HEIGHT &&
+            if (y >= 0 && y < asciiMap.length &&
+                    x >= 0 && x < asciiMap[y].length &&
                     asciiMap[y][x] == GameConstants.Icons.FLOOR &&
                     !isItemAtPosition(x, y)) {
                 return new Position(x, y);
@@ -446,12 +448,13 @@ public class GameCommandHandler {
         item.setX(x);
         item.setY(y);
 
-        // Добавляем в список предметов уровня
-        session.getCurrentLevelItems().add(item);
+        // Добавляем в список и индекс предметов уровня
+        session.addLevelItem(item);
 
         // Обновляем символ на карте
         char symbol = getSymbolForItem(item);
         asciiMap[y][x] = symbol;
+        fogOfWarService.onMapCellChanged(x, y);
     }
 
     /**
@@ -19,6 +19,7 @@ public class InputCommand {
         USE_ITEM,       // Использование предмета
         SELECT_INDEX,   // Выбор индекса
         UNEQUIP_WEAPON, // Снятие оружия
+        TOGGLE_DEBUG,   // Показ/скрытие оверлея замеров (не тратит ход)
         QUIT            // Выход из игры
     }
 
@@ -82,6 +83,13 @@ public class InputCommand {
         return new InputCommand(Type.UNEQUIP_WEAPON, null, null, -1);
     }
 
+    /**
+     * Создает команду переключения отладочного оверлея.
+     */
+    public static InputCommand toggleDebug() {
+        return new InputCommand(Type.TOGGLE_DEBUG, null, null, -1);
+    }
+
     // --- Геттеры ---
 
     public Type getType() {
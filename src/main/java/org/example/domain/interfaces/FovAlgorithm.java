@@ -0,0 +1,33 @@
+package org.example.domain.interfaces;
+
+import org.example.domain.model.CellBitSet;
+
+import static org.example.config.GameConstants.Icons.*;
+
+/**
+ * Алгоритм поля зрения (FOV).
+ * Определяет клетки, видимые из заданной точки в пределах радиуса обзора.
+ */
+public interface FovAlgorithm {
+
+    /**
+     * Отмечает в множестве visible все клетки, видимые из точки (originX, originY).
+     * Непрозрачные клетки (стены, пустота) видимы, но закрывают обзор за собой.
+     *
+     * @param map     карта уровня
+     * @param originX координата X наблюдателя
+     * @param originY координата Y наблюдателя
+     * @param radius  радиус обзора (по Чебышеву)
+     * @param visible множество, в которое добавляются видимые клетки
+     */
+    void compute(char[][] map, int originX, int originY, int radius, CellBitSet visible);
+
+    /**
+     * Проверяет, закрывает ли клетка обзор. Клетки за пределами карты непрозрачны.
+     */
+    static boolean isOpaque(char[][] map, int x, int y) {
+        if (y < 0 || y >= map.length || x < 0 || x >= map[y].length) return true;
+        char cell = map[y][x];
+        return cell == W_WALL || cell == H_WALL || cell == EMPTINESS;
+    }
+}
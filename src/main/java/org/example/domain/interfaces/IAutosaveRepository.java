@@ -1,6 +1,8 @@
 package org.example.domain.interfaces;
 
 import org.example.datalayer.GameState;
+import org.example.datalayer.SaveSlotMetadata;
+import org.example.domain.enums.SaveFormat;
 
 import java.util.List;
 
@@ -9,6 +11,17 @@ public interface IAutosaveRepository {
     GameState loadLatest();
     GameState load(int slotIndex);
     List<String> getSaveInfo();
+    List<SaveSlotMetadata> getSaveSlotMetadata();
     void cleanupOldSaves();
     boolean hasSaves();
+    void flush();
+    SaveFormat getSaveFormat();
+    void setSaveFormat(SaveFormat saveFormat);
+
+    /**
+     * Дописывает ожидающие сохранения и останавливает фоновую запись (если она есть).
+     */
+    default void close() {
+        flush();
+    }
 }
\ No newline at end of file
@@ -3,11 +3,34 @@ package org.example.domain.interfaces;
 import org.example.domain.entity.GameSession;
 import org.example.domain.entity.SessionStat;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.example.config.GameConstants.PathToFiles.SCOREBOARD_TOP_N;
+
 public interface ISessionStatRepository {
     void save(SessionStat sessionStat) throws IOException;
     void addToScoreboard(SessionStat sessionStat, GameSession gameSession) throws IOException;
     void reset(SessionStat sessionStat) throws IOException;
+    /**
+     * Все сохраненные результаты (по убыванию рейтинга).
+     */
     List<SessionStat> getAllStats();
+
+    /**
+     * Лучшие результаты для экрана рекордов (по убыванию рейтинга, не больше SCOREBOARD_TOP_N).
+     */
+    default List<SessionStat> getTopStats() {
+        List<SessionStat> all = getAllStats();
+        return new ArrayList<>(all.subList(0, Math.min(all.size(), SCOREBOARD_TOP_N)));
+    }
+
+    void flush() throws IOException;
+
+    /**
+     * Записывает отложенные данные и останавливает фоновую запись (если она есть).
+     */
+    default void close() throws IOException {
+        flush();
+    }
 }
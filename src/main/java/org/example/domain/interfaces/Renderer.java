@@ -99,6 +99,12 @@ public interface Renderer {
                      ItemSelectionState selectionState,
                      Message message);
 
+    /**
+     * Задать строки отладочного оверлея (замеры фаз хода), выводимые вместе с миром.
+     * @param lines Строки оверлея или null, чтобы скрыть его
+     */
+    void setDebugOverlay(List<String> lines);
+
     // ========== СЛУЖЕБНЫЕ МЕТОДЫ ==========
 
     /**
@@ -0,0 +1,43 @@
+package org.example.domain.interfaces;
+
+import org.example.domain.enums.GamePhase;
+
+import java.util.List;
+
+/**
+ * Приемник замеров игрового цикла: длительность каждой фазы хода в наносекундах.
+ * Реализация по умолчанию {@link #NONE} ничего не делает.
+ */
+public interface TurnMetrics {
+
+    TurnMetrics NONE = new TurnMetrics() {
+        @Override
+        public void record(GamePhase phase, long nanos) {
+        }
+    };
+
+    /**
+     * Записывает длительность фазы.
+     */
+    void record(GamePhase phase, long nanos);
+
+    /**
+     * Вызывается после завершения каждого хода.
+     */
+    default void turnCompleted() {
+    }
+
+    /**
+     * Вызывается вместо {@link #turnCompleted()} для итерации цикла, которая не стала ходом
+     * (выход, переключение оверлея): ее замеры не должны попасть в следующий ход.
+     */
+    default void discardTurn() {
+    }
+
+    /**
+     * Короткая текстовая сводка замеров (для отладочного оверлея).
+     */
+    default List<String> getSummaryLines() {
+        return List.of();
+    }
+}
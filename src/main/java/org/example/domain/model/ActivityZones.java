@@ -0,0 +1,133 @@
+package org.example.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Зоны активности уровня: карта делится на прямоугольные зоны (по умолчанию - ячейки
+ * сетки комнат), активны зона игрока и соседние с ней. Акторы вне активных зон
+ * "засыпают" в списке своей зоны и не обрабатываются, пока игрок не подойдет к зоне.
+ * Пробуждение затрагивает только зоны, ставшие активными, поэтому его стоимость
+ * зависит от числа просыпающихся акторов, а не всех акторов уровня.
+ *
+ * @param <T> тип актора
+ */
+public class ActivityZones<T> {
+    private int zoneWidth;
+    private int zoneHeight;
+    private int mapWidth;
+    private int mapHeight;
+    private int columns;
+    private int rows;
+    private List<List<T>> dormant; // спящие акторы по зонам (список зоны создается лениво)
+    private int dormantCount;
+
+    // Зона игрока (-1 - игрок еще не учтен, активных зон нет)
+    private int centerX = -1;
+    private int centerY = -1;
+
+    public ActivityZones(int zoneWidth, int zoneHeight, int mapWidth, int mapHeight) {
+        this.zoneWidth = zoneWidth;
+        this.zoneHeight = zoneHeight;
+        resize(mapWidth, mapHeight);
+    }
+
+    /**
+     * Меняет размер зоны; спящие акторы при этом сбрасываются (см. {@link #clear()}).
+     */
+    public void setZoneSize(int newZoneWidth, int newZoneHeight) {
+        zoneWidth = newZoneWidth;
+        zoneHeight = newZoneHeight;
+        resize(mapWidth, mapHeight);
+    }
+
+    /**
+     * Меняет размеры карты; спящие акторы при этом сбрасываются (см. {@link #clear()}).
+     */
+    public void resize(int mapWidth, int mapHeight) {
+        this.mapWidth = mapWidth;
+        this.mapHeight = mapHeight;
+        columns = Math.max(1, (mapWidth + zoneWidth - 1) / zoneWidth);
+        rows = Math.max(1, (mapHeight + zoneHeight - 1) / zoneHeight);
+        dormant = new ArrayList<>(Collections.nCopies(columns * rows, null));
+        dormantCount = 0;
+        centerX = -1;
+        centerY = -1;
+    }
+
+    /**
+     * Проверяет, находится ли клетка в активной зоне.
+     */
+    public boolean isActive(int x, int y) {
+        if (centerX < 0) return true;
+        return Math.abs(zoneColumn(x) - centerX) <= 1 && Math.abs(zoneRow(y) - centerY) <= 1;
+    }
+
+    /**
+     * Усыпляет актора в зоне клетки (x, y).
+     */
+    public void park(T actor, int x, int y) {
+        int zone = zoneRow(y) * columns + zoneColumn(x);
+        List<T> sleepers = dormant.get(zone);
+        if (sleepers == null) {
+            sleepers = new ArrayList<>();
+            dormant.set(zone, sleepers);
+        }
+        sleepers.add(actor);
+        dormantCount++;
+    }
+
+    /**
+     * Учитывает позицию игрока. Если игрок перешел в другую зону, акторы зон,
+     * ставших активными, передаются в wake и удаляются из спящих.
+     */
+    public void updateCenter(int playerX, int playerY, Consumer<T> wake) {
+        int newX = zoneColumn(playerX);
+        int newY = zoneRow(playerY);
+        if (newX == centerX && newY == centerY) return;
+
+        int oldX = centerX;
+        int oldY = centerY;
+        centerX = newX;
+        centerY = newY;
+        for (int zy = Math.max(0, newY - 1); zy <= Math.min(rows - 1, newY + 1); zy++) {
+            for (int zx = Math.max(0, newX - 1); zx <= Math.min(columns - 1, newX + 1); zx++) {
+                boolean wasActive = oldX >= 0 && Math.abs(zx - oldX) <= 1 && Math.abs(zy - oldY) <= 1;
+                List<T> sleepers = dormant.get(zy * columns + zx);
+                if (wasActive || sleepers == null || sleepers.isEmpty()) continue;
+
+                dormantCount -= sleepers.size();
+                for (T actor : sleepers) {
+                    wake.accept(actor);
+                }
+                sleepers.clear();
+            }
+        }
+    }
+
+    public int getDormantCount() {
+        return dormantCount;
+    }
+
+    /**
+     * Удаляет всех спящих акторов и забывает позицию игрока.
+     */
+    public void clear() {
+        for (List<T> sleepers : dormant) {
+            if (sleepers != null) sleepers.clear();
+        }
+        dormantCount = 0;
+        centerX = -1;
+        centerY = -1;
+    }
+
+    private int zoneColumn(int x) {
+        return Math.min(columns - 1, Math.max(0, x / zoneWidth));
+    }
+
+    private int zoneRow(int y) {
+        return Math.min(rows - 1, Math.max(0, y / zoneHeight));
+    }
+}
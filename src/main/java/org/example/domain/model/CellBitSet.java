@@ -0,0 +1,204 @@
+package org.example.domain.model;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Битовое множество клеток карты на основе long[] (бит y * width + x).
+ * Проверка и установка клетки - одна битовая операция, без создания объектов Position.
+ */
+public class CellBitSet {
+    private int width;
+    private int height;
+    private long[] words;
+
+    public CellBitSet(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.words = new long[wordCount(width * height)];
+    }
+
+    public boolean get(int x, int y) {
+        if (!inBounds(x, y)) return false;
+        int bit = y * width + x;
+        return (words[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Устанавливает бит клетки.
+     *
+     * @return true, если клетка не была установлена ранее
+     */
+    public boolean set(int x, int y) {
+        if (!inBounds(x, y)) return false;
+        int bit = y * width + x;
+        long mask = 1L << bit;
+        long word = words[bit >>> 6];
+        words[bit >>> 6] = word | mask;
+        return (word & mask) == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * Объединяет множество с другим множеством того же размера.
+     */
+    public void or(CellBitSet other) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    /**
+     * Сбрасывает клетки прямоугольника [x0..x1] x [y0..y1] (границы включительно).
+     * Стоимость зависит от размера прямоугольника, а не всего множества.
+     */
+    public void clearRect(int x0, int y0, int x1, int y1) {
+        x0 = Math.max(0, x0);
+        y0 = Math.max(0, y0);
+        x1 = Math.min(width - 1, x1);
+        y1 = Math.min(height - 1, y1);
+        if (x0 > x1 || y0 > y1) return;
+
+        for (int y = y0; y <= y1; y++) {
+            int from = y * width + x0;
+            int to = y * width + x1;
+            int fromWord = from >>> 6;
+            int toWord = to >>> 6;
+            long firstMask = -1L << from;
+            long lastMask = -1L >>> (63 - (to & 63));
+            if (fromWord == toWord) {
+                words[fromWord] &= ~(firstMask & lastMask);
+            } else {
+                words[fromWord] &= ~firstMask;
+                for (int w = fromWord + 1; w < toWord; w++) {
+                    words[w] = 0L;
+                }
+                words[toWord] &= ~lastMask;
+            }
+        }
+    }
+
+    /**
+     * Объединяет с другим множеством того же размера только в прямоугольнике
+     * [x0..x1] x [y0..y1] (границы включительно). Соседние клетки строк,
+     * попадающие в те же 64-битные слова, тоже объединяются.
+     */
+    public void orRect(CellBitSet other, int x0, int y0, int x1, int y1) {
+        x0 = Math.max(0, x0);
+        y0 = Math.max(0, y0);
+        x1 = Math.min(width - 1, x1);
+        y1 = Math.min(height - 1, y1);
+        if (x0 > x1 || y0 > y1) return;
+
+        for (int y = y0; y <= y1; y++) {
+            int toWord = (y * width + x1) >>> 6;
+            for (int w = (y * width + x0) >>> 6; w <= toWord; w++) {
+                words[w] |= other.words[w];
+            }
+        }
+    }
+
+    /**
+     * Меняет размеры множества, сохраняя клетки, попадающие в новые границы.
+     */
+    public void resize(int newWidth, int newHeight) {
+        if (newWidth == width && newHeight == height) return;
+
+        long[] newWords = new long[wordCount(newWidth * newHeight)];
+        for (int bit = nextSetBit(0); bit >= 0; bit = nextSetBit(bit + 1)) {
+            int x = bit % width;
+            int y = bit / width;
+            if (x < newWidth && y < newHeight) {
+                int newBit = y * newWidth + x;
+                newWords[newBit >>> 6] |= 1L << newBit;
+            }
+        }
+        width = newWidth;
+        height = newHeight;
+        words = newWords;
+    }
+
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Возвращает неизменяемое представление множества в виде Set&lt;Position&gt;.
+     * Представление не копирует данные и отражает последующие изменения.
+     */
+    public Set<Position> asPositionSet() {
+        return new AbstractSet<>() {
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof Position pos && get(pos.getX(), pos.getY());
+            }
+
+            @Override
+            public int size() {
+                return cardinality();
+            }
+
+            @Override
+            public Iterator<Position> iterator() {
+                return new Iterator<>() {
+                    private int next = nextSetBit(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return next >= 0;
+                    }
+
+                    @Override
+                    public Position next() {
+                        if (next < 0) throw new NoSuchElementException();
+                        Position pos = new Position(next % width, next / width);
+                        next = nextSetBit(next + 1);
+                        return pos;
+                    }
+                };
+            }
+        };
+    }
+
+    private int nextSetBit(int from) {
+        int size = width * height;
+        if (from >= size) return -1;
+
+        int index = from >>> 6;
+        long word = words[index] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                int bit = index * 64 + Long.numberOfTrailingZeros(word);
+                return bit < size ? bit : -1;
+            }
+            if (++index == words.length) return -1;
+            word = words[index];
+        }
+    }
+
+    private boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    private static int wordCount(int bits) {
+        return (bits + 63) >>> 6;
+    }
+}
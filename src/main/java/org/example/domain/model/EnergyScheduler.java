@@ -0,0 +1,99 @@
+package org.example.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Планировщик ходов на хешированном колесе времени (timing wheel).
+ * Актор кладется в ячейку тика, на котором он будет готов действовать; за тик
+ * просматривается только ячейка текущего тика, поэтому стоимость тика пропорциональна
+ * числу готовых акторов, а не всех акторов уровня. Акторы дальше одного оборота колеса
+ * лежат в той же ячейке и пропускаются, пока не наступит их тик.
+ * <p>
+ * Удаление не поддерживается: вызывающий код пропускает устаревших акторов при выборке.
+ *
+ * @param <T> тип актора
+ */
+public class EnergyScheduler<T> {
+
+    private static final int WHEEL_SIZE = 64; // степень двойки
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int INITIAL_BUCKET_CAPACITY = 8;
+
+    private final Object[][] actors = new Object[WHEEL_SIZE][INITIAL_BUCKET_CAPACITY];
+    private final long[][] ticks = new long[WHEEL_SIZE][INITIAL_BUCKET_CAPACITY];
+    private final int[] sizes = new int[WHEEL_SIZE];
+
+    private long tick;
+    private int cursor; // позиция выборки в ячейке текущего тика
+
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Планирует ход актора на указанный тик (прошедшие тики заменяются текущим).
+     */
+    public void schedule(T actor, long readyTick) {
+        long at = Math.max(readyTick, tick);
+        int bucket = (int) (at & WHEEL_MASK);
+        int size = sizes[bucket];
+        if (size == actors[bucket].length) {
+            actors[bucket] = Arrays.copyOf(actors[bucket], size * 2);
+            ticks[bucket] = Arrays.copyOf(ticks[bucket], size * 2);
+        }
+        actors[bucket][size] = actor;
+        ticks[bucket][size] = at;
+        sizes[bucket] = size + 1;
+    }
+
+    /**
+     * Переходит к следующему тику, убирая из ячейки прошедшего тика выбранных акторов.
+     */
+    public void advance() {
+        int bucket = (int) (tick & WHEEL_MASK);
+        Object[] bucketActors = actors[bucket];
+        long[] bucketTicks = ticks[bucket];
+        int kept = 0;
+        for (int i = 0; i < sizes[bucket]; i++) {
+            if (bucketActors[i] != null) {
+                bucketActors[kept] = bucketActors[i];
+                bucketTicks[kept] = bucketTicks[i];
+                kept++;
+            }
+        }
+        Arrays.fill(bucketActors, kept, sizes[bucket], null);
+        sizes[bucket] = kept;
+        tick++;
+        cursor = 0;
+    }
+
+    /**
+     * Возвращает следующего актора, готового на текущем тике, или null.
+     */
+    @SuppressWarnings("unchecked")
+    public T pollDue() {
+        int bucket = (int) (tick & WHEEL_MASK);
+        Object[] bucketActors = actors[bucket];
+        while (cursor < sizes[bucket]) {
+            int i = cursor++;
+            if (bucketActors[i] != null && ticks[bucket][i] <= tick) {
+                T actor = (T) bucketActors[i];
+                bucketActors[i] = null;
+                return actor;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Удаляет всех акторов и сбрасывает время.
+     */
+    public void clear() {
+        for (int bucket = 0; bucket < WHEEL_SIZE; bucket++) {
+            Arrays.fill(actors[bucket], 0, sizes[bucket], null);
+            sizes[bucket] = 0;
+        }
+        tick = 0;
+        cursor = 0;
+    }
+}
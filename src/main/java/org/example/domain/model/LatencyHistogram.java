@@ -0,0 +1,104 @@
+package org.example.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Гистограмма задержек с фиксированными логарифмически-линейными корзинами
+ * (в духе HdrHistogram). Каждая степень двойки делится на 32 корзины,
+ * поэтому относительная погрешность значения не превышает ~3%.
+ * Массив корзин выделяется один раз; запись значения не создает объектов.
+ * Значения от 0 до 2^40 нс (~18 минут); большие попадают в последнюю корзину.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;   // корзин на степень двойки
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;        // значения ниже хранятся точно
+    private static final int MAX_VALUE_BITS = 40;
+    private static final long MAX_TRACKABLE = (1L << MAX_VALUE_BITS) - 1;
+    private static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE) + 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long totalValue;
+    private long minValue = Long.MAX_VALUE;
+    private long maxValue;
+
+    /**
+     * Записывает одно значение (отрицательные считаются нулем).
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts[indexOf(Math.min(v, MAX_TRACKABLE))]++;
+        totalCount++;
+        totalValue += v;
+        if (v < minValue) minValue = v;
+        if (v > maxValue) maxValue = v;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        totalCount = 0;
+        totalValue = 0;
+        minValue = Long.MAX_VALUE;
+        maxValue = 0;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMin() {
+        return totalCount == 0 ? 0 : minValue;
+    }
+
+    public long getMax() {
+        return maxValue;
+    }
+
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) totalValue / totalCount;
+    }
+
+    /**
+     * Возвращает значение, не меньше которого (с точностью корзины) percentile процентов записей.
+     *
+     * @param percentile процентиль от 0 до 100
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Число записей, больших или равных threshold (с точностью корзины).
+     */
+    public long countAtOrAbove(long threshold) {
+        long count = 0;
+        for (int i = indexOf(Math.min(Math.max(0, threshold), MAX_TRACKABLE)); i < counts.length; i++) {
+            count += counts[i];
+        }
+        return count;
+    }
+
+    private static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) return (int) value;
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    private static long highestEquivalentValue(int index) {
+        if (index < LINEAR_LIMIT) return index;
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index - (long) shift * SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
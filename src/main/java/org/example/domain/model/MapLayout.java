@@ -0,0 +1,118 @@
+package org.example.domain.model;
+
+import org.example.config.GameConstants;
+
+/**
+ * Размеры карты уровня и сетка комнат, задаваемые при запуске.
+ * По умолчанию - карта 80x30 с сеткой комнат 3x3. Для нагрузочных прогонов
+ * размеры задаются системными свойствами, например
+ * -Dgame.map.size=1000x1000 -Dgame.map.rooms=30x30.
+ * Каждая комната занимает свою ячейку сетки, соседние комнаты соединены коридорами.
+ */
+public final class MapLayout {
+
+    // Минимальная ячейка сетки, в которой генератор еще может построить комнату с дверями
+    private static final int MIN_CELL_WIDTH = 14;
+    private static final int MIN_CELL_HEIGHT = 6;
+
+    public static final MapLayout DEFAULT = new MapLayout(
+            GameConstants.Map.WIDTH, GameConstants.Map.HEIGHT, 3, 3);
+
+    private final int width;
+    private final int height;
+    private final int roomColumns;
+    private final int roomRows;
+    private final int cellWidth;
+    private final int cellHeight;
+
+    public MapLayout(int width, int height, int roomColumns, int roomRows) {
+        if (roomColumns < 1 || roomRows < 1 || roomColumns * roomRows > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Bad room grid " + roomColumns + "x" + roomRows);
+        }
+        this.width = width;
+        this.height = height;
+        this.roomColumns = roomColumns;
+        this.roomRows = roomRows;
+        // Ячейка с шагом cellWidth + 1 должна вмещать последнюю комнату: cols * cw + cols - 3 <= width
+        this.cellWidth = Math.min(width / roomColumns, (width - roomColumns + 3) / roomColumns);
+        this.cellHeight = Math.min(height / roomRows, (height - roomRows + 3) / roomRows);
+        if (cellWidth < MIN_CELL_WIDTH || cellHeight < MIN_CELL_HEIGHT) {
+            throw new IllegalArgumentException("Map " + width + "x" + height
+                    + " is too small for " + roomColumns + "x" + roomRows + " rooms");
+        }
+    }
+
+    /**
+     * Читает размеры из системных свойств (см. {@link GameConstants.Map#SIZE_PROPERTY}).
+     * Если сетка комнат не задана, она подбирается по размеру карты так же,
+     * как в карте по умолчанию (3x3 на 80x30).
+     */
+    public static MapLayout fromProperties() {
+        int[] size = parseDimensions(System.getProperty(GameConstants.Map.SIZE_PROPERTY));
+        int[] grid = parseDimensions(System.getProperty(GameConstants.Map.ROOM_GRID_PROPERTY));
+        if (size == null && grid == null) return DEFAULT;
+
+        int width = size != null ? size[0] : DEFAULT.width;
+        int height = size != null ? size[1] : DEFAULT.height;
+        int columns = grid != null ? grid[0] : Math.max(1, Math.round(width * 3f / GameConstants.Map.WIDTH));
+        int rows = grid != null ? grid[1] : Math.max(1, Math.round(height * 3f / GameConstants.Map.HEIGHT));
+        return new MapLayout(width, height, columns, rows);
+    }
+
+    private static int[] parseDimensions(String value) {
+        if (value == null || value.isBlank()) return null;
+        String[] parts = value.trim().toLowerCase().split("x");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Expected WIDTHxHEIGHT, got " + value);
+        }
+        return new int[]{Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())};
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getRoomColumns() {
+        return roomColumns;
+    }
+
+    public int getRoomRows() {
+        return roomRows;
+    }
+
+    public int getRoomCount() {
+        return roomColumns * roomRows;
+    }
+
+    /**
+     * Ширина ячейки сетки комнат (шаг между комнатами - на единицу больше).
+     */
+    public int getCellWidth() {
+        return cellWidth;
+    }
+
+    /**
+     * Высота ячейки сетки комнат (шаг между комнатами - на единицу больше).
+     */
+    public int getCellHeight() {
+        return cellHeight;
+    }
+
+    /**
+     * Шаг между комнатами сетки по X (ширина зоны комнаты вместе с промежутком).
+     */
+    public int getRoomStepX() {
+        return cellWidth + 1;
+    }
+
+    /**
+     * Шаг между комнатами сетки по Y (высота зоны комнаты вместе с промежутком).
+     */
+    public int getRoomStepY() {
+        return cellHeight + 1;
+    }
+}
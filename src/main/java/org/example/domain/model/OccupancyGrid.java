@@ -0,0 +1,90 @@
+package org.example.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Плоская сетка объектов по клеткам карты (индекс y * width + x).
+ * Дает поиск объекта по координатам за O(1) вместо перебора списков.
+ *
+ * @param <T> тип хранимых объектов
+ */
+public class OccupancyGrid<T> {
+    private int width;
+    private int height;
+    private Object[] cells;
+
+    public OccupancyGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.cells = new Object[width * height];
+    }
+
+    /**
+     * Меняет размеры сетки и очищает ее.
+     */
+    public void resize(int newWidth, int newHeight) {
+        if (newWidth * newHeight > cells.length) {
+            cells = new Object[newWidth * newHeight];
+        } else {
+            Arrays.fill(cells, null);
+        }
+        width = newWidth;
+        height = newHeight;
+    }
+
+    public void clear() {
+        Arrays.fill(cells, 0, width * height, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int x, int y) {
+        if (!inBounds(x, y)) return null;
+        return (T) cells[y * width + x];
+    }
+
+    public void put(int x, int y, T value) {
+        if (inBounds(x, y)) {
+            cells[y * width + x] = value;
+        }
+    }
+
+    /**
+     * Освобождает клетку, только если в ней находится именно этот объект.
+     */
+    public void remove(int x, int y, T value) {
+        if (inBounds(x, y) && cells[y * width + x] == value) {
+            cells[y * width + x] = null;
+        }
+    }
+
+    /**
+     * Переносит объект из одной клетки в другую.
+     */
+    public void move(T value, int fromX, int fromY, int toX, int toY) {
+        remove(fromX, fromY, value);
+        put(toX, toY, value);
+    }
+
+    /**
+     * @return количество занятых клеток
+     */
+    public int count() {
+        int count = 0;
+        for (int i = 0; i < width * height; i++) {
+            if (cells[i] != null) count++;
+        }
+        return count;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    private boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+}
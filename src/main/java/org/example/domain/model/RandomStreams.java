@@ -0,0 +1,80 @@
+package org.example.domain.model;
+
+import java.util.Random;
+
+/**
+ * Независимые потоки случайных чисел одного забега, выведенные из одного зерна.
+ * Каждая подсистема (раскладка уровня, предметы, враги, ИИ, бой) получает свой поток,
+ * поэтому лишний вызов в одной из них не сдвигает последовательность в другой.
+ * Потоки генерации уровня зависят только от зерна и номера уровня и не зависят от того,
+ * когда (и в каком потоке) уровень был построен.
+ */
+public final class RandomStreams {
+
+    /**
+     * Подсистемы, получающие собственный поток.
+     */
+    public enum Stream {
+        LAYOUT, ITEMS, ENEMIES, AI, COMBAT
+    }
+
+    private final long seed;
+
+    public RandomStreams(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Создает потоки со случайным зерном.
+     */
+    public static RandomStreams randomSeed() {
+        return new RandomStreams(mix(System.nanoTime() ^ System.identityHashCode(new Object())));
+    }
+
+    /**
+     * Создает потоки с зерном из системного свойства, если оно задано, иначе со случайным.
+     */
+    public static RandomStreams fromProperty(String property) {
+        String value = System.getProperty(property);
+        if (value != null && !value.isBlank()) {
+            try {
+                return new RandomStreams(Long.parseLong(value.trim()));
+            } catch (NumberFormatException e) {
+                return new RandomStreams(value.trim().hashCode());
+            }
+        }
+        return randomSeed();
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Поток подсистемы на весь забег.
+     */
+    public Random stream(Stream stream) {
+        return new Random(derive(stream, 0));
+    }
+
+    /**
+     * Поток подсистемы для конкретного уровня.
+     */
+    public Random levelStream(Stream stream, int levelNumber) {
+        return new Random(derive(stream, levelNumber));
+    }
+
+    private long derive(Stream stream, int levelNumber) {
+        long h = mix(seed + 0x9E3779B97F4A7C15L * (stream.ordinal() + 1));
+        return mix(h + 0x9E3779B97F4A7C15L * (levelNumber + 1L));
+    }
+
+    /**
+     * Финализатор SplitMix64: хорошо перемешивает близкие значения.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
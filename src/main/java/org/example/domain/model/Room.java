@@ -67,6 +67,7 @@ public class Room {
     }
 
     // Геттеры для координат и размеров
+    public int getId() { return id; }
     public int getX1() { return x1; }
     public int getY1() { return y1; }
     public int getWidth() { return width; }
@@ -1,6 +1,7 @@
 package org.example.domain.service;
 
 import org.example.datalayer.GameState;
+import org.example.datalayer.SaveSlotMetadata;
 import org.example.domain.entity.*;
 import org.example.domain.enums.ItemType;
 import org.example.domain.factory.LevelGenerator;
@@ -30,29 +31,48 @@ public class AutosaveService {
     }
 
     /**
-     * Сохраняет текущее состояние игры
+     * Сохраняет текущее состояние игры.
+     * В игровом потоке снимается только копия состояния; запись на диск
+     * выполняет репозиторий (при асинхронном репозитории - в фоновом потоке).
+     *
+     * @return false, если сохранение не удалось (для асинхронного репозитория -
+     * в том числе предыдущая фоновая запись)
      */
-    public void saveGame(GameSession session, SessionStat sessionStat) {
+    public boolean saveGame(GameSession session, SessionStat sessionStat) {
         if (session.getPlayer() == null || session.getPlayer().isDead()) {
             System.err.println("Cannot save: player is dead or not initialized");
-            return;
+            return false;
         }
 
         try {
             GameState gameState = createGameState(session, sessionStat);
-            repository.save(gameState);
+            if (!repository.save(gameState)) {
+                System.err.println("Failed to save game: previous write failed");
+                return false;
+            }
+            return true;
         } catch (Exception e) {
             System.err.println("Failed to save game: " + e.getMessage());
             e.printStackTrace();
+            return false;
         }
     }
 
     /**
-     * Возвращает список UI-моделей для всех слотов сохранений
+     * Дописывает ожидающие сохранения на диск и останавливает фоновую запись (в конце игры).
+     */
+    public void close() {
+        repository.close();
+    }
+
+    /**
+     * Возвращает список UI-моделей для всех слотов сохранений.
+     * Сведения берутся из индекса сохранений, файлы целиком не читаются.
      */
     public List<SaveSlotUiModel> getSaveSlots() {
+        List<SaveSlotMetadata> metadata = repository.getSaveSlotMetadata();
         return IntStream.range(0, AUTOSAVE_MAX)
-                .mapToObj(this::loadSaveSlot)
+                .mapToObj(slotIndex -> toSaveSlot(slotIndex, metadata))
                 .toList();
     }
 
@@ -77,12 +97,10 @@ public class AutosaveService {
         }
     }
 
-    private SaveSlotUiModel loadSaveSlot(int slotIndex) {
-        GameState gameState = repository.load(slotIndex);
-        if (gameState != null) {
-            String desc = String.format("Level %d - %s",
-                    gameState.getLevelState().getLevelNumber(),
-                    gameState.getTimestamp());
+    private SaveSlotUiModel toSaveSlot(int slotIndex, List<SaveSlotMetadata> metadata) {
+        if (slotIndex < metadata.size()) {
+            SaveSlotMetadata slot = metadata.get(slotIndex);
+            String desc = String.format("Level %d - %s", slot.levelNumber(), slot.timestamp());
             return new SaveSlotUiModel(slotIndex + 1, desc, false);
         } else {
             return new SaveSlotUiModel(slotIndex + 1, "Empty", true);
@@ -94,10 +112,10 @@ public class AutosaveService {
         gameState.setPlayerState(createPlayerState(session.getPlayer()));
         gameState.setLevelState(createLevelState(session));
         gameState.setFogOfWarState(createFogOfWarState());
-        gameState.setSessionStat(sessionStat);
+        gameState.setSessionStat(sessionStat.copy());
 
         GameState.GameSessionState gameSessionState = new GameState.GameSessionState();
-        gameSessionState.setCurrentMap(session.getCurrentMap());
+        gameSessionState.setCurrentMap(gameState.getLevelState().getAsciiMap());
         gameState.setGameSessionState(gameSessionState);
 
         return gameState;
@@ -113,14 +131,17 @@ public class AutosaveService {
         playerState.setPositionY(player.getPosition().getY());
         playerState.setSleepTurns(player.getSleepTurns());
 
-        // Сохраняем инвентарь
+        // Сохраняем инвентарь (копии, чтобы снимок не менялся во время фоновой записи)
         Inventory inventory = player.getInventory();
         List<Item> allItems = new ArrayList<>();
         for (ItemType type : ItemType.values()) {
-            allItems.addAll(inventory.getItems(type));
+            for (Item item : inventory.getItems(type)) {
+                allItems.add(item.copy());
+            }
         }
         playerState.setInventoryItems(allItems);
-        playerState.setEquippedWeapon(player.getEquippedWeapon());
+        Item weapon = player.getEquippedWeapon();
+        playerState.setEquippedWeapon(weapon != null ? weapon.copy() : null);
 
         return playerState;
     }
@@ -128,9 +149,19 @@ public class AutosaveService {
     private GameState.LevelState createLevelState(GameSession session) {
         GameState.LevelState levelState = new GameState.LevelState();
         levelState.setLevelNumber(session.getLevelNum());
-        levelState.setAsciiMap(session.getCurrentMap());
-        levelState.setItems(new ArrayList<>(session.getCurrentLevelItems()));
-        levelState.setEnemies(new ArrayList<>(session.getEnemies()));
+        levelState.setAsciiMap(copyMap(session.getCurrentMap()));
+
+        List<Item> items = new ArrayList<>(session.getCurrentLevelItems().size());
+        for (Item item : session.getCurrentLevelItems()) {
+            items.add(item.copy());
+        }
+        levelState.setItems(items);
+
+        List<Enemy> enemies = new ArrayList<>(session.getEnemies().size());
+        for (Enemy enemy : session.getEnemies()) {
+            enemies.add(enemy.copy());
+        }
+        levelState.setEnemies(enemies);
 
         if (session.getRooms() != null) {
             levelState.setRooms(new ArrayList<>(session.getRooms()));
@@ -139,6 +170,15 @@ public class AutosaveService {
         return levelState;
     }
 
+    private static char[][] copyMap(char[][] map) {
+        if (map == null) return null;
+        char[][] copy = new char[map.length][];
+        for (int y = 0; y < map.length; y++) {
+            copy[y] = map[y].clone();
+        }
+        return copy;
+    }
+
     private GameState.FogOfWarState createFogOfWarState() {
         GameState.FogOfWarState fogOfWarState = new GameState.FogOfWarState();
 
@@ -203,14 +243,16 @@ public class AutosaveService {
         session.setLevelNum(levelState.getLevelNumber());
         session.setCurrentMap(levelState.getAsciiMap());
 
-        session.getCurrentLevelItems().clear();
         if (levelState.getItems() != null) {
-            session.getCurrentLevelItems().addAll(levelState.getItems());
+            session.placeLevelItems(levelState.getItems());
+        } else {
+            session.placeLevelItems(new ArrayList<>());
         }
 
-        session.getEnemies().clear();
         if (levelState.getEnemies() != null) {
-            session.getEnemies().addAll(levelState.getEnemies());
+            session.placeEnemies(levelState.getEnemies());
+        } else {
+            session.placeEnemies(new ArrayList<>());
         }
 
         if (levelState.getRooms() != null) {
@@ -16,6 +16,17 @@ import static org.example.config.GameConstants.TextMessages.*;
  */
 public class CombatService {
 
+    // Поток случайных чисел для боя
+    private final Random rand;
+
+    public CombatService() {
+        this(new Random());
+    }
+
+    public CombatService(Random rand) {
+        this.rand = rand;
+    }
+
     /**
      * Атаковать врага
      * @param session текущая игровая сессия
@@ -103,7 +114,6 @@ public class CombatService {
         int finalChance = Math.max(MIN_HIT_CHANCE,
                 Math.min(MAX_HIT_CHANCE,
                         baseChance + agilityDelta * AGILITY_MULTIPLIER));
-        Random rand = new Random();
         return rand.nextInt(100) >= finalChance;
     }
 
@@ -125,7 +135,6 @@ public class CombatService {
                 agilityBonus + healthBonus;
 
         // Добавление случайности ±20%
-        Random rand = new Random();
         int variation = (int)(totalGold * 0.2);
         totalGold += rand.nextInt(variation * 2) - variation;
 
@@ -149,7 +158,7 @@ public class CombatService {
 
         // Способность змеи: усыпление игрока
         if (enemy.hasAbility(Enemy.ABILITY_SNAKE_SLEEP) &&
-                new Random().nextInt(100) < SNAKE_SLEEP_CHANCE) {
+                rand.nextInt(100) < SNAKE_SLEEP_CHANCE) {
             session.getPlayer().setSleepTurns(1);
             message.append(", put you to sleep!");
         } else {
@@ -0,0 +1,120 @@
+package org.example.domain.service;
+
+import java.util.Arrays;
+
+import static org.example.config.GameConstants.Icons.*;
+
+/**
+ * Карта расстояний до игрока ("Dijkstra map").
+ * Строится одним обратным обходом в ширину от позиции игрока по проходимым клеткам
+ * и затем используется всеми преследующими врагами: каждый враг просто спускается
+ * в соседнюю клетку с меньшим расстоянием.
+ * Буферы переиспользуются между ходами, поэтому построение карты не создает мусора.
+ * Обход можно ограничить радиусом: тогда его стоимость зависит от окрестности игрока,
+ * а не от размера карты (клетки помечаются номером поколения, массивы не очищаются).
+ */
+public class DistanceMap {
+
+    /** Значение для недостижимых клеток */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private static final int[] DX = {-1, 1, 0, 0};
+    private static final int[] DY = {0, 0, -1, 1};
+
+    private int width;
+    private int height;
+    private int[] distances = new int[0]; // расстояние до игрока, индекс y * width + x
+    private int[] generations = new int[0]; // поколение, в котором клетке назначено расстояние
+    private int[] queue = new int[0];     // очередь BFS из индексов клеток
+    private int generation;
+
+    /**
+     * Строит карту расстояний от указанной клетки по всей карте уровня.
+     *
+     * @param map     карта уровня
+     * @param targetX координата X игрока
+     * @param targetY координата Y игрока
+     */
+    public void compute(char[][] map, int targetX, int targetY) {
+        compute(map, targetX, targetY, UNREACHABLE);
+    }
+
+    /**
+     * Строит карту расстояний от указанной клетки, не дальше maxDistance шагов.
+     * Клетки за пределами радиуса считаются недостижимыми.
+     *
+     * @param map         карта уровня
+     * @param targetX     координата X игрока
+     * @param targetY     координата Y игрока
+     * @param maxDistance максимальное расстояние обхода
+     */
+    public void compute(char[][] map, int targetX, int targetY, int maxDistance) {
+        ensureCapacity(map[0].length, map.length);
+        nextGeneration();
+
+        if (!isPassable(map, targetX, targetY)) return;
+
+        int head = 0;
+        int tail = 0;
+        int start = targetY * width + targetX;
+        distances[start] = 0;
+        generations[start] = generation;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int cur = queue[head++];
+            if (distances[cur] >= maxDistance) continue;
+
+            int x = cur % width;
+            int y = cur / width;
+            int next = distances[cur] + 1;
+
+            for (int i = 0; i < 4; i++) {
+                int nx = x + DX[i];
+                int ny = y + DY[i];
+                if (!isPassable(map, nx, ny)) continue;
+
+                int idx = ny * width + nx;
+                if (generations[idx] == generation) continue;
+
+                distances[idx] = next;
+                generations[idx] = generation;
+                queue[tail++] = idx;
+            }
+        }
+    }
+
+    /**
+     * Возвращает расстояние от клетки до игрока или {@link #UNREACHABLE}.
+     */
+    public int get(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return UNREACHABLE;
+        int idx = y * width + x;
+        return generations[idx] == generation ? distances[idx] : UNREACHABLE;
+    }
+
+    private boolean isPassable(char[][] map, int x, int y) {
+        if (x < 0 || y < 0 || y >= height || x >= width) return false;
+        char tile = map[y][x];
+        return tile != W_WALL && tile != H_WALL && tile != EMPTINESS;
+    }
+
+    private void ensureCapacity(int newWidth, int newHeight) {
+        width = newWidth;
+        height = newHeight;
+        int size = newWidth * newHeight;
+        if (distances.length < size) {
+            distances = new int[size];
+            generations = new int[size];
+            queue = new int[size];
+            generation = 0;
+        }
+    }
+
+    private void nextGeneration() {
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(generations, 0);
+            generation = 1;
+        }
+    }
+}
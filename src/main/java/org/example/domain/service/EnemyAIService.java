@@ -1,11 +1,16 @@
 package org.example.domain.service;
 
 import org.example.domain.entity.Enemy;
+import org.example.domain.entity.EnemyTable;
 import org.example.domain.entity.GameSession;
+import org.example.domain.events.PathfindingEvent;
+import org.example.domain.model.ActivityZones;
+import org.example.domain.model.EnergyScheduler;
 
 import java.util.*;
 
 import static org.example.config.GameConstants.Icons.*;
+import static org.example.config.GameConstants.Map.CHASE_SEARCH_RADIUS;
 import static org.example.config.GameConstants.ProbabilitiesAndBalance.*;
 
 /**
@@ -14,8 +19,31 @@ import static org.example.config.GameConstants.ProbabilitiesAndBalance.*;
  */
 public class EnemyAIService {
 
+    private static final int[] CHASE_DX = {-1, 1, 0, 0};
+    private static final int[] CHASE_DY = {0, 0, -1, 1};
+
+    // Общая карта расстояний до игрока, строится один раз за ход
+    private final DistanceMap distanceMap = new DistanceMap();
+    private boolean distanceMapReady;
+
+    // Поиск пути в обход других врагов, когда спуск по карте расстояний заблокирован
+    private final Pathfinder pathfinder = new Pathfinder();
+
+    // Поток случайных чисел для поведения врагов
+    private final Random rand;
+
+    public EnemyAIService() {
+        this(new Random());
+    }
+
+    public EnemyAIService(Random rand) {
+        this.rand = rand;
+    }
+
     /**
-     * Основной метод для обработки хода всех врагов.
+     * Основной метод для обработки хода врагов: продвигает планировщик на один тик
+     * и дает действовать врагам, накопившим энергию. Враги вдали от игрока (вне зоны
+     * его комнаты и соседних зон) спят и не обрабатываются.
      *
      * @param session текущая игровая сессия
      * @param combatService сервис боевой системы
@@ -27,44 +55,88 @@ public class EnemyAIService {
     public List<String> processEnemiesTurn(GameSession session, CombatService combatService,
                                            int playerX, int playerY, char[][] asciiMap) {
         List<String> messages = new ArrayList<>();
+        distanceMapReady = false; // игрок мог сместиться с прошлого хода
+
+        // Тик планировщика - один ход игрока; обрабатываются только враги, готовые на этом тике
+        EnemyTable table = session.getEnemyTable();
+        EnergyScheduler<Enemy> scheduler = session.getEnemyScheduler();
+        ActivityZones<Enemy> activity = session.getEnemyActivity();
+
+        // Игрок подошел к новым зонам: спящие там враги снова встают в очередь ходов
+        activity.updateCenter(playerX, playerY, sleeper -> {
+            int row = table.rowOf(sleeper);
+            if (row < 0) return;
+            table.resetEnergy(row);
+            scheduler.schedule(sleeper, scheduler.getTick() + table.chargeEnergy(row));
+        });
+
+        scheduler.advance();
+        for (Enemy enemy = scheduler.pollDue(); enemy != null; enemy = scheduler.pollDue()) {
+            int row = table.rowOf(enemy);
+            if (row < 0) continue; // враг убит после планирования
+
+            // Враг вне зон активности засыпает и не планируется до пробуждения
+            if (!activity.isActive(table.getX(row), table.getY(row))) {
+                activity.park(enemy, table.getX(row), table.getY(row));
+                continue;
+            }
 
-        for (Enemy enemy : session.getEnemies()) {
-            if (enemy.getHealth() <= 0) continue;
+            // Враг действует, пока у него есть энергия (быстрые враги - несколько раз за тик)
+            do {
+                table.spendEnergy(row, act(session, combatService, table, row, playerX, playerY, asciiMap, messages));
+            } while (table.getEnergy(row) > 0);
+            scheduler.schedule(enemy, scheduler.getTick() + table.chargeEnergy(row));
+        }
 
-            // Обработка отдыха огра
-            String restMessage = handleOgreRestTurn(session, combatService, playerX, playerY, enemy);
-            if (restMessage != null) {
-                messages.add(restMessage);
-                continue; // Огр не двигается в этот ход
-            }
+        assert session.checkEnemyIndex() : "Enemy index out of sync after enemies turn";
+        return messages;
+    }
 
-            // Попытка атаковать игрока, если он рядом
-            String attackMessage = tryAttackAdjacentPlayer(session, combatService, playerX, playerY, enemy);
-            if (attackMessage != null) {
-                messages.add(attackMessage);
-                continue; // Атака завершила ход
-            }
+    /**
+     * Выполняет одно действие врага строки row.
+     * Проверки отдыха, соседства и дистанции читают массивы таблицы напрямую;
+     * представление Enemy берется только для боя и перемещения.
+     *
+     * @return стоимость действия в энергии
+     */
+    private int act(GameSession session, CombatService combatService, EnemyTable table, int row,
+                    int playerX, int playerY, char[][] asciiMap, List<String> messages) {
+        int ex = table.getX(row);
+        int ey = table.getY(row);
+        int adx = Math.abs(playerX - ex);
+        int ady = Math.abs(playerY - ey);
+        boolean adjacent = adx + ady == 1; // соседство по стороне
+
+        // Первое действие огра после отдыха: гарантированная контратака, если игрок рядом
+        boolean rested = table.getRestTurns(row) > 0;
+        if (rested) {
+            table.setRestTurns(row, 0);
+        }
 
-            int dx = playerX - enemy.getX();
-            int dy = playerY - enemy.getY();
-            int dist = Math.max(Math.abs(dx), Math.abs(dy));
-
-            // Враг преследует игрока, если тот видим и в зоне агрессии
-            if (dist <= enemy.getHostility() && canSeePlayer(enemy.getX(), enemy.getY(),
-                    playerX, playerY, asciiMap)) {
-                if (enemy.hasAbility(Enemy.ABILITY_INVISIBLE)) {
-                    enemy.setInvisible(false); // Призрак становится видимым при агрессии
-                }
-                moveEnemyChase(session, enemy, playerX, playerY, asciiMap);
-            } else {
-                // Блуждающее поведение
-                if (enemy.hasAbility(Enemy.ABILITY_INVISIBLE)) {
-                    updateGhostEffect(enemy, playerX, playerY);
-                }
-                moveEnemyWander(session, enemy, asciiMap);
+        // Атака игрока, если он рядом, завершает ход: списывается вся оставшаяся энергия.
+        // Огр после попадания отдыхает - долг энергии на OGRE_REST_DURATION действий
+        if (adjacent) {
+            messages.add(combatService.attackPlayer(session, table.view(row), rested));
+            return Math.max(ACTION_ENERGY_COST, table.getEnergy(row))
+                    + table.getRestTurns(row) * ACTION_ENERGY_COST;
+        }
+
+        boolean ghost = table.hasAbility(row, Enemy.ABILITY_INVISIBLE);
+        // Враг преследует игрока, если тот видим и в зоне агрессии
+        if (Math.max(adx, ady) <= table.getHostility(row)
+                && canSeePlayer(ex, ey, playerX, playerY, asciiMap)) {
+            if (ghost) {
+                table.setInvisible(row, false); // Призрак становится видимым при агрессии
+            }
+            moveEnemyChase(session, table.view(row), playerX, playerY, asciiMap);
+        } else {
+            // Блуждающее поведение
+            if (ghost) {
+                updateGhostEffect(table.view(row), playerX, playerY);
             }
+            moveEnemyWander(session, table.view(row), asciiMap);
         }
-        return messages;
+        return table.getMoveCost(row);
     }
 
     /**
@@ -81,49 +153,12 @@ public class EnemyAIService {
      * Используется другими частями кода.
      */
     public void updateAllGhostEffects(GameSession session, int playerX, int playerY) {
-        for (Enemy enemy : session.getEnemies()) {
-            if (enemy.getHealth() > 0 && enemy.hasAbility(Enemy.ABILITY_INVISIBLE)) {
-                updateGhostEffect(enemy, playerX, playerY);
-            }
-        }
-    }
-
-    /**
-     * Проверяет, находится ли игрок рядом с врагом для атаки.
-     */
-    public String tryAttackAdjacentPlayer(GameSession session, CombatService combatService,
-                                          int playerX, int playerY, Enemy enemy) {
-        boolean canAttack =
-                (enemy.getX() == playerX && enemy.getY() == playerY - 1) ||
-                        (enemy.getX() == playerX && enemy.getY() == playerY + 1) ||
-                        (enemy.getX() == playerX - 1 && enemy.getY() == playerY) ||
-                        (enemy.getX() == playerX + 1 && enemy.getY() == playerY);
-
-        if (canAttack) {
-            return combatService.attackPlayer(session, enemy, false);
-        }
-        return null;
-    }
-
-    /**
-     * Обрабатывает ход отдыха огра.
-     */
-    public String handleOgreRestTurn(GameSession session, CombatService combatService,
-                                     int playerX, int playerY, Enemy enemy) {
-        if (enemy.hasAbility(Enemy.ABILITY_OGRE_REST) && enemy.getRestTurns() > 0) {
-            enemy.setRestTurns(enemy.getRestTurns() - 1);
-
-            // Проверка на соседство с игроком для контратаки
-            boolean isAdjacent = (playerX == enemy.getX() && Math.abs(playerY - enemy.getY()) == 1) ||
-                    (playerY == enemy.getY() && Math.abs(playerX - enemy.getX()) == 1);
-
-            if (isAdjacent) {
-                return combatService.attackPlayer(session, enemy, true); // гарантированная контратака
-            } else {
-                return enemy.getType() + " is resting...";
+        EnemyTable table = session.getEnemyTable();
+        for (int row = 0; row < table.size(); row++) {
+            if (table.hasAbility(row, Enemy.ABILITY_INVISIBLE)) {
+                updateGhostEffect(table.view(row), playerX, playerY);
             }
         }
-        return null;
     }
 
     /**
@@ -143,7 +178,6 @@ public class EnemyAIService {
      * Движение зомби - случайное в 4 направлениях.
      */
     public void moveZombie(GameSession session, Enemy enemy, char[][] asciiMap) {
-        Random rand = new Random();
         int[] dx = {0, 0, -1, 1};
         int[] dy = {-1, 1, 0, 0};
 
@@ -155,7 +189,6 @@ public class EnemyAIService {
      * Движение вампира - случайное в 8 направлениях.
      */
     public void moveVampire(GameSession session, Enemy enemy, char[][] asciiMap) {
-        Random rand = new Random();
         int[] dx = {-1,-1,-1, 0,0, 1,1,1};
         int[] dy = {-1, 0, 1,-1,1,-1,0,1};
 
@@ -167,51 +200,33 @@ public class EnemyAIService {
      * Движение призрака - телепортация в случайную точку поблизости.
      */
     public void moveGhost(GameSession session, Enemy enemy, char[][] asciiMap) {
-        Random rand = new Random();
-
         for (int i = 0; i < 10; i++) { // 10 попыток найти свободную клетку
             int nx = enemy.getX() + rand.nextInt(7) - GHOST_TELEPORT_RANGE; // -3..3
             int ny = enemy.getY() + rand.nextInt(7) - GHOST_TELEPORT_RANGE;
 
             if (canMoveTo(session, nx, ny, asciiMap)) {
-                enemy.setX(nx);
-                enemy.setY(ny);
+                session.moveEnemy(enemy, nx, ny);
                 return;
             }
         }
     }
 
     /**
-     * Движение огра - двойной шаг в одном направлении.
+     * Движение огра - шаг в одном из 4 направлений.
+     * Два шага за ход игрока огру дает скорость (см. {@link org.example.domain.enums.EnemyType#OGRE}).
      */
     public void moveOgre(GameSession session, Enemy enemy, char[][] asciiMap) {
-        Random rand = new Random();
         int[] dx = {0, 0, -1, 1};
         int[] dy = {-1, 1, 0, 0};
 
         int dir = rand.nextInt(FOUR_DIRECTIONS);
-
-        // Огр ходит на 2 клетки за раз
-        int step1X = enemy.getX() + dx[dir];
-        int step1Y = enemy.getY() + dy[dir];
-        int step2X = enemy.getX() + dx[dir] * OGRE_DOUBLE_STEP;
-        int step2Y = enemy.getY() + dy[dir] * OGRE_DOUBLE_STEP;
-
-        // Проверяем обе клетки на проходимость
-        if (canMoveTo(session, step1X, step1Y, asciiMap) &&
-                canMoveTo(session, step2X, step2Y, asciiMap)) {
-
-            enemy.setX(step2X);
-            enemy.setY(step2Y);
-        }
+        attemptMove(session, enemy, asciiMap, dx[dir], dy[dir]);
     }
 
     /**
      * Движение змеиного мага - диагональное движение.
      */
     public void moveSnakeMage(GameSession session, Enemy enemy, char[][] asciiMap) {
-        Random rand = new Random();
-
         // Каждый ход выбираем случайную диагональ (-1 или 1 по X и Y)
         int[] choices = {-1, 1};
         enemy.setDiagX(choices[rand.nextInt(2)]);
@@ -230,90 +245,86 @@ public class EnemyAIService {
             }
         }
 
-        enemy.setX(nx);
-        enemy.setY(ny);
+        session.moveEnemy(enemy, nx, ny);
     }
 
     /**
-     * Преследование игрока с использованием поиска пути.
+     * Преследование игрока по общей карте расстояний.
+     * Враг переходит в соседнюю свободную клетку, которая ближе всего к игроку.
      */
     public void moveEnemyChase(GameSession session, Enemy enemy, int playerX, int playerY, char[][] asciiMap) {
-        List<int[]> path = findPath(session, enemy.getX(), enemy.getY(), playerX, playerY, asciiMap);
-        if (path != null && path.size() > 1) {
-            // Первый шаг на пути к игроку
-            int[] step = path.get(1);
-            enemy.setX(step[0]);
-            enemy.setY(step[1]);
+        if (!distanceMapReady) {
+            distanceMap.compute(asciiMap, playerX, playerY, CHASE_SEARCH_RADIUS);
+            distanceMapReady = true;
+        }
+
+        int best = distanceMap.get(enemy.getX(), enemy.getY());
+        int bestX = -1;
+        int bestY = -1;
+
+        for (int i = 0; i < 4; i++) {
+            int nx = enemy.getX() + CHASE_DX[i];
+            int ny = enemy.getY() + CHASE_DY[i];
+            int dist = distanceMap.get(nx, ny);
+
+            if (dist >= best) continue;
+            if (nx == playerX && ny == playerY) continue;
+            if (getEnemyAt(session, nx, ny) != null) continue;
+
+            best = dist;
+            bestX = nx;
+            bestY = ny;
+        }
+
+        if (bestX == -1 && best != DistanceMap.UNREACHABLE
+                && searchPath(session, asciiMap, enemy.getX(), enemy.getY(), playerX, playerY, CHASE_SEARCH_RADIUS)
+                && pathfinder.pathLength() > 1) {
+            // Ближайшие клетки заняты другими врагами - ищем обход в пределах карты расстояний
+            bestX = pathfinder.nextStepX();
+            bestY = pathfinder.nextStepY();
+        }
+
+        if (bestX != -1) {
+            session.moveEnemy(enemy, bestX, bestY);
         } else {
             moveEnemyWander(session, enemy, asciiMap);
         }
     }
 
     /**
-     * Поиск пути от начальной до конечной точки (алгоритм BFS).
+     * Поиск пути от начальной до конечной точки (алгоритм A*).
+     * Возвращает полный путь, включая начальную и конечную клетки, или null.
      */
     public List<int[]> findPath(GameSession session, int sx, int sy, int ex, int ey, char[][] asciiMap) {
-        int height = asciiMap.length;
-        int width = asciiMap[0].length;
-        boolean[][] visited = new boolean[height][width];
-        int[][][] prev = new int[height][width][2]; // для восстановления пути
-
-        // Инициализация массива предшественников
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                prev[i][j][0] = -1;
-                prev[i][j][1] = -1;
-            }
+        if (!searchPath(session, asciiMap, sx, sy, ex, ey, Integer.MAX_VALUE)) {
+            return null;
         }
+        return pathfinder.buildPath();
+    }
 
-        Queue<int[]> queue = new LinkedList<>();
-        queue.add(new int[]{sx, sy});
-        visited[sy][sx] = true;
-
-        int[] dx = {-1, 1, 0, 0};
-        int[] dy = {0, 0, -1, 1};
-
-        while (!queue.isEmpty()) {
-            int[] cur = queue.poll();
-            int x = cur[0], y = cur[1];
-
-            if (x == ex && y == ey) {
-                return reconstructPath(prev, ex, ey);
-            }
-
-            for (int i = 0; i < 4; i++) {
-                int nx = x + dx[i];
-                int ny = y + dy[i];
-
-                if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
-                if (visited[ny][nx]) continue;
-
-                char tile = asciiMap[ny][nx];
-                if (tile == W_WALL || tile == H_WALL || tile == EMPTINESS) continue;
-
-                // Пропускаем врагов, кроме целевой точки (игрока)
-                if (getEnemyAt(session, nx, ny) != null && !(nx == ex && ny == ey)) continue;
-
-                visited[ny][nx] = true;
-                prev[ny][nx][0] = x;
-                prev[ny][nx][1] = y;
-                queue.add(new int[]{nx, ny});
-            }
+    /**
+     * Запускает A* не дальше maxDistance шагов от цели и публикует событие JFR с длиной найденного пути.
+     */
+    private boolean searchPath(GameSession session, char[][] asciiMap, int sx, int sy, int ex, int ey,
+                               int maxDistance) {
+        PathfindingEvent event = new PathfindingEvent();
+        event.begin();
+        boolean found = pathfinder.search(session, asciiMap, sx, sy, ex, ey, maxDistance);
+        event.end();
+        if (event.shouldCommit()) {
+            event.levelNumber = session.getLevelNum();
+            event.enemyCount = session.getEnemyTable().size();
+            event.pathLength = pathfinder.pathLength();
+            event.commit();
         }
-
-        return null;
+        return found;
     }
 
     /**
      * Получает врага по указанным координатам.
      */
     public Enemy getEnemyAt(GameSession session, int x, int y) {
-        for (Enemy enemy : session.getEnemies()) {
-            if (enemy.getX() == x && enemy.getY() == y && enemy.getHealth() > 0) {
-                return enemy;
-            }
-        }
-        return null;
+        return session.getEnemyAt(x, y);
     }
 
     /**
@@ -356,7 +367,6 @@ public class EnemyAIService {
      * Вероятность невидимости зависит от расстояния до игрока.
      */
     private void updateGhostEffect(Enemy enemy, int playerX, int playerY) {
-        Random rand = new Random();
         int distance = Math.max(Math.abs(playerX - enemy.getX()),
                 Math.abs(playerY - enemy.getY()));
 
@@ -376,8 +386,7 @@ public class EnemyAIService {
         int ny = enemy.getY() + dy;
 
         if (canMoveTo(session, nx, ny, asciiMap)) {
-            enemy.setX(nx);
-            enemy.setY(ny);
+            session.moveEnemy(enemy, nx, ny);
         }
     }
 
@@ -386,25 +395,6 @@ public class EnemyAIService {
      * Учитывает проходимость клетки и наличие других врагов.
      */
     private boolean canMoveTo(GameSession session, int x, int y, char[][] asciiMap) {
-        return isWalkable(x, y, asciiMap) && getEnemyAt(session, x, y) == null;
-    }
-
-    /**
-     * Восстанавливает путь из массива предшественников.
-     * Используется в алгоритме поиска пути (BFS).
-     */
-    private List<int[]> reconstructPath(int[][][] prev, int ex, int ey) {
-        List<int[]> path = new ArrayList<>();
-        int x = ex, y = ey;
-
-        while (x != -1 && y != -1) {
-            path.add(0, new int[]{x, y});
-            int px = prev[y][x][0];
-            int py = prev[y][x][1];
-            x = px;
-            y = py;
-        }
-
-        return path;
+        return isWalkable(x, y, asciiMap) && session.getEnemyTable().rowAt(x, y) < 0;
     }
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package org.example.domain.service;
 
 import org.example.config.GameConstants;
+import org.example.domain.enums.FovType;
 import org.example.domain.factory.LevelGenerator;
+import org.example.domain.interfaces.FovAlgorithm;
+import org.example.domain.model.CellBitSet;
 import org.example.domain.model.Position;
 import org.example.domain.model.Room;
 
@@ -9,15 +12,19 @@ import java.util.*;
 
 /**
  * Сервис "тумана войны" - скрывает монстров и артефакты в невидимых областях.
- * Использует ray casting для определения видимости клеток.
+ * Видимость клеток в радиусе обзора определяется подключаемым алгоритмом поля зрения
+ * (см. {@link FovType}).
+ * Множества клеток хранятся в битовых массивах размером с карту.
+ * Пересчет затрагивает только прямоугольник вокруг игрока (радиус обзора и текущая комната),
+ * поэтому его стоимость не зависит от размера карты.
  */
 public class FogOfWarService {
 
     // Множество всех видимых клеток (включая затемненные)
-    private final Set<Position> visibleCells = new HashSet<>();
+    private final CellBitSet visibleCells = new CellBitSet(GameConstants.Map.WIDTH, GameConstants.Map.HEIGHT);
 
     // Множество исследованных клеток (остаются видимыми как затемненные)
-    private final Set<Position> exploredCells = new HashSet<>();
+    private final CellBitSet exploredCells = new CellBitSet(GameConstants.Map.WIDTH, GameConstants.Map.HEIGHT);
 
     // Множество исследованных комнат
     private final Set<Room> exploredRooms = new HashSet<>();
@@ -26,7 +33,7 @@ public class FogOfWarService {
     private Room currentRoom = null;
 
     // Клетки, видимые в данный момент (яркие)
-    private final Set<Position> currentVisibleCells = new HashSet<>();
+    private final CellBitSet currentVisibleCells = new CellBitSet(GameConstants.Map.WIDTH, GameConstants.Map.HEIGHT);
 
     // Константа радиуса обзора
     private static final int VISION_RADIUS = GameConstants.Map.VISION_RADIUS;
@@ -34,67 +41,131 @@ public class FogOfWarService {
     // Генератор уровня для получения информации о комнатах
     private final LevelGenerator levelGenerator;
 
+    // Алгоритм поля зрения
+    private final FovAlgorithm fovAlgorithm;
+
+    // Состояние последнего пересчета: позиция игрока и карта, для которых посчитан обзор
+    private int lastPlayerX = -1;
+    private int lastPlayerY = -1;
+    private char[][] lastMap = null;
+    private boolean dirty = true; // карта в радиусе обзора изменилась, нужен пересчет
+
+    // Версия видимости, увеличивается при каждом изменении множеств клеток
+    private long visibilityVersion = 0;
+
+    // Прямоугольник, в котором лежат текущие видимые клетки (очищается при следующем пересчете)
+    private int boxX0 = 0;
+    private int boxY0 = 0;
+    private int boxX1 = Integer.MAX_VALUE;
+    private int boxY1 = Integer.MAX_VALUE;
+
     public FogOfWarService(LevelGenerator levelGenerator) {
+        this(levelGenerator, GameConstants.Map.FOV_ALGORITHM.create());
+    }
+
+    public FogOfWarService(LevelGenerator levelGenerator, FovAlgorithm fovAlgorithm) {
         this.levelGenerator = levelGenerator;
+        this.fovAlgorithm = fovAlgorithm;
     }
 
     /**
-     * Обновить видимость после перемещения игрока
+     * Обновить видимость после перемещения игрока.
+     * Если игрок не сдвинулся и карта в радиусе обзора не менялась, пересчет пропускается.
      */
     public void updateVisibility(Position playerPos, char[][] map) {
         if (map == null || playerPos == null) return;
 
-        // Очищаем временные данные
-        visibleCells.clear();
-        currentVisibleCells.clear();
-
         int playerX = playerPos.getX();
         int playerY = playerPos.getY();
+        if (!dirty && map == lastMap && playerX == lastPlayerX && playerY == lastPlayerY) {
+            return;
+        }
+        rememberState(playerX, playerY, map);
+
+        resizeToMap(map);
+
+        // Очищаем временные данные прошлого пересчета
+        visibleCells.clearRect(boxX0, boxY0, boxX1, boxY1);
+        currentVisibleCells.clearRect(boxX0, boxY0, boxX1, boxY1);
 
         // Проверка границ карты
         if (playerY < 0 || playerY >= map.length ||
                 playerX < 0 || playerX >= map[playerY].length) {
+            boxX1 = -1;
             return;
         }
 
         // 1. Определяем текущую комнату игрока
         currentRoom = levelGenerator.getRoomAt(playerX, playerY);
+        boxX0 = playerX - VISION_RADIUS;
+        boxY0 = playerY - VISION_RADIUS;
+        boxX1 = playerX + VISION_RADIUS;
+        boxY1 = playerY + VISION_RADIUS;
+        if (currentRoom != null) {
+            boxX0 = Math.min(boxX0, currentRoom.getX1());
+            boxY0 = Math.min(boxY0, currentRoom.getY1());
+            boxX1 = Math.max(boxX1, currentRoom.getX2());
+            boxY1 = Math.max(boxY1, currentRoom.getY2());
+        }
 
         // 2. Если игрок в комнате - видна вся комната
         if (currentRoom != null) {
             for (int x = currentRoom.getX1(); x <= currentRoom.getX2(); x++) {
                 for (int y = currentRoom.getY1(); y <= currentRoom.getY2(); y++) {
                     if (y >= 0 && y < map.length && x >= 0 && x < map[y].length) {
-                        Position pos = new Position(x, y);
-                        visibleCells.add(pos);
-                        currentVisibleCells.add(pos);
-                        exploredCells.add(pos);
+                        visibleCells.set(x, y);
+                        currentVisibleCells.set(x, y);
+                        exploredCells.set(x, y);
                     }
                 }
             }
             exploredRooms.add(currentRoom);
         }
 
-        // НОВЫЙ КОД - Брезенхэм по периметру квадрата видимости
-        int r = VISION_RADIUS;
+        // 3. Поле зрения в радиусе обзора
+        fovAlgorithm.compute(map, playerX, playerY, VISION_RADIUS, currentVisibleCells);
 
-        // Верхняя и нижняя границы (включая углы)
-        for (int dx = -r; dx <= r; dx++) {
-            castRayBresenham(playerX, playerY, playerX + dx, playerY - r, map);
-            castRayBresenham(playerX, playerY, playerX + dx, playerY + r, map);
-        }
+        // 4. Объединяем видимые клетки
+        visibleCells.orRect(currentVisibleCells, boxX0, boxY0, boxX1, boxY1);
 
-        // Левая и правая границы (без углов, чтобы не дублировать)
-        for (int dy = -r + 1; dy <= r - 1; dy++) {
-            castRayBresenham(playerX, playerY, playerX - r, playerY + dy, map);
-            castRayBresenham(playerX, playerY, playerX + r, playerY + dy, map);
+        // 5. Добавляем текущие видимые клетки в исследованные
+        exploredCells.orRect(visibleCells, boxX0, boxY0, boxX1, boxY1);
+    }
+
+    /**
+     * Сообщает об изменении клетки карты (подбор или выброс предмета).
+     * Исследованная клетка меняет вид на экране, а клетка в радиусе обзора
+     * может изменить сам обзор, поэтому следующий вызов {@link #updateVisibility} пересчитает его.
+     */
+    public void onMapCellChanged(int x, int y) {
+        if (Math.abs(x - lastPlayerX) <= VISION_RADIUS && Math.abs(y - lastPlayerY) <= VISION_RADIUS) {
+            dirty = true;
+        }
+        if (exploredCells.get(x, y)) {
+            visibilityVersion++;
         }
+    }
 
-        // 4. Объединяем видимые клетки
-        visibleCells.addAll(currentVisibleCells);
+    /**
+     * Возвращает версию видимости. Версия меняется при любом изменении видимых
+     * или исследованных клеток, поэтому потребители (подготовка карты, отрисовка)
+     * могут пропускать работу, если версия не изменилась.
+     */
+    public long getVisibilityVersion() {
+        return visibilityVersion;
+    }
 
-        // 5. Добавляем текущие видимые клетки в исследованные
-        exploredCells.addAll(visibleCells);
+    private void rememberState(int playerX, int playerY, char[][] map) {
+        lastPlayerX = playerX;
+        lastPlayerY = playerY;
+        lastMap = map;
+        dirty = false;
+        visibilityVersion++;
+    }
+
+    private void invalidate() {
+        dirty = true;
+        visibilityVersion++;
     }
 
     /**
@@ -102,12 +173,15 @@ public class FogOfWarService {
      */
     public void updateForLoadedGame(Position playerPos, char[][] map) {
         if (map == null || playerPos == null) return;
+        rememberState(playerPos.getX(), playerPos.getY(), map);
+        resizeToMap(map);
 
         visibleCells.clear();
         currentVisibleCells.clear();
+        markWholeMapVisible();
 
         // 1. Сначала добавляем всё, что игрок уже когда-то видел (память)
-        visibleCells.addAll(exploredCells);
+        visibleCells.or(exploredCells);
 
         // 2. Определяем текущую комнату и яркость
         int playerX = playerPos.getX();
@@ -117,84 +191,16 @@ public class FogOfWarService {
         if (currentRoom != null) {
             for (int x = currentRoom.getX1(); x <= currentRoom.getX2(); x++) {
                 for (int y = currentRoom.getY1(); y <= currentRoom.getY2(); y++) {
-                    Position pos = new Position(x, y);
-                    currentVisibleCells.add(pos);
-                    exploredCells.add(pos);
+                    currentVisibleCells.set(x, y);
+                    exploredCells.set(x, y);
                 }
             }
         }
 
-        // 3. Пускаем лучи для текущего обзора
-        int r = VISION_RADIUS;
-        for (int dx = -r; dx <= r; dx++) {
-            castRayBresenham(playerX, playerY, playerX + dx, playerY - r, map);
-            castRayBresenham(playerX, playerY, playerX + dx, playerY + r, map);
-        }
-        for (int dy = -r + 1; dy <= r - 1; dy++) {
-            castRayBresenham(playerX, playerY, playerX - r, playerY + dy, map);
-            castRayBresenham(playerX, playerY, playerX + r, playerY + dy, map);
-        }
+        // 3. Поле зрения для текущего обзора
+        fovAlgorithm.compute(map, playerX, playerY, VISION_RADIUS, currentVisibleCells);
 
-        visibleCells.addAll(currentVisibleCells);
-    }
-
-    /**
-     * Целочисленный алгоритм Брезенхэма для луча
-     * Идет от (x0,y0) до (x1,y1), добавляя клетки в видимые
-     * Останавливается на стенах и границах карты
-     */
-    private void castRayBresenham(int x0, int y0, int x1, int y1, char[][] map) {
-        int dx = Math.abs(x1 - x0);
-        int dy = Math.abs(y1 - y0);
-        int sx = x0 < x1 ? 1 : -1;
-        int sy = y0 < y1 ? 1 : -1;
-        int err = dx - dy;
-
-        int x = x0;
-        int y = y0;
-
-        // Проверяем, в комнате ли игрок (для логики с дверями)
-        Room playerRoom = levelGenerator.getRoomAt(x0, y0);
-
-        while (true) {
-            // Границы карты
-            if (x < 0 || y < 0 || y >= map.length || x >= map[y].length) break;
-
-            Position pos = new Position(x, y);
-
-            // Добавляем клетку как видимую
-            addVisibleCell(pos);
-
-            char cell = map[y][x];
-
-            // Проверка препятствий
-            if (cell == '|' || cell == '~' || cell == ' ') {
-                break;
-            }
-
-            // Особая обработка дверей - видимость в соседнюю комнату
-//            if (cell == '+' && playerRoom != null) {
-//                Room adjacent = findAdjacentRoom(x, y);
-//                if (adjacent != null && adjacent != currentRoom) {
-//                    // Добавляем несколько клеток комнаты в направлении луча
-//                    addRoomSliceThroughDoor(x, y, sx, sy, adjacent);
-//                }
-//            }
-
-            // Достигли конца луча
-            if (x == x1 && y == y1) break;
-
-            // Шаг Брезенхэма
-            int e2 = 2 * err;
-            if (e2 > -dy) {
-                err -= dy;
-                x += sx;
-            }
-            if (e2 < dx) {
-                err += dx;
-                y += sy;
-            }
-        }
+        visibleCells.or(currentVisibleCells);
     }
 
     /**
@@ -208,7 +214,7 @@ public class FogOfWarService {
 
             if (nx >= room.getX1() && nx <= room.getX2() &&
                     ny >= room.getY1() && ny <= room.getY2()) {
-                addVisibleCell(new Position(nx, ny));
+                addVisibleCell(nx, ny);
             } else {
                 break;
             }
@@ -218,8 +224,8 @@ public class FogOfWarService {
     /**
      * Добавляет видимую клетку в соответствующее множество
      */
-    private void addVisibleCell(Position pos) {
-        currentVisibleCells.add(pos);
+    private void addVisibleCell(int x, int y) {
+        currentVisibleCells.set(x, y);
     }
 
     /**
@@ -241,14 +247,44 @@ public class FogOfWarService {
      * Проверяет, видима ли клетка (включая затемненные)
      */
     public boolean isVisible(int x, int y) {
-        return visibleCells.contains(new Position(x, y));
+        return visibleCells.get(x, y);
+    }
+
+    /**
+     * Проверяет, исследована ли клетка
+     */
+    public boolean isExplored(int x, int y) {
+        return exploredCells.get(x, y);
+    }
+
+    /**
+     * Проверяет, видна ли клетка в данный момент (ярко)
+     */
+    public boolean isCurrentlyVisible(int x, int y) {
+        return currentVisibleCells.get(x, y);
+    }
+
+    /**
+     * Битовое множество исследованных клеток (только для чтения внутри пакета)
+     */
+    CellBitSet exploredBits() {
+        return exploredCells;
+    }
+
+    /**
+     * Битовое множество клеток, видимых в данный момент (только для чтения внутри пакета)
+     */
+    CellBitSet currentVisibleBits() {
+        return currentVisibleCells;
     }
 
     /**
      * Помечает клетку как исследованную
      */
     public void markCellAsExplored(int x, int y) {
-        exploredCells.add(new Position(x, y));
+        if (exploredCells.set(x, y)) {
+            visibilityVersion++;
+        }
     }
 
     /**
@@ -259,13 +295,25 @@ public class FogOfWarService {
         exploredCells.clear();
         exploredRooms.clear();
         currentVisibleCells.clear();
+        invalidate();
+    }
+
+    /**
+     * Следующий пересчет очистит множества видимых клеток целиком
+     * (после загрузки, где видимыми становятся все исследованные клетки).
+     */
+    private void markWholeMapVisible() {
+        boxX0 = 0;
+        boxY0 = 0;
+        boxX1 = Integer.MAX_VALUE;
+        boxY1 = Integer.MAX_VALUE;
     }
 
     /**
      * Возвращает неизменяемое множество всех исследованных клеток
      */
     public Set<Position> getAllExploredCells() {
-        return Collections.unmodifiableSet(exploredCells);
+        return exploredCells.asPositionSet();
     }
 
     /**
@@ -279,19 +327,45 @@ public class FogOfWarService {
      * Возвращает неизменяемое множество клеток, видимых в данный момент (ярких)
      */
     public Set<Position> getCurrentVisibleCells() {
-        return Collections.unmodifiableSet(currentVisibleCells);
+        return currentVisibleCells.asPositionSet();
     }
 
     /**
      * Восстанавливает исследованные клетки из сохранения
      */
     public void restoreExploredCells(Set<Position> cells) {
-        if (cells == null) {
-            exploredCells.clear();
-            return;
-        }
         exploredCells.clear();
-        exploredCells.addAll(cells);
+        invalidate();
+        if (cells == null) return;
+
+        // Карта могла быть больше текущих размеров множеств
+        int width = exploredCells.getWidth();
+        int height = exploredCells.getHeight();
+        for (Position pos : cells) {
+            width = Math.max(width, pos.getX() + 1);
+            height = Math.max(height, pos.getY() + 1);
+        }
+        resize(width, height);
+
+        for (Position pos : cells) {
+            exploredCells.set(pos.getX(), pos.getY());
+        }
+    }
+
+    /**
+     * Подгоняет размеры битовых множеств под карту уровня
+     */
+    private void resizeToMap(char[][] map) {
+        resize(map[0].length, map.length);
+    }
+
+    private void resize(int width, int height) {
+        if (width != visibleCells.getWidth() || height != visibleCells.getHeight()) {
+            markWholeMapVisible();
+        }
+        visibleCells.resize(width, height);
+        exploredCells.resize(width, height);
+        currentVisibleCells.resize(width, height);
     }
 
     /**
@@ -301,5 +375,6 @@ public class FogOfWarService {
         if (rooms == null) return;
         exploredRooms.clear();
         exploredRooms.addAll(rooms);
+        invalidate();
     }
 }
\ No newline at end of file
@@ -1,54 +1,170 @@
 package org.example.domain.service;
 
 import org.example.domain.dto.VisibleMapDto;
+import org.example.config.GameConstants;
 import org.example.domain.entity.Player;
-import org.example.domain.model.Position;
-
-import java.util.Set;
+import org.example.domain.model.CellBitSet;
 
 import static org.example.config.GameConstants.Colors.*;
 import static org.example.config.GameConstants.Icons.*;
 import static org.example.domain.enums.ItemType.TREASURE;
 
+/**
+ * Подготавливает видимую часть карты с учетом тумана войны.
+ * Кадр строится в одном из двух плоских буферов (передний/задний), которые
+ * переиспользуются между кадрами, поэтому подготовка карты не выделяет память.
+ * Карта больше области экрана обрабатывается только в пределах окна вокруг игрока;
+ * окно сдвигается, когда игрок подходит к его краю ближе, чем на SCROLL_MARGIN.
+ */
 public class MapVisibilityService {
 
+    private static final int ASCII_LIMIT = 128;
+
+    // Таблицы цветов для ASCII-символов, чтобы не проходить switch для каждой клетки
+    private static final short[] BRIGHT_COLORS = new short[ASCII_LIMIT];
+    private static final short[] DIM_COLORS = new short[ASCII_LIMIT];
+
+    static {
+        for (char c = 0; c < ASCII_LIMIT; c++) {
+            BRIGHT_COLORS[c] = getBrightTileColor(c);
+            DIM_COLORS[c] = getDimTileColor(c);
+        }
+    }
+
     private final FogOfWarService fogService;
 
+    // Размер области экрана и текущее положение окна на карте
+    private final int viewportWidth;
+    private final int viewportHeight;
+    private int originX;
+    private int originY;
+
+    // Буферы кадров: в задний пишется новый кадр, после чего буферы меняются местами
+    private VisibleMapDto frontMap = null;
+    private VisibleMapDto backMap = null;
+    private char[] frontSymbols = new char[0];
+    private short[] frontColors = new short[0];
+    private char[] backSymbols = new char[0];
+    private short[] backColors = new short[0];
+    private int bufferWidth;
+    private int bufferHeight;
+
+    // Карта, версия видимости и окно, для которых построен передний буфер
+    private char[][] cachedSource = null;
+    private long cachedVersion = -1;
+    private int cachedOriginX = -1;
+    private int cachedOriginY = -1;
+
     public MapVisibilityService(FogOfWarService fogService) {
+        this(fogService, GameConstants.Map.VIEWPORT_WIDTH, GameConstants.Map.VIEWPORT_HEIGHT);
+    }
+
+    public MapVisibilityService(FogOfWarService fogService, int viewportWidth, int viewportHeight) {
         this.fogService = fogService;
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
     }
 
+    /**
+     * Подготавливает видимую часть карты. Если версия видимости и карта
+     * не изменились с прошлого вызова, возвращает ранее построенный кадр.
+     * Возвращаемый объект остается действительным до следующего построения кадра.
+     */
     public VisibleMapDto prepareVisibleMap(char[][] fullMap, Player player) {
-        int height = fullMap.length;
-        int width = fullMap[0].length;
-
-        char[][] symbols = new char[height][width];
-        short[][] colors = new short[height][width];
-
-        Set<Position> allExplored = fogService.getAllExploredCells();
-        Set<Position> currentVisible = fogService.getCurrentVisibleCells();
-
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                Position pos = new Position(x, y);
-                char tile = fullMap[y][x];
-
-                if (tile == ' ') {
-                    symbols[y][x] = ' ';
-                    colors[y][x] = COLOR_BLACK;
-                } else if (!allExplored.contains(pos)) {
-                    symbols[y][x] = ' ';
-                    colors[y][x] = COLOR_BLACK;
-                } else if (currentVisible.contains(pos)) {
-                    symbols[y][x] = tile;
-                    colors[y][x] = getBrightTileColor(tile);
+        int mapHeight = fullMap.length;
+        int mapWidth = fullMap[0].length;
+        int width = Math.min(viewportWidth, mapWidth);
+        int height = Math.min(viewportHeight, mapHeight);
+        if (player != null) {
+            scrollTo(player.getPosition().getX(), player.getPosition().getY(), mapWidth, mapHeight);
+        }
+        originX = Math.max(0, Math.min(originX, mapWidth - width));
+        originY = Math.max(0, Math.min(originY, mapHeight - height));
+
+        long version = fogService.getVisibilityVersion();
+        if (frontMap != null && cachedSource == fullMap && cachedVersion == version
+                && cachedOriginX == originX && cachedOriginY == originY) {
+            return frontMap;
+        }
+
+        ensureBuffers(width, height);
+        if (backMap.originX() != originX || backMap.originY() != originY) {
+            backMap = new VisibleMapDto(backSymbols, backColors, width, height, originX, originY);
+        }
+
+        CellBitSet explored = fogService.exploredBits();
+        CellBitSet visible = fogService.currentVisibleBits();
+        char[] symbols = backSymbols;
+        short[] colors = backColors;
+
+        int i = 0;
+        for (int y = originY; y < originY + height; y++) {
+            char[] row = fullMap[y];
+            for (int x = originX; x < originX + width; x++, i++) {
+                char tile = row[x];
+
+                if (tile == EMPTINESS || !explored.get(x, y)) {
+                    symbols[i] = EMPTINESS;
+                    colors[i] = COLOR_BLACK;
+                } else if (visible.get(x, y)) {
+                    symbols[i] = tile;
+                    colors[i] = tile < ASCII_LIMIT ? BRIGHT_COLORS[tile] : getBrightTileColor(tile);
                 } else {
-                    symbols[y][x] = tile;
-                    colors[y][x] = getDimTileColor(tile);
+                    symbols[i] = tile;
+                    colors[i] = tile < ASCII_LIMIT ? DIM_COLORS[tile] : getDimTileColor(tile);
                 }
             }
         }
-        return new VisibleMapDto(symbols, colors);
+
+        swapBuffers();
+        cachedSource = fullMap;
+        cachedVersion = version;
+        cachedOriginX = originX;
+        cachedOriginY = originY;
+        return frontMap;
+    }
+
+    /**
+     * Сдвигает окно так, чтобы игрок был не ближе SCROLL_MARGIN к его краю.
+     */
+    private void scrollTo(int playerX, int playerY, int mapWidth, int mapHeight) {
+        originX = scrollAxis(originX, playerX, Math.min(viewportWidth, mapWidth));
+        originY = scrollAxis(originY, playerY, Math.min(viewportHeight, mapHeight));
+    }
+
+    private static int scrollAxis(int origin, int player, int size) {
+        int margin = Math.min(GameConstants.Map.SCROLL_MARGIN, (size - 1) / 2);
+        if (player < origin + margin) return player - margin;
+        if (player > origin + size - 1 - margin) return player - size + 1 + margin;
+        return origin;
+    }
+
+    private void swapBuffers() {
+        char[] symbols = frontSymbols;
+        short[] colors = frontColors;
+        VisibleMapDto map = frontMap;
+        frontSymbols = backSymbols;
+        frontColors = backColors;
+        frontMap = backMap;
+        backSymbols = symbols;
+        backColors = colors;
+        backMap = map;
+    }
+
+    /**
+     * Пересоздает буферы только при смене размеров карты.
+     */
+    private void ensureBuffers(int width, int height) {
+        if (backMap != null && width == bufferWidth && height == bufferHeight) return;
+
+        bufferWidth = width;
+        bufferHeight = height;
+        frontSymbols = new char[width * height];
+        frontColors = new short[width * height];
+        backSymbols = new char[width * height];
+        backColors = new short[width * height];
+        frontMap = new VisibleMapDto(frontSymbols, frontColors, width, height);
+        backMap = new VisibleMapDto(backSymbols, backColors, width, height);
     }
 
     /**
@@ -57,7 +173,7 @@ public class MapVisibilityService {
      * @param tile символ клетки
      * @return цвет для отрисовки
      */
-    private short getBrightTileColor(char tile) {
+    private static short getBrightTileColor(char tile) {
         return switch (tile) {
             case FLOOR -> COLOR_CYAN;           // Пол
             case W_WALL, H_WALL -> COLOR_WHITE;     // Стены
@@ -90,7 +206,7 @@ public class MapVisibilityService {
      * @param tile символ клетки
      * @return цвет для отрисовки или -1 если объект не должен отображаться
      */
-    private short getDimTileColor(char tile) {
+    private static short getDimTileColor(char tile) {
         return switch (tile) {
             // Стены и пол
             case '.', '|', '~', CORRIDOR, '+' -> COLOR_BLUE;
@@ -0,0 +1,237 @@
+package org.example.domain.service;
+
+import org.example.domain.entity.GameSession;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.example.config.GameConstants.Icons.*;
+
+/**
+ * Поиск пути A* без выделения памяти на горячем пути.
+ * Все рабочие буферы плоские, принадлежат объекту и переиспользуются между вызовами:
+ * массивы посещений помечаются номером поколения, поэтому их не нужно очищать,
+ * а открытый список хранится в двоичной куче из примитивов.
+ */
+public class Pathfinder {
+
+    private static final int[] DX = {-1, 1, 0, 0};
+    private static final int[] DY = {0, 0, -1, 1};
+
+    private int width;
+    private int height;
+
+    // Буферы по клеткам карты (индекс y * width + x)
+    private int[] gScore = new int[0];
+    private int[] parent = new int[0];
+    private int[] seenGeneration = new int[0];   // клетка получила оценку в текущем поиске
+    private int[] closedGeneration = new int[0]; // клетка окончательно обработана
+    private int generation;
+
+    // Двоичная куча открытого списка
+    private int[] heapNodes = new int[0];
+    private long[] heapKeys = new long[0];
+    private int heapSize;
+
+    // Результат последнего поиска
+    private int startIndex = -1;
+    private int goalIndex = -1;
+    private boolean found;
+
+    /**
+     * Ищет путь от (sx, sy) до (ex, ey) в 4 направлениях по всей карте.
+     * Клетки, занятые живыми врагами, непроходимы (кроме целевой).
+     *
+     * @return true, если путь найден
+     */
+    public boolean search(GameSession session, char[][] map, int sx, int sy, int ex, int ey) {
+        return search(session, map, sx, sy, ex, ey, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ищет путь, не выходя за клетки дальше maxDistance шагов (манхэттенское расстояние) от цели.
+     * Стоимость неудачного поиска ограничена окрестностью цели, а не связной областью карты.
+     *
+     * @return true, если путь найден
+     */
+    public boolean search(GameSession session, char[][] map, int sx, int sy, int ex, int ey, int maxDistance) {
+        ensureCapacity(map[0].length, map.length);
+        nextGeneration();
+
+        found = false;
+        heapSize = 0;
+        startIndex = sy * width + sx;
+        goalIndex = ey * width + ex;
+
+        if (!inBounds(sx, sy) || !inBounds(ex, ey)) return false;
+
+        gScore[startIndex] = 0;
+        parent[startIndex] = -1;
+        seenGeneration[startIndex] = generation;
+        push(startIndex, key(0, sx, sy, ex, ey));
+
+        while (heapSize > 0) {
+            int cur = pop();
+            if (closedGeneration[cur] == generation) continue; // устаревшая запись кучи
+            closedGeneration[cur] = generation;
+
+            if (cur == goalIndex) {
+                found = true;
+                return true;
+            }
+
+            int x = cur % width;
+            int y = cur / width;
+            int nextScore = gScore[cur] + 1;
+
+            for (int i = 0; i < 4; i++) {
+                int nx = x + DX[i];
+                int ny = y + DY[i];
+                if (!inBounds(nx, ny)) continue;
+                if (Math.abs(ex - nx) + Math.abs(ey - ny) > maxDistance) continue;
+
+                int idx = ny * width + nx;
+                if (closedGeneration[idx] == generation) continue;
+                if (seenGeneration[idx] == generation && gScore[idx] <= nextScore) continue;
+
+                char tile = map[ny][nx];
+                if (tile == W_WALL || tile == H_WALL || tile == EMPTINESS) continue;
+                if (idx != goalIndex && session.getEnemyAt(nx, ny) != null) continue;
+
+                seenGeneration[idx] = generation;
+                gScore[idx] = nextScore;
+                parent[idx] = cur;
+                push(idx, key(nextScore, nx, ny, ex, ey));
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return X координата первого шага найденного пути или -1
+     */
+    public int nextStepX() {
+        int step = firstStep();
+        return step < 0 ? -1 : step % width;
+    }
+
+    /**
+     * @return Y координата первого шага найденного пути или -1
+     */
+    public int nextStepY() {
+        int step = firstStep();
+        return step < 0 ? -1 : step / width;
+    }
+
+    /**
+     * @return число шагов найденного пути или -1, если путь не найден
+     */
+    public int pathLength() {
+        return found ? gScore[goalIndex] : -1;
+    }
+
+    /**
+     * Возвращает полный путь последнего поиска, включая начальную и конечную клетки.
+     * Выделяет память, поэтому предназначен для отладки и редких вызовов.
+     */
+    public List<int[]> buildPath() {
+        if (!found) return null;
+
+        int length = gScore[goalIndex] + 1;
+        int[][] cells = new int[length][];
+        int cur = goalIndex;
+        for (int i = length - 1; i >= 0; i--) {
+            cells[i] = new int[]{cur % width, cur / width};
+            cur = parent[cur];
+        }
+        return new ArrayList<>(Arrays.asList(cells));
+    }
+
+    // ==================== ПРИВАТНЫЕ МЕТОДЫ ====================
+
+    private int firstStep() {
+        if (!found || goalIndex == startIndex) return -1;
+        int cur = goalIndex;
+        while (parent[cur] != startIndex) {
+            cur = parent[cur];
+        }
+        return cur;
+    }
+
+    /**
+     * Ключ кучи: сначала f = g + h, при равенстве - меньшая эвристика.
+     */
+    private long key(int g, int x, int y, int ex, int ey) {
+        int h = Math.abs(ex - x) + Math.abs(ey - y);
+        return ((long) (g + h) << 32) | h;
+    }
+
+    private boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(seenGeneration, 0);
+            Arrays.fill(closedGeneration, 0);
+            generation = 1;
+        }
+    }
+
+    private void ensureCapacity(int newWidth, int newHeight) {
+        int size = newWidth * newHeight;
+        if (newWidth != width || newHeight != height) {
+            width = newWidth;
+            height = newHeight;
+            if (gScore.length < size) {
+                gScore = new int[size];
+                parent = new int[size];
+                seenGeneration = new int[size];
+                closedGeneration = new int[size];
+                heapNodes = new int[size];
+                heapKeys = new long[size];
+                generation = 0;
+            }
+        }
+    }
+
+    private void push(int node, long key) {
+        if (heapSize == heapNodes.length) {
+            heapNodes = Arrays.copyOf(heapNodes, Math.max(16, heapSize * 2));
+            heapKeys = Arrays.copyOf(heapKeys, heapNodes.length);
+        }
+        int i = heapSize++;
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (heapKeys[p] <= key) break;
+            heapNodes[i] = heapNodes[p];
+            heapKeys[i] = heapKeys[p];
+            i = p;
+        }
+        heapNodes[i] = node;
+        heapKeys[i] = key;
+    }
+
+    private int pop() {
+        int result = heapNodes[0];
+        int lastNode = heapNodes[--heapSize];
+        long lastKey = heapKeys[heapSize];
+
+        int i = 0;
+        int half = heapSize >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < heapSize && heapKeys[right] < heapKeys[child]) child = right;
+            if (lastKey <= heapKeys[child]) break;
+            heapNodes[i] = heapNodes[child];
+            heapKeys[i] = heapKeys[child];
+            i = child;
+        }
+        heapNodes[i] = lastNode;
+        heapKeys[i] = lastKey;
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.domain.service;
+
+import org.example.domain.interfaces.FovAlgorithm;
+import org.example.domain.model.CellBitSet;
+
+/**
+ * Поле зрения лучами Брезенхэма: по одному лучу в каждую клетку периметра
+ * квадрата обзора (8r лучей). Клетки рядом с игроком проходятся многократно,
+ * поэтому реализация оставлена как эталон для сравнения с другими алгоритмами.
+ */
+public class RayCastingFov implements FovAlgorithm {
+
+    @Override
+    public void compute(char[][] map, int originX, int originY, int radius, CellBitSet visible) {
+        int r = radius;
+
+        // Верхняя и нижняя границы (включая углы)
+        for (int dx = -r; dx <= r; dx++) {
+            castRayBresenham(originX, originY, originX + dx, originY - r, map, visible);
+            castRayBresenham(originX, originY, originX + dx, originY + r, map, visible);
+        }
+
+        // Левая и правая границы (без углов, чтобы не дублировать)
+        for (int dy = -r + 1; dy <= r - 1; dy++) {
+            castRayBresenham(originX, originY, originX - r, originY + dy, map, visible);
+            castRayBresenham(originX, originY, originX + r, originY + dy, map, visible);
+        }
+    }
+
+    /**
+     * Целочисленный алгоритм Брезенхэма для луча
+     * Идет от (x0,y0) до (x1,y1), добавляя клетки в видимые
+     * Останавливается на стенах и границах карты
+     */
+    private void castRayBresenham(int x0, int y0, int x1, int y1, char[][] map, CellBitSet visible) {
+        int dx = Math.abs(x1 - x0);
+        int dy = Math.abs(y1 - y0);
+        int sx = x0 < x1 ? 1 : -1;
+        int sy = y0 < y1 ? 1 : -1;
+        int err = dx - dy;
+
+        int x = x0;
+        int y = y0;
+
+        while (true) {
+            // Границы карты
+            if (x < 0 || y < 0 || y >= map.length || x >= map[y].length) break;
+
+            // Добавляем клетку как видимую
+            visible.set(x, y);
+
+            // Проверка препятствий
+            if (FovAlgorithm.isOpaque(map, x, y)) {
+                break;
+            }
+
+            // Достигли конца луча
+            if (x == x1 && y == y1) break;
+
+            // Шаг Брезенхэма
+            int e2 = 2 * err;
+            if (e2 > -dy) {
+                err -= dy;
+                x += sx;
+            }
+            if (e2 < dx) {
+                err += dx;
+                y += sy;
+            }
+        }
+    }
+}
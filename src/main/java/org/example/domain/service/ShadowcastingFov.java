@@ -0,0 +1,101 @@
+package org.example.domain.service;
+
+import org.example.domain.interfaces.FovAlgorithm;
+import org.example.domain.model.CellBitSet;
+
+/**
+ * Симметричный рекурсивный shadowcasting (вариант Альберта Форда).
+ * Обзор строится по четырем квадрантам строками от наблюдателя; каждая клетка
+ * в радиусе обзора рассматривается не более одного раза на квадрант.
+ * Видимость симметрична: если A видит B, то и B видит A.
+ * Наклоны хранятся обыкновенными дробями, поэтому вычисления точные и без выделения памяти.
+ */
+public class ShadowcastingFov implements FovAlgorithm {
+
+    // Направления строк и столбцов для квадрантов: север, восток, юг, запад
+    private static final int[] ROW_DX = {0, 1, 0, -1};
+    private static final int[] ROW_DY = {-1, 0, 1, 0};
+    private static final int[] COL_DX = {1, 0, 1, 0};
+    private static final int[] COL_DY = {0, 1, 0, 1};
+
+    private static final int NONE = 0;
+    private static final int WALL = 1;
+    private static final int FLOOR = 2;
+
+    // Состояние текущего вычисления
+    private char[][] map;
+    private CellBitSet visible;
+    private int originX;
+    private int originY;
+    private int radius;
+    private int quadrant;
+
+    @Override
+    public void compute(char[][] map, int originX, int originY, int radius, CellBitSet visible) {
+        this.map = map;
+        this.visible = visible;
+        this.originX = originX;
+        this.originY = originY;
+        this.radius = radius;
+
+        visible.set(originX, originY);
+        for (quadrant = 0; quadrant < 4; quadrant++) {
+            scan(1, -1, 1, 1, 1);
+        }
+
+        this.map = null;
+        this.visible = null;
+    }
+
+    /**
+     * Сканирует строку квадранта на глубине depth между наклонами
+     * startNum/startDen и endNum/endDen (знаменатели всегда положительны).
+     */
+    private void scan(int depth, int startNum, int startDen, int endNum, int endDen) {
+        if (depth > radius) return;
+
+        int minCol = roundTiesUp(depth * startNum, startDen);
+        int maxCol = roundTiesDown(depth * endNum, endDen);
+        int prev = NONE;
+
+        for (int col = minCol; col <= maxCol; col++) {
+            int x = originX + depth * ROW_DX[quadrant] + col * COL_DX[quadrant];
+            int y = originY + depth * ROW_DY[quadrant] + col * COL_DY[quadrant];
+            boolean wall = FovAlgorithm.isOpaque(map, x, y);
+
+            // Стены видны всегда, пол - только если клетка симметрично видима
+            if (wall || (col * startDen >= depth * startNum && col * endDen <= depth * endNum)) {
+                visible.set(x, y);
+            }
+
+            if (prev == WALL && !wall) {
+                // Конец тени: сужаем начало сектора
+                startNum = 2 * col - 1;
+                startDen = 2 * depth;
+            }
+            if (prev == FLOOR && wall) {
+                // Начало тени: продолжаем видимую часть сектора на следующей строке
+                scan(depth + 1, startNum, startDen, 2 * col - 1, 2 * depth);
+            }
+            prev = wall ? WALL : FLOOR;
+        }
+
+        if (prev == FLOOR) {
+            scan(depth + 1, startNum, startDen, endNum, endDen);
+        }
+    }
+
+    /**
+     * Округление num/den до ближайшего целого, половины - вверх.
+     */
+    private static int roundTiesUp(int num, int den) {
+        return Math.floorDiv(2 * num + den, 2 * den);
+    }
+
+    /**
+     * Округление num/den до ближайшего целого, половины - вниз.
+     */
+    private static int roundTiesDown(int num, int den) {
+        return -Math.floorDiv(den - 2 * num, 2 * den);
+    }
+}
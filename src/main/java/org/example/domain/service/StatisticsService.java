@@ -67,6 +67,13 @@ public class StatisticsService {
     }
 
     public List<SessionStat> getScoreboardStats() {
-        return repository.getAllStats();
+        return repository.getTopStats();
+    }
+
+    /**
+     * Записывает отложенную статистику и останавливает фоновую запись (в конце игры).
+     */
+    public void close() throws IOException {
+        repository.close();
     }
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+package org.example.domain.service;
+
+import org.example.domain.enums.GamePhase;
+import org.example.domain.interfaces.TurnMetrics;
+import org.example.domain.model.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Профилировщик хода: гистограммы длительности каждой фазы и хода целиком.
+ * Длительность хода - сумма отрисовки, команды, поля зрения и хода врагов;
+ * ожидание ввода в нее не входит (это время игрока, а не игры).
+ * Для самого медленного хода сохраняется разбивка по фазам, чтобы было видно,
+ * какая фаза дала задержку. Запись замера не создает объектов.
+ */
+public class TurnProfiler implements TurnMetrics {
+
+    /** Порог "медленного" хода в наносекундах (заметная игроку задержка) */
+    public static final long SLOW_TURN_NANOS = 50_000_000L;
+
+    private static final GamePhase[] PHASES = GamePhase.values();
+
+    private final LatencyHistogram[] phaseHistograms = new LatencyHistogram[PHASES.length];
+    private final LatencyHistogram turnHistogram = new LatencyHistogram();
+
+    private final long[] currentTurn = new long[PHASES.length]; // фазы текущего хода
+    private final long[] slowestTurn = new long[PHASES.length]; // фазы самого медленного хода
+    private long slowestTurnTotal = -1;
+    private long slowestTurnNumber;
+    private long turns;
+
+    public TurnProfiler() {
+        for (int i = 0; i < PHASES.length; i++) {
+            phaseHistograms[i] = new LatencyHistogram();
+        }
+    }
+
+    @Override
+    public void record(GamePhase phase, long nanos) {
+        phaseHistograms[phase.ordinal()].record(nanos);
+        currentTurn[phase.ordinal()] += nanos;
+    }
+
+    @Override
+    public void turnCompleted() {
+        turns++;
+        long total = turnTotal(currentTurn);
+        turnHistogram.record(total);
+        if (total > slowestTurnTotal) {
+            slowestTurnTotal = total;
+            slowestTurnNumber = turns;
+            System.arraycopy(currentTurn, 0, slowestTurn, 0, currentTurn.length);
+        }
+        Arrays.fill(currentTurn, 0L);
+    }
+
+    /**
+     * Сбрасывает фазы незавершенного хода; замеры фаз в гистограммах фаз остаются.
+     */
+    @Override
+    public void discardTurn() {
+        Arrays.fill(currentTurn, 0L);
+    }
+
+    public LatencyHistogram getHistogram(GamePhase phase) {
+        return phaseHistograms[phase.ordinal()];
+    }
+
+    public LatencyHistogram getTurnHistogram() {
+        return turnHistogram;
+    }
+
+    public long getTurns() {
+        return turns;
+    }
+
+    /**
+     * Короткая сводка для отладочного оверлея: p50/p99/max по фазам в миллисекундах.
+     */
+    @Override
+    public List<String> getSummaryLines() {
+        List<String> lines = new ArrayList<>(PHASES.length + 3);
+        lines.add(String.format(Locale.ROOT, "%-8s %6s %6s %6s", "ms", "p50", "p99", "max"));
+        lines.add(summaryLine("turn", turnHistogram));
+        for (GamePhase phase : PHASES) {
+            lines.add(summaryLine(phase.getLabel(), getHistogram(phase)));
+        }
+        lines.add(String.format(Locale.ROOT, "turns %d, slow %d",
+                turns, turnHistogram.countAtOrAbove(SLOW_TURN_NANOS)));
+        return lines;
+    }
+
+    /**
+     * Записывает подробный отчет (процентили по фазам и разбивку самого медленного хода).
+     */
+    public void writeReport(Path path) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "turns: %d, slow turns (>= %d ms): %d%n",
+                turns, SLOW_TURN_NANOS / 1_000_000, turnHistogram.countAtOrAbove(SLOW_TURN_NANOS)));
+        sb.append(String.format(Locale.ROOT, "%-10s %10s %10s %10s %10s %10s %10s %10s%n",
+                "phase (ms)", "count", "mean", "p50", "p90", "p99", "p99.9", "max"));
+        appendReportLine(sb, "turn", turnHistogram);
+        for (GamePhase phase : PHASES) {
+            appendReportLine(sb, phase.getLabel(), getHistogram(phase));
+        }
+
+        if (slowestTurnTotal >= 0) {
+            sb.append(String.format(Locale.ROOT, "%nslowest turn #%d: %.3f ms%n",
+                    slowestTurnNumber, slowestTurnTotal / 1e6));
+            for (GamePhase phase : PHASES) {
+                sb.append(String.format(Locale.ROOT, "  %-10s %10.3f%n", phase.getLabel(),
+                        slowestTurn[phase.ordinal()] / 1e6));
+            }
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(path, sb.toString(), StandardCharsets.UTF_8);
+    }
+
+    private static long turnTotal(long[] phases) {
+        return phases[GamePhase.RENDER.ordinal()]
+                + phases[GamePhase.COMMAND.ordinal()]
+                + phases[GamePhase.FOV.ordinal()]
+                + phases[GamePhase.AI.ordinal()];
+    }
+
+    private static String summaryLine(String label, LatencyHistogram histogram) {
+        return String.format(Locale.ROOT, "%-8s %6.2f %6.2f %6.2f", label,
+                histogram.getValueAtPercentile(50) / 1e6,
+                histogram.getValueAtPercentile(99) / 1e6,
+                histogram.getMax() / 1e6);
+    }
+
+    private static void appendReportLine(StringBuilder sb, String label, LatencyHistogram histogram) {
+        sb.append(String.format(Locale.ROOT, "%-10s %10d %10.3f %10.3f %10.3f %10.3f %10.3f %10.3f%n",
+                label,
+                histogram.getTotalCount(),
+                histogram.getMean() / 1e6,
+                histogram.getValueAtPercentile(50) / 1e6,
+                histogram.getValueAtPercentile(90) / 1e6,
+                histogram.getValueAtPercentile(99) / 1e6,
+                histogram.getValueAtPercentile(99.9) / 1e6,
+                histogram.getMax() / 1e6));
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.domain.simulation;
+
+import org.example.domain.entity.GameSession;
+import org.example.domain.entity.Item;
+import org.example.domain.entity.Player;
+import org.example.domain.enums.ItemType;
+import org.example.domain.model.Position;
+import org.example.domain.service.DistanceMap;
+
+import java.util.Random;
+
+/**
+ * Простой бот: идет к выходу по карте расстояний, атакует соседних врагов,
+ * ест при низком здоровье и экипирует первое найденное оружие.
+ * Если путь к выходу заблокирован, делает случайный шаг.
+ */
+public class ExitSeekingBot implements InputSource {
+
+    private static final char EXIT = 'E';
+    private static final int[] DX = {0, 0, -1, 1};
+    private static final int[] DY = {-1, 1, 0, 0};
+    private static final int[] MOVE_KEYS = {'w', 's', 'a', 'd'};
+
+    private final DistanceMap exitDistances = new DistanceMap();
+    private final Random random;
+
+    private char[][] mappedLevel; // карта, для которой построены расстояния до выхода
+    private int pendingSelection; // клавиша выбора предмета после 'j'/'h', 0 - нет
+
+    public ExitSeekingBot(long seed) {
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public int nextKey(GameSession session) {
+        if (pendingSelection != 0) {
+            int key = pendingSelection;
+            pendingSelection = 0;
+            return key;
+        }
+
+        Player player = session.getPlayer();
+        if (player.getHealth() * 2 < player.getMaxHealth()
+                && player.getInventory().count(ItemType.FOOD) > 0) {
+            pendingSelection = '1';
+            return 'j';
+        }
+
+        Item weapon = player.getEquippedWeapon();
+        if ((weapon == null || "fists".equals(weapon.getSubType()))
+                && player.getInventory().count(ItemType.WEAPON) > 0) {
+            pendingSelection = '1';
+            return 'h';
+        }
+
+        Position pos = player.getPosition();
+        for (int i = 0; i < DX.length; i++) {
+            if (session.getEnemyAt(pos.getX() + DX[i], pos.getY() + DY[i]) != null) {
+                return MOVE_KEYS[i];
+            }
+        }
+
+        char[][] map = session.getCurrentMap();
+        if (map != mappedLevel) {
+            mapExit(map);
+        }
+
+        int best = -1;
+        int bestDistance = exitDistances.get(pos.getX(), pos.getY());
+        for (int i = 0; i < DX.length; i++) {
+            int distance = exitDistances.get(pos.getX() + DX[i], pos.getY() + DY[i]);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = i;
+            }
+        }
+        return MOVE_KEYS[best >= 0 ? best : random.nextInt(MOVE_KEYS.length)];
+    }
+
+    private void mapExit(char[][] map) {
+        mappedLevel = map;
+        for (int y = 0; y < map.length; y++) {
+            for (int x = 0; x < map[y].length; x++) {
+                if (map[y][x] == EXIT) {
+                    exitDistances.compute(map, x, y);
+                    return;
+                }
+            }
+        }
+        // Выхода нет (например, на последнем уровне) - расстояния недостижимы
+        exitDistances.compute(map, -1, -1);
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.domain.simulation;
+
+import org.example.domain.entity.GameSession;
+
+/**
+ * Источник нажатий клавиш для безголового прогона.
+ * Возвращает коды в том же виде, что и терминал (см. GameCommandHandler.processInput).
+ */
+public interface InputSource {
+
+    /**
+     * Возвращает код следующей клавиши.
+     *
+     * @param session текущая игровая сессия (для ботов, принимающих решения по состоянию мира)
+     */
+    int nextKey(GameSession session);
+}
@@ -0,0 +1,55 @@
+package org.example.domain.simulation;
+
+import org.example.domain.enums.GamePhase;
+import org.example.domain.interfaces.TurnMetrics;
+
+/**
+ * Накопитель замеров фаз хода: сумма, число замеров и максимум по каждой фазе.
+ * Не создает объектов на замер, поэтому не искажает прогоны из тысяч партий.
+ */
+public class PhaseTimings implements TurnMetrics {
+
+    private final long[] totalNanos = new long[GamePhase.values().length];
+    private final long[] counts = new long[GamePhase.values().length];
+    private final long[] maxNanos = new long[GamePhase.values().length];
+    private long turns;
+
+    @Override
+    public void record(GamePhase phase, long nanos) {
+        int i = phase.ordinal();
+        totalNanos[i] += nanos;
+        counts[i]++;
+        if (nanos > maxNanos[i]) {
+            maxNanos[i] = nanos;
+        }
+    }
+
+    @Override
+    public void turnCompleted() {
+        turns++;
+    }
+
+    public long getTurns() {
+        return turns;
+    }
+
+    public long getTotalNanos(GamePhase phase) {
+        return totalNanos[phase.ordinal()];
+    }
+
+    public long getCount(GamePhase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    public long getMaxNanos(GamePhase phase) {
+        return maxNanos[phase.ordinal()];
+    }
+
+    /**
+     * Среднее время фазы в микросекундах (0, если замеров не было).
+     */
+    public double getMeanMicros(GamePhase phase) {
+        long count = getCount(phase);
+        return count == 0 ? 0 : getTotalNanos(phase) / 1_000.0 / count;
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.domain.simulation;
+
+import org.example.domain.entity.GameSession;
+
+import java.util.Random;
+
+/**
+ * Случайное блуждание: на каждом ходу нажимает одну из клавиш WASD.
+ */
+public class RandomWalkInput implements InputSource {
+
+    private static final int[] MOVE_KEYS = {'w', 'a', 's', 'd'};
+
+    private final Random random;
+
+    public RandomWalkInput(long seed) {
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public int nextKey(GameSession session) {
+        return MOVE_KEYS[random.nextInt(MOVE_KEYS.length)];
+    }
+}
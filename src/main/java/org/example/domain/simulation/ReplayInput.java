@@ -0,0 +1,33 @@
+package org.example.domain.simulation;
+
+import org.example.domain.entity.GameSession;
+
+import static org.example.config.GameConstants.Control.ESC_KEY_CODE;
+
+/**
+ * Воспроизведение записанного ввода: каждый символ файла - одно нажатие клавиши.
+ * Переводы строк пропускаются, по окончании файла нажимается ESC (выход из игры).
+ */
+public class ReplayInput implements InputSource {
+
+    private final String keys;
+    private int position;
+
+    /**
+     * @param keys записанные нажатия (например, содержимое файла)
+     */
+    public ReplayInput(String keys) {
+        this.keys = keys;
+    }
+
+    @Override
+    public int nextKey(GameSession session) {
+        while (position < keys.length()) {
+            char key = keys.charAt(position++);
+            if (key != '\n' && key != '\r') {
+                return key;
+            }
+        }
+        return ESC_KEY_CODE;
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.domain.simulation;
+
+import org.example.datalayer.InMemorySessionStatRepository;
+import org.example.datalayer.NullAutosaveRepository;
+import org.example.domain.GameInitializer;
+import org.example.domain.GameLoop;
+import org.example.domain.entity.GameSession;
+import org.example.domain.entity.SessionStat;
+import org.example.domain.model.MapLayout;
+import org.example.domain.model.RandomStreams;
+import org.example.presentation.views.HeadlessRenderer;
+
+import java.io.IOException;
+import java.util.function.LongFunction;
+
+/**
+ * Безголовый прогон партий: настоящий игровой цикл без терминала,
+ * ввод - из подключаемого {@link InputSource}, сохранения - в памяти.
+ * Партия i использует зерно baseSeed + i, поэтому прогон полностью воспроизводим.
+ */
+public class SimulationEngine {
+
+    private final long baseSeed;
+    private final MapLayout layout;
+    private final LongFunction<InputSource> inputFactory;
+    private final long maxKeysPerGame;
+    private final InMemorySessionStatRepository statRepository = new InMemorySessionStatRepository();
+
+    /**
+     * @param baseSeed       зерно первой партии
+     * @param layout         размеры карты
+     * @param inputFactory   создает источник ввода для партии по ее зерну
+     * @param maxKeysPerGame лимит нажатий клавиш на партию (защита от зацикливания бота);
+     *                       по его исчерпании партия завершается выходом и считается незавершенной
+     */
+    public SimulationEngine(long baseSeed, MapLayout layout,
+                            LongFunction<InputSource> inputFactory, long maxKeysPerGame) {
+        this.baseSeed = baseSeed;
+        this.layout = layout;
+        this.inputFactory = inputFactory;
+        this.maxKeysPerGame = maxKeysPerGame;
+    }
+
+    /**
+     * Проигрывает заданное число партий подряд.
+     */
+    public SimulationReport run(int games) throws IOException {
+        PhaseTimings timings = new PhaseTimings();
+        int victories = 0;
+        int deaths = 0;
+        int unfinished = 0;
+        long levelsReached = 0;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            long seed = baseSeed + i;
+            HeadlessRenderer renderer = new HeadlessRenderer(inputFactory.apply(seed), maxKeysPerGame,
+                    layout.getWidth(), layout.getHeight());
+            GameInitializer initializer = new GameInitializer(new SessionStat(), renderer, statRepository,
+                    new NullAutosaveRepository(), new RandomStreams(seed), layout);
+            initializer.initializeNewGame();
+            int finishedBefore = statRepository.size();
+            new GameLoop(initializer, timings).start();
+
+            // Смерть и победа попадают в таблицу рекордов, выход по ESC - нет
+            GameSession session = initializer.getSession();
+            levelsReached += session.getLevelNum();
+            if (session.getPlayer().getHealth() <= 0) {
+                deaths++;
+            } else if (statRepository.size() > finishedBefore) {
+                victories++;
+            } else {
+                unfinished++;
+            }
+        }
+        long wallNanos = System.nanoTime() - start;
+
+        return new SimulationReport(games, victories, deaths, unfinished, levelsReached, wallNanos, timings);
+    }
+
+    /**
+     * @return репозиторий с результатами всех сыгранных партий
+     */
+    public InMemorySessionStatRepository getStatRepository() {
+        return statRepository;
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.domain.simulation;
+
+import org.example.domain.enums.GamePhase;
+
+import java.util.Locale;
+
+/**
+ * Итоги безголового прогона: исходы партий, пропускная способность и время по фазам хода.
+ */
+public class SimulationReport {
+
+    private final int games;
+    private final int victories;
+    private final int deaths;
+    private final int unfinished;
+    private final long levelsReached;
+    private final long wallNanos;
+    private final PhaseTimings timings;
+
+    public SimulationReport(int games, int victories, int deaths, int unfinished,
+                            long levelsReached, long wallNanos, PhaseTimings timings) {
+        this.games = games;
+        this.victories = victories;
+        this.deaths = deaths;
+        this.unfinished = unfinished;
+        this.levelsReached = levelsReached;
+        this.wallNanos = wallNanos;
+        this.timings = timings;
+    }
+
+    public int getGames() { return games; }
+    public int getVictories() { return victories; }
+    public int getDeaths() { return deaths; }
+    public int getUnfinished() { return unfinished; }
+    public long getWallNanos() { return wallNanos; }
+    public PhaseTimings getTimings() { return timings; }
+
+    public long getTurns() {
+        return timings.getTurns();
+    }
+
+    public double getTurnsPerSecond() {
+        return wallNanos == 0 ? 0 : timings.getTurns() * 1_000_000_000.0 / wallNanos;
+    }
+
+    public double getAverageLevel() {
+        return games == 0 ? 0 : (double) levelsReached / games;
+    }
+
+    /**
+     * Форматирует отчет в виде текстовой таблицы.
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT,
+                "games=%d victories=%d deaths=%d unfinished=%d avgLevel=%.2f%n",
+                games, victories, deaths, unfinished, getAverageLevel()));
+        sb.append(String.format(Locale.ROOT,
+                "turns=%d wall=%.2fs turns/sec=%.0f%n",
+                getTurns(), wallNanos / 1e9, getTurnsPerSecond()));
+        sb.append(String.format(Locale.ROOT, "%-10s %12s %12s %12s %12s%n",
+                "phase", "samples", "total ms", "mean us", "max us"));
+        for (GamePhase phase : GamePhase.values()) {
+            sb.append(String.format(Locale.ROOT, "%-10s %12d %12.1f %12.2f %12.1f%n",
+                    phase.getLabel(),
+                    timings.getCount(phase),
+                    timings.getTotalNanos(phase) / 1e6,
+                    timings.getMeanMicros(phase),
+                    timings.getMaxNanos(phase) / 1e3));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.presentation.views;
+
+import org.example.domain.dto.VisibleMapDto;
+import org.example.domain.entity.Enemy;
+import org.example.domain.entity.GameSession;
+import org.example.domain.entity.Message;
+import org.example.domain.entity.SessionStat;
+import org.example.domain.input.ItemSelectionState;
+import org.example.domain.interfaces.Renderer;
+import org.example.domain.model.SaveSlotUiModel;
+import org.example.domain.service.FogOfWarService;
+import org.example.domain.service.MapVisibilityService;
+import org.example.domain.simulation.InputSource;
+
+import java.util.List;
+
+import static org.example.config.GameConstants.Control.ESC_KEY_CODE;
+
+/**
+ * Рендерер без вывода для безголовых прогонов.
+ * Ничего не рисует; нажатия клавиш берет из {@link InputSource}.
+ * После исчерпания лимита нажатий возвращает ESC, чтобы партия завершилась.
+ */
+public class HeadlessRenderer implements Renderer {
+
+    private final InputSource inputSource;
+    private final long maxKeys;
+    private final int width;
+    private final int height;
+
+    private GameSession session;
+    private long keysRead;
+
+    /**
+     * @param inputSource источник нажатий клавиш
+     * @param maxKeys     лимит нажатий на партию
+     * @param width       ширина "экрана"
+     * @param height      высота "экрана"
+     */
+    public HeadlessRenderer(InputSource inputSource, long maxKeys, int width, int height) {
+        this.inputSource = inputSource;
+        this.maxKeys = maxKeys;
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public int readCharacter() {
+        if (keysRead >= maxKeys || session == null) {
+            return ESC_KEY_CODE;
+        }
+        keysRead++;
+        return inputSource.nextKey(session);
+    }
+
+    @Override
+    public void drawChar(int x, int y, char symbol, int color) {
+    }
+
+    @Override
+    public void drawString(int x, int y, String text, int color) {
+    }
+
+    @Override
+    public void clearScreen() {
+    }
+
+    @Override
+    public void clearLine(int y) {
+    }
+
+    @Override
+    public void removeEnemy(GameSession session, Enemy enemy, char[][] asciiMap) {
+    }
+
+    @Override
+    public void drawMap(VisibleMapDto visibleMap) {
+    }
+
+    @Override
+    public void drawStatusBar(int playerHealth, int maxHealth, int pX, int pY, int level, int treasures) {
+    }
+
+    @Override
+    public void drawMessage(int line, String message, int color) {
+    }
+
+    @Override
+    public void drawMenuScreen(int currentOption) {
+    }
+
+    @Override
+    public void drawLoadGameScreen(int currentOption, List<SaveSlotUiModel> saveSlots) {
+    }
+
+    @Override
+    public void drawScoreboard(List<SessionStat> stats) {
+    }
+
+    @Override
+    public void renderWorld(GameSession session,
+                            char[][] asciiMap,
+                            MapVisibilityService visibilityService,
+                            FogOfWarService fow,
+                            ItemSelectionState selectionState,
+                            Message message) {
+        this.session = session;
+    }
+
+    @Override
+    public void setDebugOverlay(List<String> lines) {
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public void shutdown() {
+    }
+}
@@ -1,8 +1,6 @@
 package org.example.presentation.views;
 
 import jcurses.system.CharColor;
-import jcurses.system.InputChar;
-import jcurses.system.Toolkit;
 import org.example.config.GameConstants;
 import org.example.domain.entity.*;
 import org.example.domain.dto.VisibleMapDto;
@@ -13,6 +11,7 @@ import org.example.domain.model.SaveSlotUiModel;
 import org.example.domain.service.FogOfWarService;
 import org.example.domain.service.MapVisibilityService;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static org.example.config.GameConstants.Colors.*;
@@ -22,42 +21,97 @@ import static org.example.config.GameConstants.ScreenConfig.*;
 /**
  * Реализация интерфейса Renderer для библиотеки JCurses.
  * Отвечает за отрисовку игрового интерфейса в терминале.
+ * Игровой экран рисуется инкрементально: рендерер хранит последний выведенный кадр
+ * и строки интерфейса и отправляет в терминал только изменившиеся клетки и строки.
  */
 public class JCursesRenderer implements Renderer {
 
-    // Размеры игровой карты
+    // Размеры области карты на экране (карта большего размера прокручивается)
     private final int width;
     private final int height;
+    private final Terminal terminal;
     private final CharColor defaultColor;
 
     // Смещение для отрисовки карты на экране
     private static final int MAP_OFFSET_X = GameConstants.Map.MAP_OFFSET_X;
     private static final int MAP_OFFSET_Y = GameConstants.Map.MAP_OFFSET_Y;
 
+    // Цвет, не совпадающий ни с одним реальным: клетка будет перерисована в следующем кадре
+    private static final short INVALID_COLOR = -2;
+
+    // Области строк интерфейса: под картой и боковая панель справа
+    private static final int BOTTOM_REGION = 0;
+    private static final int PANEL_REGION = 1;
+    private static final int PANEL_X = 84;
+    private static final int PANEL_WIDTH =
+            GameConstants.Map.TERMINAL_WIDTH - PANEL_X - MAP_OFFSET_X;
+    private static final int LINE_ROWS = GameConstants.Map.TERMINAL_HEIGHT;
+
+    // Область меню выбора предмета (поверх карты)
+    private static final int MENU_X = 45;
+    private static final int MENU_Y = 5;
+    private static final int MENU_W = 33;
+    private static final int MENU_H = 15;
+    private static final int MENU_SCREEN_W = MENU_W + 2; // вместе с рамкой
+
+    // Тип предмета открытого меню выбора (null - меню закрыто или должно быть перерисовано)
+    private org.example.domain.enums.ItemType openMenuType;
+
+    // Отладочный оверлей замеров: в боковой панели под списком предметов уровня
+    private static final int DEBUG_OVERLAY_Y = 28;
+
+    // Собираемый кадр карты (карта + враги + игрок) и последний выведенный кадр
+    private char[] frameSymbols = new char[0];
+    private short[] frameColors = new short[0];
+    private char[] lastSymbols = new char[0];
+    private short[] lastColors = new short[0];
+    private int frameWidth;
+    private int frameHeight;
+    private int viewOriginX; // левый верхний угол кадра на карте
+    private int viewOriginY;
+
+    // Последние выведенные строки интерфейса по областям и строкам экрана
+    private final String[] lineText = new String[2 * LINE_ROWS];
+    private final short[] lineColor = new short[2 * LINE_ROWS];
+    private final boolean[] lineUsed = new boolean[2 * LINE_ROWS];
+    private final boolean[] lineWasUsed = new boolean[2 * LINE_ROWS];
+
+    // Палитра цветовых пар [фон][цвет символа], создается один раз и переиспользуется
+    private final TerminalPalette<CharColor> palette;
+
+    private List<String> debugOverlay; // строки оверлея замеров или null
+
+    private final StringBuilder runBuffer = new StringBuilder();
+    private final StringBuilder lineBuffer = new StringBuilder();
+
     /**
      * Конструктор инициализирует рендерер и библиотеку JCurses.
      */
     public JCursesRenderer() {
-        this.width = GameConstants.Map.WIDTH;
-        this.height = GameConstants.Map.HEIGHT;
-        this.defaultColor = new CharColor(COLOR_BLACK, COLOR_BLACK);
-        Toolkit.init();
-        Toolkit.clearScreen(defaultColor);
+        this(new JCursesTerminal());
+    }
+
+    /**
+     * Рендерер поверх указанного терминала (без JCurses - для тестов и бенчмарков).
+     */
+    JCursesRenderer(Terminal terminal) {
+        this.width = GameConstants.Map.VIEWPORT_WIDTH;
+        this.height = GameConstants.Map.VIEWPORT_HEIGHT;
+        this.terminal = terminal;
+        this.palette = new TerminalPalette<>(CharColor::new);
+        this.defaultColor = color(COLOR_BLACK, COLOR_BLACK);
+        terminal.clearScreen(defaultColor);
     }
 
     @Override
     public int readCharacter() {
-        InputChar input = Toolkit.readCharacter();
-        return input.getCode();
+        return terminal.readCharacter();
     }
 
     @Override
     public void drawMap(VisibleMapDto visibleMap) {
-        for (int y = 0; y < visibleMap.height(); y++) {
-            for (int x = 0; x < visibleMap.width(); x++) {
-                drawChar(x, y, visibleMap.getSymbol(x, y), visibleMap.getColor(x, y));
-            }
-        }
+        composeMap(visibleMap);
+        flushFrame(false);
     }
 
     /**
@@ -73,11 +127,11 @@ public class JCursesRenderer implements Renderer {
         // Валидация цвета в пределах допустимого диапазона
         short safeColor = (short) Math.max(COLOR_BLACK, Math.min(color, COLOR_WHITE));
 
-        Toolkit.printString(
-                String.valueOf(symbol),
+        terminal.printString(
+                TerminalPalette.symbol(symbol),
                 x + MAP_OFFSET_X,
                 y + MAP_OFFSET_Y,
-                new CharColor(COLOR_BLACK, safeColor)
+                color(COLOR_BLACK, safeColor)
         );
     }
 
@@ -93,11 +147,11 @@ public class JCursesRenderer implements Renderer {
     public void drawString(int x, int y, String text, int color) {
         short safeColor = (short) Math.max(COLOR_BLACK, Math.min(color, COLOR_WHITE));
 
-        Toolkit.printString(
+        terminal.printString(
                 text,
                 x + MAP_OFFSET_X,
                 y + MAP_OFFSET_Y,
-                new CharColor(COLOR_BLACK, safeColor)
+                color(COLOR_BLACK, safeColor)
         );
     }
 
@@ -106,7 +160,8 @@ public class JCursesRenderer implements Renderer {
      */
     @Override
     public void clearScreen() {
-        Toolkit.clearScreen(defaultColor);
+        terminal.clearScreen(defaultColor);
+        invalidateFrame();
     }
 
     /**
@@ -125,7 +180,7 @@ public class JCursesRenderer implements Renderer {
                 "HP: %d/%d | Position: %d,%d | Level: %d | Treasures: %d",
                 playerHealth, maxHealth, pX, pY, level, treasures
         );
-        drawString(3, GameConstants.Map.HEIGHT + 5, status, COLOR_CYAN);
+        drawString(3, height + 5, status, COLOR_CYAN);
     }
 
     /**
@@ -166,24 +221,24 @@ public class JCursesRenderer implements Renderer {
         int menuWidth = menuItems[0].length();
         int menuHeight = menuItems.length;
 
-        int screenWidth = Toolkit.getScreenWidth();
-        int screenHeight = Toolkit.getScreenHeight();
+        int screenWidth = terminal.getScreenWidth();
+        int screenHeight = terminal.getScreenHeight();
 
         // Центрирование меню на экране
         int shiftX = (screenWidth - menuWidth) / 2;
         int shiftY = (screenHeight - menuHeight) / 2;
 
         // Отрисовка рамки меню
-        CharColor menuColor = new CharColor(COLOR_BLACK, COLOR_WHITE);
+        CharColor menuColor = color(COLOR_BLACK, COLOR_WHITE);
         for (int i = 0; i < menuHeight; i++) {
-            Toolkit.printString(menuItems[i], shiftX, shiftY + i, menuColor);
+            terminal.printString(menuItems[i], shiftX, shiftY + i, menuColor);
         }
 
         // Подсветка выбранного пункта меню
         int optionRow = shiftY + 3 + currentOption;
-        CharColor pointerColor = new CharColor(COLOR_BLACK, COLOR_YELLOW);
-        Toolkit.printString("<<<", shiftX + 5, optionRow, pointerColor);
-        Toolkit.printString(">>>", shiftX + 24, optionRow, pointerColor);
+        CharColor pointerColor = color(COLOR_BLACK, COLOR_YELLOW);
+        terminal.printString("<<<", shiftX + 5, optionRow, pointerColor);
+        terminal.printString(">>>", shiftX + 24, optionRow, pointerColor);
     }
 
     @Override
@@ -194,24 +249,24 @@ public class JCursesRenderer implements Renderer {
         final int headerHeight = 3;
         final int slotRowHeight = 1;
 
-        int screenWidth = Toolkit.getScreenWidth();
-        int screenHeight = Toolkit.getScreenHeight();
+        int screenWidth = terminal.getScreenWidth();
+        int screenHeight = terminal.getScreenHeight();
 
         int totalHeight = headerHeight + saveSlots.size() * slotRowHeight + 3;
         int shiftX = Math.max(0, (screenWidth - slotWidth) / 2);
         int shiftY = Math.max(0, (screenHeight - totalHeight) / 2);
 
         // Цвета: обычный, указатель и выделенный текст
-        CharColor normalColor = new CharColor(COLOR_BLACK, COLOR_WHITE);
-        CharColor pointerColor = new CharColor(COLOR_BLACK, COLOR_YELLOW);
-        CharColor selectedTextColor = new CharColor(COLOR_BLACK, COLOR_YELLOW); // Желтый текст для выделения
+        CharColor normalColor = color(COLOR_BLACK, COLOR_WHITE);
+        CharColor pointerColor = color(COLOR_BLACK, COLOR_YELLOW);
+        CharColor selectedTextColor = color(COLOR_BLACK, COLOR_YELLOW); // Желтый текст для выделения
 
         // Рамка и заголовок
         String border = "+" + "-".repeat(slotWidth - 2) + "+";
-        Toolkit.printString(" ".repeat((slotWidth - "LOAD GAME".length()) / 2) +
+        terminal.printString(" ".repeat((slotWidth - "LOAD GAME".length()) / 2) +
                         "LOAD GAME",
                 shiftX, shiftY + 1, normalColor);
-        Toolkit.printString(border, shiftX, shiftY + 2, normalColor);
+        terminal.printString(border, shiftX, shiftY + 2, normalColor);
 
         // Слоты сохранений (с динамическим цветом)
         for (int i = 0; i < saveSlots.size(); i++) {
@@ -227,20 +282,20 @@ public class JCursesRenderer implements Renderer {
             String slotText = String.format("       %-23s  ", desc);
 
             CharColor currentColor = (i == currentOption) ? selectedTextColor : normalColor;
-            Toolkit.printString(slotText, shiftX, y, currentColor);
-            Toolkit.printString(borders, shiftX, y, normalColor);
-            Toolkit.printString(borders, shiftX + slotWidth - 1, y, normalColor);
+            terminal.printString(slotText, shiftX, y, currentColor);
+            terminal.printString(borders, shiftX, y, normalColor);
+            terminal.printString(borders, shiftX + slotWidth - 1, y, normalColor);
         }
 
         // Нижняя рамка
         int bottomY = shiftY + headerHeight + saveSlots.size() * slotRowHeight;
-        Toolkit.printString(border, shiftX, bottomY, normalColor);
+        terminal.printString(border, shiftX, bottomY, normalColor);
 
         // Указатели
         if (!saveSlots.isEmpty()) {
             int pointerY = shiftY + headerHeight + currentOption * slotRowHeight;
-            Toolkit.printString("<<<", shiftX + 2, pointerY, pointerColor);
-            Toolkit.printString(">>>", shiftX + slotWidth - 5, pointerY, pointerColor);
+            terminal.printString("<<<", shiftX + 2, pointerY, pointerColor);
+            terminal.printString(">>>", shiftX + slotWidth - 5, pointerY, pointerColor);
         }
 
         // Сообщение о лимите
@@ -257,13 +312,13 @@ public class JCursesRenderer implements Renderer {
             drawString(5, 10, "Scoreboard is empty", CharColor.YELLOW);
             drawString(5, 11, "Play a game first to create it", CharColor.WHITE);
             drawString(5, 13, "Press any key to return...", CharColor.YELLOW);
-            Toolkit.readCharacter();
+            terminal.readCharacter();
             return;
         }
 
         drawTable(stats);
 
-        Toolkit.readCharacter();
+        terminal.readCharacter();
     }
 
     @Override
@@ -273,49 +328,240 @@ public class JCursesRenderer implements Renderer {
                             FogOfWarService fow,
                             ItemSelectionState selectionState,
                             Message message) {
-        // 1. Подготовка экрана
-        clearScreen();
-
-       VisibleMapDto visibleMap = visibilityService.prepareVisibleMap(asciiMap, session.getPlayer());
-        drawMap(visibleMap);
-
-        // 3. Отрисовка врагов (только тех, кто в зоне видимости и не скрыт туманом)
-        for (Enemy enemy : session.getEnemies()) {
-            if (!enemy.isInvisible() && fow.isVisible(enemy.getX(), enemy.getY())) {
-                drawChar(enemy.getX(), enemy.getY(), enemy.getType(), enemy.getColor());
+        // 1. Сборка кадра карты (экран не очищается, выводятся только изменения).
+        // Для большой карты кадр - окно вокруг игрока, сущности переводятся в координаты окна
+        VisibleMapDto visibleMap = visibilityService.prepareVisibleMap(asciiMap, session.getPlayer());
+        composeMap(visibleMap);
+
+        // 2. Враги (только те, кто в зоне видимости и не скрыт туманом)
+        EnemyTable enemies = session.getEnemyTable();
+        for (int row = 0; row < enemies.size(); row++) {
+            int ex = enemies.getX(row);
+            int ey = enemies.getY(row);
+            if (!enemies.isInvisible(row) && fow.isVisible(ex, ey)) {
+                putFrameCell(ex - viewOriginX, ey - viewOriginY, enemies.getType(row), enemies.getColor(row));
             }
         }
 
-        // 4. Отрисовка игрока (всегда поверх карты и врагов)
+        // 3. Игрок (всегда поверх карты и врагов)
         Position p = session.getPlayer().getPosition();
-        drawChar(p.getX(), p.getY(), GameConstants.Icons.PLAYER, COLOR_YELLOW);
+        putFrameCell(p.getX() - viewOriginX, p.getY() - viewOriginY, GameConstants.Icons.PLAYER, COLOR_YELLOW);
+
+        // 4. Вывод изменившихся клеток. Клетки под открытым меню не выводятся,
+        // после закрытия меню они перерисовываются один раз
+        org.example.domain.enums.ItemType menuType =
+                selectionState.isAwaitingSelection() ? selectionState.getPendingItemType() : null;
+        if (menuType == null && openMenuType != null) {
+            invalidateRect(MENU_X, MENU_Y, MENU_SCREEN_W, MENU_H);
+        }
+        flushFrame(menuType != null);
 
         // 5. Отрисовка интерфейса (UI)
-        // Если игрок сейчас выбирает предмет в меню — рисуем меню. Иначе — обычный статус-бар.
-        if (selectionState.isAwaitingSelection()) {
-            drawSelectionMenu(selectionState, session.getPlayer());
+        // Если игрок сейчас выбирает предмет в меню — рисуем меню (один раз при открытии).
+        // Иначе — обычный статус-бар.
+        beginLines();
+        if (menuType != null) {
+            if (menuType != openMenuType) {
+                drawSelectionMenu(menuType, session.getPlayer());
+            }
         } else {
             drawGameUI(session);
         }
+        openMenuType = menuType;
 
         // 6. Отрисовка игровых сообщений (события боя, поднятие предметов)
         drawMessages(message);
+
+        // 7. Отладочный оверлей замеров (если включен)
+        drawDebugOverlay();
+        endLines();
+    }
+
+    // ==================== ИНКРЕМЕНТАЛЬНАЯ ОТРИСОВКА ====================
+
+    /**
+     * Копирует видимую карту в собираемый кадр.
+     */
+    private void composeMap(VisibleMapDto visibleMap) {
+        ensureFrame(visibleMap.width(), visibleMap.height());
+        viewOriginX = visibleMap.originX();
+        viewOriginY = visibleMap.originY();
+        int i = 0;
+        for (int y = 0; y < frameHeight; y++) {
+            for (int x = 0; x < frameWidth; x++, i++) {
+                frameSymbols[i] = visibleMap.getSymbol(x, y);
+                frameColors[i] = TerminalPalette.clampColor(visibleMap.getColor(x, y));
+            }
+        }
+    }
+
+    private void putFrameCell(int x, int y, char symbol, int color) {
+        if (x < 0 || y < 0 || x >= frameWidth || y >= frameHeight) return;
+        frameSymbols[y * frameWidth + x] = symbol;
+        frameColors[y * frameWidth + x] = TerminalPalette.clampColor(color);
+    }
+
+    /**
+     * Выводит клетки, отличающиеся от последнего кадра. Подряд идущие
+     * измененные клетки одного цвета в строке выводятся одной строкой.
+     *
+     * @param skipMenu не выводить клетки под открытым меню выбора (они остаются неактуальными)
+     */
+    private void flushFrame(boolean skipMenu) {
+        for (int y = 0; y < frameHeight; y++) {
+            int row = y * frameWidth;
+            boolean menuRow = skipMenu && y >= MENU_Y && y < MENU_Y + MENU_H;
+            int x = 0;
+            while (x < frameWidth) {
+                int i = row + x;
+                if (menuRow && x >= MENU_X && x < MENU_X + MENU_SCREEN_W) {
+                    x = MENU_X + MENU_SCREEN_W;
+                    continue;
+                }
+                if (frameSymbols[i] == lastSymbols[i] && frameColors[i] == lastColors[i]) {
+                    x++;
+                    continue;
+                }
+
+                short color = frameColors[i];
+                int start = x;
+                runBuffer.setLength(0);
+                while (x < frameWidth) {
+                    i = row + x;
+                    if (frameColors[i] != color
+                            || (frameSymbols[i] == lastSymbols[i] && lastColors[i] == color)
+                            || (menuRow && x == MENU_X)) {
+                        break;
+                    }
+                    runBuffer.append(frameSymbols[i]);
+                    lastSymbols[i] = frameSymbols[i];
+                    lastColors[i] = color;
+                    x++;
+                }
+                // Одиночная клетка (шаг игрока или врага) выводится готовой строкой символа
+                String run = x - start == 1 ? TerminalPalette.symbol(runBuffer.charAt(0)) : runBuffer.toString();
+                terminal.printString(run, start + MAP_OFFSET_X, y + MAP_OFFSET_Y, color(COLOR_BLACK, color));
+            }
+        }
+    }
+
+    private void ensureFrame(int newWidth, int newHeight) {
+        if (newWidth == frameWidth && newHeight == frameHeight) return;
+        frameWidth = newWidth;
+        frameHeight = newHeight;
+        frameSymbols = new char[newWidth * newHeight];
+        frameColors = new short[newWidth * newHeight];
+        lastSymbols = new char[newWidth * newHeight];
+        lastColors = new short[newWidth * newHeight];
+        Arrays.fill(lastColors, INVALID_COLOR);
+    }
+
+    /**
+     * Помечает весь кадр и строки интерфейса как неактуальные (после очистки экрана).
+     */
+    private void invalidateFrame() {
+        Arrays.fill(lastColors, INVALID_COLOR);
+        openMenuType = null; // меню будет нарисовано заново
+        Arrays.fill(lineText, null);
+        Arrays.fill(lineUsed, false);
+        Arrays.fill(lineWasUsed, false);
+    }
+
+    /**
+     * Помечает прямоугольник карты как неактуальный: он будет перерисован в следующем кадре.
+     */
+    private void invalidateRect(int x0, int y0, int w, int h) {
+        for (int y = Math.max(0, y0); y < Math.min(frameHeight, y0 + h); y++) {
+            for (int x = Math.max(0, x0); x < Math.min(frameWidth, x0 + w); x++) {
+                lastColors[y * frameWidth + x] = INVALID_COLOR;
+            }
+        }
+    }
+
+    private void beginLines() {
+        System.arraycopy(lineUsed, 0, lineWasUsed, 0, lineUsed.length);
+        Arrays.fill(lineUsed, false);
+    }
+
+    /**
+     * Стирает строки интерфейса, которые были в прошлом кадре, но не выводились в этом.
+     */
+    private void endLines() {
+        for (int slot = 0; slot < lineUsed.length; slot++) {
+            if (lineWasUsed[slot] && !lineUsed[slot]) {
+                int region = slot / LINE_ROWS;
+                drawString(regionX(region), slot % LINE_ROWS, " ".repeat(regionWidth(region)), COLOR_BLACK);
+                lineText[slot] = null;
+            }
+        }
+    }
+
+    /**
+     * Выводит строку интерфейса, дополненную пробелами до ширины области,
+     * только если она отличается от уже выведенной в этой строке экрана.
+     *
+     * @param region область ({@link #BOTTOM_REGION} или {@link #PANEL_REGION})
+     * @param x      координата X (как в {@link #drawString})
+     * @param y      координата Y
+     */
+    private void drawLine(int region, int x, int y, String text, int color) {
+        if (y < 0 || y >= LINE_ROWS) {
+            drawString(x, y, text, color);
+            return;
+        }
+
+        int width = regionWidth(region);
+        lineBuffer.setLength(0);
+        for (int i = regionX(region); i < x; i++) {
+            lineBuffer.append(' ');
+        }
+        lineBuffer.append(text);
+        if (lineBuffer.length() > width) {
+            lineBuffer.setLength(width);
+        }
+        while (lineBuffer.length() < width) {
+            lineBuffer.append(' ');
+        }
+
+        int slot = region * LINE_ROWS + y;
+        short safeColor = TerminalPalette.clampColor(color);
+        lineUsed[slot] = true;
+        if (lineText[slot] != null && lineColor[slot] == safeColor && lineText[slot].contentEquals(lineBuffer)) {
+            return;
+        }
+        lineText[slot] = lineBuffer.toString();
+        lineColor[slot] = safeColor;
+        drawString(regionX(region), y, lineText[slot], safeColor);
+    }
+
+    private int regionX(int region) {
+        return region == PANEL_REGION ? PANEL_X : MAP_OFFSET_X;
+    }
+
+    private int regionWidth(int region) {
+        return region == PANEL_REGION ? PANEL_WIDTH : width;
+    }
+
+    /**
+     * Возвращает цветовую пару из палитры (без создания объектов).
+     */
+    private CharColor color(short background, short foreground) {
+        return palette.color(background, foreground);
     }
 
     private void drawGameUI(GameSession session) {
         Player player = session.getPlayer();
         // Статус-бар (здоровье, уровень, золото)
-        drawStatusBar(
-                player.getHealth(),
-                player.getMaxHealth(),
-                player.getPosition().getX(),
-                player.getPosition().getY(),
-                session.getLevelNum(),
-                player.getTreasureValue()
+        String status = String.format(
+                "HP: %d/%d | Position: %d,%d | Level: %d | Treasures: %d",
+                player.getHealth(), player.getMaxHealth(),
+                player.getPosition().getX(), player.getPosition().getY(),
+                session.getLevelNum(), player.getTreasureValue()
         );
+        drawLine(BOTTOM_REGION, 3, height + 5, status, COLOR_CYAN);
 
         // Подсказки по управлению
-        drawString(3, GameConstants.Map.HEIGHT + 4,
+        drawLine(BOTTOM_REGION, 3, height + 4,
                 "WASD:move | h:weapon | j:food | k:elixir | e:scroll | q:unequip | ESC:save&exit",
                 COLOR_CYAN);
 
@@ -325,53 +571,56 @@ public class JCursesRenderer implements Renderer {
     }
 
     private void drawLevelItems(List<Item> items) {
-        int x = 84, y = 20;
-        drawString(x, y++, "=== ITEMS ON LEVEL ===", COLOR_CYAN);
+        int x = PANEL_X, y = 20;
+        drawLine(PANEL_REGION, x, y++, "=== ITEMS ON LEVEL ===", COLOR_CYAN);
         if (items.isEmpty()) {
-            drawString(x, y, "No items on this level", COLOR_WHITE);
+            drawLine(PANEL_REGION, x, y, "No items on this level", COLOR_WHITE);
         } else {
             int max = Math.min(5, items.size());
             for (int i = 0; i < max; i++) {
                 Item item = items.get(i);
-                drawString(x, y++, String.format("%d. %s at (%d,%d)", i + 1, item.getType(), item.getX(), item.getY()), COLOR_WHITE);
+                drawLine(PANEL_REGION, x, y++, String.format("%d. %s at (%d,%d)", i + 1, item.getType(), item.getX(), item.getY()), COLOR_WHITE);
             }
         }
     }
 
     private void drawInventory(Player player) {
         int y = 0;
-        int x = 84;
-        drawString(x, y++, "=== INVENTORY ===", COLOR_CYAN);
+        int x = PANEL_X;
+        drawLine(PANEL_REGION, x, y++, "=== INVENTORY ===", COLOR_CYAN);
         Inventory inv = player.getInventory();
 
         if (inv.getTreasureValue() > 0) {
-            drawString(x + 2, y++, "Treasure: " + inv.getTreasureValue() + " gold", COLOR_YELLOW);
+            drawLine(PANEL_REGION, x + 2, y++, "Treasure: " + inv.getTreasureValue() + " gold", COLOR_YELLOW);
         }
 
         for (org.example.domain.enums.ItemType type : org.example.domain.enums.ItemType.values()) {
             if (type == org.example.domain.enums.ItemType.TREASURE) continue;
             List<Item> items = inv.getItems(type);
             if (!items.isEmpty()) {
-                drawString(x + 2, y++, type.name() + ": " + items.size(), getItemTypeColor(type));
+                drawLine(PANEL_REGION, x + 2, y++, type.name() + ": " + items.size(), getItemTypeColor(type));
                 for (int i = 0; i < Math.min(2, items.size()); i++) {
-                    drawString(x + 4, y++, "- " + formatItemShortInfo(items.get(i)), COLOR_WHITE);
+                    drawLine(PANEL_REGION, x + 4, y++, "- " + formatItemShortInfo(items.get(i)), COLOR_WHITE);
                 }
             }
         }
 
         Item eq = player.getEquippedWeapon();
         if (eq != null && !eq.getSubType().equals("fists")) {
-            drawString(x, y++, "Equipped: " + eq.getSubType() + " (STR+" + eq.getStrength() + ")", COLOR_GREEN);
+            drawLine(PANEL_REGION, x, y++, "Equipped: " + eq.getSubType() + " (STR+" + eq.getStrength() + ")", COLOR_GREEN);
         }
     }
 
-    private void drawSelectionMenu(ItemSelectionState state, Player player) {
-        org.example.domain.enums.ItemType type = state.getPendingItemType();
-        int menuX = 45, menuY = 5, menuW = 33, menuH = 15;
+    /**
+     * Рисует меню выбора предмета поверх карты. Вызывается только при открытии меню
+     * (или смене его типа): клетки карты под меню не выводятся, пока оно открыто.
+     */
+    private void drawSelectionMenu(org.example.domain.enums.ItemType type, Player player) {
+        int menuX = MENU_X, menuY = MENU_Y, menuW = MENU_W, menuH = MENU_H;
 
         // Очистка области меню
         for (int i = menuY; i < menuY + menuH; i++) {
-            drawString(menuX, i, " ".repeat(menuW + 2), COLOR_BLACK);
+            drawString(menuX, i, " ".repeat(MENU_SCREEN_W), COLOR_BLACK);
         }
 
         // Рамка
@@ -407,21 +656,34 @@ public class JCursesRenderer implements Renderer {
         return item.getSubType() + (item.getStrength() > 0 ? " (STR+" + item.getStrength() + ")" : "");
     }
 
+    @Override
+    public void setDebugOverlay(List<String> lines) {
+        this.debugOverlay = lines;
+    }
+
+    private void drawDebugOverlay() {
+        if (debugOverlay == null) return;
+        int y = DEBUG_OVERLAY_Y;
+        for (int i = 0; i < debugOverlay.size() && y < LINE_ROWS; i++) {
+            drawLine(PANEL_REGION, PANEL_X, y++, debugOverlay.get(i), i == 0 ? COLOR_CYAN : COLOR_WHITE);
+        }
+    }
+
     private void drawMessages(Message message) {
         if (message.getMessageTimer() > 0) {
             if (message.getActiveMessageLine1() != null)
-                drawMessage(MESSAGE_LINE_1, message.getActiveMessageLine1(), COLOR_YELLOW);
+                drawLine(BOTTOM_REGION, MAP_OFFSET_X, MESSAGE_LINE_1, "> " + message.getActiveMessageLine1(), COLOR_YELLOW);
             if (message.getActiveMessageLine2() != null)
-                drawMessage(MESSAGE_LINE_2, message.getActiveMessageLine2(), COLOR_YELLOW);
+                drawLine(BOTTOM_REGION, MAP_OFFSET_X, MESSAGE_LINE_2, "> " + message.getActiveMessageLine2(), COLOR_YELLOW);
             if (message.getActiveMessageLine3() != null)
-                drawMessage(MESSAGE_LINE_3, message.getActiveMessageLine3(), COLOR_YELLOW);
+                drawLine(BOTTOM_REGION, MAP_OFFSET_X, MESSAGE_LINE_3, "> " + message.getActiveMessageLine3(), COLOR_YELLOW);
         }
     }
 
     private void drawTable(List<SessionStat> stats) {
         // Получаем размеры терминала
-        int screenWidth = Toolkit.getScreenWidth();
-        int screenHeight = Toolkit.getScreenHeight();
+        int screenWidth = terminal.getScreenWidth();
+        int screenHeight = terminal.getScreenHeight();
 
         String[] headers = {
                 "treasures", "level", "enemies", "food",
@@ -501,7 +763,7 @@ public class JCursesRenderer implements Renderer {
     }
 
     /**
-     * Возвращает ширину игровой карты.
+     * Возвращает ширину области карты на экране.
      */
     @Override
     public int getWidth() {
@@ -509,7 +771,7 @@ public class JCursesRenderer implements Renderer {
     }
 
     /**
-     * Возвращает высоту игровой карты.
+     * Возвращает высоту области карты на экране.
      */
     @Override
     public int getHeight() {
@@ -527,7 +789,7 @@ public class JCursesRenderer implements Renderer {
     }
 
     /**
-     * Удалить врага с карты и из списка врагов
+     * Убрать убитого врага с экрана (из уровня он уже удален игровой логикой)
      *
      * @param session  игровая сессия
      * @param enemy    враг для удаления
@@ -535,12 +797,8 @@ public class JCursesRenderer implements Renderer {
      */
     @Override
     public void removeEnemy(GameSession session, Enemy enemy, char[][] asciiMap) {
-        // Очистка позиции врага на карте
-        Toolkit.printString(String.valueOf(asciiMap[enemy.getY()][enemy.getX()]),
-                enemy.getX() + MAP_OFFSET_X, enemy.getY(),
-                new CharColor(CharColor.BLACK, CharColor.WHITE));
-        // Удаление врага из списка активных врагов
-        session.getEnemies().remove(enemy);
+        // Клетка врага будет перерисована в следующем кадре
+        invalidateRect(enemy.getX() - viewOriginX, enemy.getY() - viewOriginY, 1, 1);
     }
 
     /**
@@ -548,7 +806,7 @@ public class JCursesRenderer implements Renderer {
      */
     @Override
     public void shutdown() {
-        Toolkit.shutdown();
+        terminal.shutdown();
         System.out.print(SHOW_CURSOR); // Восстановление курсора при выходе
     }
 }
\ No newline at end of file
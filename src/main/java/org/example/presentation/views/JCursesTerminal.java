@@ -0,0 +1,44 @@
+package org.example.presentation.views;
+
+import jcurses.system.CharColor;
+import jcurses.system.Toolkit;
+
+/**
+ * Терминал на библиотеке JCurses: инициализирует ее при создании.
+ */
+final class JCursesTerminal implements Terminal {
+
+    JCursesTerminal() {
+        Toolkit.init();
+    }
+
+    @Override
+    public void printString(String text, int x, int y, CharColor color) {
+        Toolkit.printString(text, x, y, color);
+    }
+
+    @Override
+    public void clearScreen(CharColor color) {
+        Toolkit.clearScreen(color);
+    }
+
+    @Override
+    public int readCharacter() {
+        return Toolkit.readCharacter().getCode();
+    }
+
+    @Override
+    public int getScreenWidth() {
+        return Toolkit.getScreenWidth();
+    }
+
+    @Override
+    public int getScreenHeight() {
+        return Toolkit.getScreenHeight();
+    }
+
+    @Override
+    public void shutdown() {
+        Toolkit.shutdown();
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.presentation.views;
+
+import jcurses.system.CharColor;
+
+/**
+ * Вывод в терминал, которым пользуется {@link JCursesRenderer}.
+ * Позволяет прогонять отрисовку кадра без настоящего терминала (тесты, бенчмарки).
+ */
+interface Terminal {
+
+    void printString(String text, int x, int y, CharColor color);
+
+    void clearScreen(CharColor color);
+
+    /**
+     * Ожидает нажатие клавиши и возвращает ее код.
+     */
+    int readCharacter();
+
+    int getScreenWidth();
+
+    int getScreenHeight();
+
+    void shutdown();
+}
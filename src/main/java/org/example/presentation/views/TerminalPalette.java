@@ -0,0 +1,63 @@
+package org.example.presentation.views;
+
+import static org.example.config.GameConstants.Colors.COLOR_BLACK;
+import static org.example.config.GameConstants.Colors.COLOR_WHITE;
+
+/**
+ * Палитра цветовых пар терминала [фон][цвет символа] и строки из одного ASCII-символа.
+ * Все объекты создаются один раз, поэтому отрисовка кадра ничего не выделяет.
+ * Класс не обращается к терминалу: пары создает переданная фабрика.
+ *
+ * @param <C> тип цветовой пары (для JCurses - CharColor)
+ */
+final class TerminalPalette<C> {
+
+    // Число цветов терминала (COLOR_BLACK..COLOR_WHITE)
+    static final int SIZE = COLOR_WHITE + 1;
+
+    // Строки из одного ASCII-символа, чтобы вывод символа не создавал строку на каждый вызов
+    private static final String[] CHAR_STRINGS = new String[128];
+
+    static {
+        for (char c = 0; c < CHAR_STRINGS.length; c++) {
+            CHAR_STRINGS[c] = String.valueOf(c);
+        }
+    }
+
+    /**
+     * Создает цветовую пару.
+     */
+    @FunctionalInterface
+    interface PairFactory<C> {
+        C create(short background, short foreground);
+    }
+
+    private final Object[] pairs = new Object[SIZE * SIZE];
+
+    TerminalPalette(PairFactory<C> factory) {
+        for (short bg = 0; bg < SIZE; bg++) {
+            for (short fg = 0; fg < SIZE; fg++) {
+                pairs[bg * SIZE + fg] = factory.create(bg, fg);
+            }
+        }
+    }
+
+    /**
+     * Возвращает цветовую пару (цвета вне палитры приводятся к допустимым).
+     */
+    @SuppressWarnings("unchecked")
+    C color(int background, int foreground) {
+        return (C) pairs[clampColor(background) * SIZE + clampColor(foreground)];
+    }
+
+    /**
+     * Возвращает строку из одного символа (для ASCII - без создания объекта).
+     */
+    static String symbol(char c) {
+        return c < CHAR_STRINGS.length ? CHAR_STRINGS[c] : String.valueOf(c);
+    }
+
+    static short clampColor(int color) {
+        return (short) Math.max(COLOR_BLACK, Math.min(color, COLOR_WHITE));
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.datalayer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Отчет об ошибках фоновой записи и дозапись очереди при закрытии AsyncAutosaveRepository.
+ */
+class AsyncAutosaveRepositoryTest {
+
+    @Test
+    void closeWritesQueuedSnapshot() {
+        RecordingRepository delegate = new RecordingRepository(true);
+        AsyncAutosaveRepository repository = new AsyncAutosaveRepository(delegate);
+        GameState state = new GameState();
+
+        assertTrue(repository.save(state));
+        repository.close();
+
+        assertEquals(List.of(state), delegate.saved);
+    }
+
+    @Test
+    void nextSaveReportsFailedBackgroundWrite() {
+        RecordingRepository delegate = new RecordingRepository(false);
+        AsyncAutosaveRepository repository = new AsyncAutosaveRepository(delegate);
+
+        assertTrue(repository.save(new GameState()));
+        repository.flush();
+        assertFalse(repository.save(new GameState()));
+        // Ошибка сообщается один раз; вторая запись тоже не удалась и будет сообщена следующему save
+        repository.flush();
+        delegate.succeed = true;
+        assertFalse(repository.save(new GameState()));
+        repository.flush();
+        assertTrue(repository.save(new GameState()));
+        repository.close();
+    }
+
+    @Test
+    void saveAfterCloseRestartsWriter() {
+        RecordingRepository delegate = new RecordingRepository(true);
+        AsyncAutosaveRepository repository = new AsyncAutosaveRepository(delegate);
+        repository.close();
+
+        GameState state = new GameState();
+        assertTrue(repository.save(state));
+        repository.close();
+
+        assertEquals(List.of(state), delegate.saved);
+    }
+
+    /**
+     * Репозиторий, запоминающий записанные снимки; запись может завершаться ошибкой.
+     */
+    private static final class RecordingRepository extends NullAutosaveRepository {
+        final List<GameState> saved = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean succeed;
+
+        RecordingRepository(boolean succeed) {
+            this.succeed = succeed;
+        }
+
+        @Override
+        public boolean save(GameState gameState) {
+            if (!succeed) return false;
+            saved.add(gameState);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package org.example.datalayer;
+
+import org.example.domain.GameInitializer;
+import org.example.domain.entity.GameSession;
+import org.example.domain.entity.SessionStat;
+import org.example.domain.enums.SaveFormat;
+import org.example.domain.factory.GeneratedLevel;
+import org.example.domain.model.MapLayout;
+import org.example.domain.model.Position;
+import org.example.domain.model.RandomStreams;
+import org.example.domain.service.AutosaveService;
+import org.example.domain.service.FogOfWarService;
+import org.example.presentation.views.HeadlessRenderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Бинарный формат сохранения: обратимость через JSON, пустые секции
+ * и отказ читать поврежденные или чужие файлы.
+ */
+class GameStateBinaryCodecTest {
+
+    private final GameStateCodec json = GameStateCodec.forFormat(SaveFormat.JSON);
+    private final GameStateCodec binary = GameStateCodec.forFormat(SaveFormat.BINARY);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void jsonToBinaryToJsonIsLossless() throws IOException {
+        for (long seed = 1; seed <= 4; seed++) {
+            byte[] original = json.encode(gameState(seed));
+            byte[] encoded = binary.encode(json.decode(original));
+            assertJsonEquals(original, json.encode(binary.decode(encoded)));
+        }
+    }
+
+    @Test
+    void stateWithoutSectionsRoundTrips() throws IOException {
+        GameState state = new GameState("20260101_000000");
+
+        GameState decoded = binary.decode(binary.encode(state));
+
+        assertEquals("20260101_000000", decoded.getTimestamp());
+        assertNull(decoded.getPlayerState());
+        assertNull(decoded.getLevelState());
+        assertNull(decoded.getSessionStat());
+        assertNull(decoded.getGameSessionState());
+        assertNull(decoded.getFogOfWarState());
+    }
+
+    @Test
+    void emptySectionsRoundTrip() throws IOException {
+        GameState state = new GameState("20260101_000000");
+        state.setLevelState(new GameState.LevelState());
+        state.setGameSessionState(new GameState.GameSessionState());
+        state.setFogOfWarState(new GameState.FogOfWarState());
+        state.setSessionStat(new SessionStat());
+
+        GameState decoded = binary.decode(binary.encode(state));
+
+        assertNull(decoded.getLevelState().getAsciiMap());
+        assertTrue(decoded.getLevelState().getEnemies().isEmpty());
+        assertNull(decoded.getGameSessionState().getCurrentMap());
+        assertTrue(decoded.getFogOfWarState().getExploredCells().isEmpty());
+        assertJsonEquals(json.encode(state), json.encode(decoded));
+    }
+
+    @Test
+    void fogWithoutExploredCellsRoundTrips() throws IOException {
+        GameState state = gameState(1);
+        state.getFogOfWarState().getExploredCells().clear();
+
+        GameState decoded = binary.decode(binary.encode(state));
+
+        assertNotNull(decoded.getFogOfWarState());
+        assertTrue(decoded.getFogOfWarState().getExploredCells().isEmpty());
+        assertJsonEquals(json.encode(state), json.encode(decoded));
+    }
+
+    @Test
+    void rejectsWrongMagic() throws IOException {
+        byte[] data = binary.encode(gameState(1));
+        data[0] = 'X';
+        updateCrc(data);
+
+        IOException e = assertThrows(IOException.class, () -> binary.decode(data));
+        assertTrue(e.getMessage().contains("Not a binary save"), e.getMessage());
+    }
+
+    @Test
+    void rejectsUnsupportedVersion() throws IOException {
+        byte[] data = binary.encode(gameState(1));
+        data[4] = 0;
+        data[5] = 99;
+        updateCrc(data);
+
+        IOException e = assertThrows(IOException.class, () -> binary.decode(data));
+        assertTrue(e.getMessage().contains("Unsupported binary save version: 99"), e.getMessage());
+    }
+
+    @Test
+    void rejectsFlippedCrcByte() throws IOException {
+        byte[] data = binary.encode(gameState(1));
+        data[data.length - 1] ^= 1;
+
+        IOException e = assertThrows(IOException.class, () -> binary.decode(data));
+        assertTrue(e.getMessage().contains("checksum"), e.getMessage());
+    }
+
+    @Test
+    void rejectsFlippedPayloadByte() throws IOException {
+        byte[] data = binary.encode(gameState(1));
+        data[data.length / 2] ^= 1;
+
+        assertThrows(IOException.class, () -> binary.decode(data));
+    }
+
+    @Test
+    void converterRoundTripsFileBetweenFormats() throws IOException {
+        GameState state = gameState(2);
+        Path jsonFile = directory.resolve("autosave_test" + SaveFormat.JSON.getExtension());
+        byte[] original = AutosaveRepository.writeState(state, jsonFile, SaveFormat.JSON);
+
+        Path binaryFile = SaveFormatConverter.convert(jsonFile, SaveFormat.BINARY);
+        assertEquals(directory.resolve("autosave_test" + SaveFormat.BINARY.getExtension()), binaryFile);
+        assertFalse(Files.exists(jsonFile));
+
+        Path back = SaveFormatConverter.convert(binaryFile, SaveFormat.JSON);
+        assertEquals(jsonFile, back);
+        assertFalse(Files.exists(binaryFile));
+        assertJsonEquals(original, Files.readAllBytes(back));
+    }
+
+    @Test
+    void converterKeepsFileInTargetFormat() throws IOException {
+        Path binaryFile = directory.resolve("autosave_test" + SaveFormat.BINARY.getExtension());
+        AutosaveRepository.writeState(gameState(1), binaryFile, SaveFormat.BINARY);
+
+        assertEquals(binaryFile, SaveFormatConverter.convert(binaryFile, SaveFormat.BINARY));
+        assertTrue(Files.exists(binaryFile));
+    }
+
+    /**
+     * Снимок состояния настоящей игры: уровень по зерну, враги, предметы и туман войны.
+     */
+    private static GameState gameState(long seed) throws IOException {
+        GameInitializer initializer = new GameInitializer(new SessionStat(),
+                new HeadlessRenderer(session -> 27, 0, 0, 0),
+                new InMemorySessionStatRepository(), new NullAutosaveRepository(),
+                new RandomStreams(seed), MapLayout.DEFAULT);
+        initializer.initializeNewGame();
+
+        GameSession session = initializer.getSession();
+        GeneratedLevel level = initializer.getLevelGenerator().generateLevel((int) seed);
+        initializer.getLevelGenerator().adoptLevel(level);
+        session.getPlayer().setPosition(new Position(level.getStartPosition().getX(), level.getStartPosition().getY()));
+        session.setLevelNum((int) seed);
+        session.setCurrentMap(level.getMap());
+        session.setRooms(level.getRooms());
+        session.placeLevelItems(level.getItems());
+        session.placeEnemies(level.getEnemies());
+        FogOfWarService fogOfWar = initializer.getFogOfWarService();
+        fogOfWar.updateVisibility(session.getPlayer().getPosition(), level.getMap());
+
+        CapturingRepository capture = new CapturingRepository();
+        new AutosaveService(capture, fogOfWar).saveGame(session, initializer.getSessionStat());
+        return capture.captured;
+    }
+
+    /**
+     * Пересчитывает CRC32 после правки заголовка, чтобы проверялась именно правка.
+     */
+    private static void updateCrc(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - 4);
+        int value = (int) crc.getValue();
+        data[data.length - 4] = (byte) (value >>> 24);
+        data[data.length - 3] = (byte) (value >>> 16);
+        data[data.length - 2] = (byte) (value >>> 8);
+        data[data.length - 1] = (byte) value;
+    }
+
+    private static void assertJsonEquals(byte[] expected, byte[] actual) {
+        assertEquals(new String(expected, StandardCharsets.UTF_8), new String(actual, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Репозиторий, запоминающий переданное состояние вместо записи на диск.
+     */
+    private static final class CapturingRepository extends NullAutosaveRepository {
+        private GameState captured;
+
+        @Override
+        public boolean save(GameState gameState) {
+            captured = gameState;
+            return true;
+        }
+    }
+}
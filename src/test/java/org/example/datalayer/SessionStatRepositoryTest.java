@@ -0,0 +1,76 @@
+package org.example.datalayer;
+
+import org.example.domain.entity.SessionStat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.example.config.GameConstants.PathToFiles.SCOREBOARD_LOG_PATH;
+import static org.example.config.GameConstants.PathToFiles.SCOREBOARD_TOP_N;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Журнал рекордов: дозапись после оборванной строки и общий индекс для нескольких репозиториев.
+ */
+class SessionStatRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void recordAppendedAfterTornTailIsKept() throws IOException {
+        SessionStatRepository repository = new SessionStatRepository(dir);
+        repository.addToScoreboard(stat(10), null);
+
+        // Сбой во время дозаписи: последняя строка журнала без перевода строки
+        Path log = dir.resolve(Path.of(SCOREBOARD_LOG_PATH).getFileName());
+        Files.writeString(log, "{\"treasures\":99,\"lev", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        repository.addToScoreboard(stat(20), null);
+
+        assertEquals(List.of(20, 10), treasures(new SessionStatRepository(dir).getAllStats()));
+    }
+
+    @Test
+    void indexKeepsResultsAddedByAnotherRepository() throws IOException {
+        SessionStatRepository first = new SessionStatRepository(dir);
+        SessionStatRepository second = new SessionStatRepository(dir);
+
+        first.addToScoreboard(stat(100), null);
+        second.addToScoreboard(stat(50), null);
+        first.addToScoreboard(stat(70), null);
+
+        assertEquals(List.of(100, 70, 50), treasures(first.getTopStats()));
+        assertEquals(List.of(100, 70, 50), treasures(second.getTopStats()));
+    }
+
+    @Test
+    void indexHoldsTopResultsOnly() throws IOException {
+        SessionStatRepository repository = new SessionStatRepository(dir);
+        for (int i = 1; i <= SCOREBOARD_TOP_N + 5; i++) {
+            repository.addToScoreboard(stat(i), null);
+        }
+
+        List<SessionStat> top = repository.getTopStats();
+        assertEquals(SCOREBOARD_TOP_N, top.size());
+        assertEquals(SCOREBOARD_TOP_N + 5, top.get(0).getTreasures());
+        assertEquals(SCOREBOARD_TOP_N + 5, repository.getAllStats().size());
+    }
+
+    private static SessionStat stat(int treasures) {
+        SessionStat stat = new SessionStat();
+        stat.setTreasures(treasures);
+        stat.setLevelNum(1);
+        return stat;
+    }
+
+    private static List<Integer> treasures(List<SessionStat> stats) {
+        return stats.stream().map(SessionStat::getTreasures).toList();
+    }
+}
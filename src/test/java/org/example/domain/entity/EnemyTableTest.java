@@ -0,0 +1,118 @@
+package org.example.domain.entity;
+
+import org.example.domain.enums.EnemyType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Удаление перестановкой последней строки и индекс клеток EnemyTable.
+ */
+class EnemyTableTest {
+
+    private static final int WIDTH = 20;
+    private static final int HEIGHT = 10;
+
+    @Test
+    void removeMovesLastRowIntoHole() {
+        EnemyTable table = new EnemyTable(WIDTH, HEIGHT);
+        Enemy first = table.add(enemy(EnemyType.ZOMBIE, 1, 1));
+        Enemy second = table.add(enemy(EnemyType.VAMPIRE, 2, 2));
+        Enemy last = table.add(enemy(EnemyType.OGRE, 3, 3));
+
+        table.remove(first);
+
+        assertEquals(2, table.size());
+        assertSame(last, table.view(0));
+        assertSame(second, table.view(1));
+        assertEquals(0, table.rowOf(last));
+        assertEquals(EnemyType.OGRE.getMoveCost(), table.getMoveCost(0));
+        assertEquals(0, table.rowAt(3, 3));
+        assertEquals(-1, table.rowAt(1, 1));
+        assertTrue(table.checkIndex());
+    }
+
+    @Test
+    void removedViewKeepsItsValues() {
+        EnemyTable table = new EnemyTable(WIDTH, HEIGHT);
+        Enemy removed = table.add(enemy(EnemyType.ZOMBIE, 4, 5));
+        table.add(enemy(EnemyType.GHOST, 6, 7));
+        removed.setHealth(3);
+
+        assertTrue(table.remove(removed));
+
+        assertEquals(-1, table.rowOf(removed));
+        assertFalse(table.remove(removed));
+        assertEquals(3, removed.getHealth());
+        assertEquals(4, removed.getX());
+        assertEquals(5, removed.getY());
+        // Отсоединенное представление больше не пишет в таблицу
+        removed.setHealth(1);
+        assertEquals(EnemyType.GHOST.create(1).getHealth(), table.getHealth(0));
+    }
+
+    @Test
+    void removeLastRowLeavesOthersInPlace() {
+        EnemyTable table = new EnemyTable(WIDTH, HEIGHT);
+        Enemy first = table.add(enemy(EnemyType.ZOMBIE, 1, 1));
+        Enemy last = table.add(enemy(EnemyType.SNAKE_MAGE, 2, 1));
+
+        table.remove(1);
+
+        assertEquals(1, table.size());
+        assertSame(first, table.view(0));
+        assertEquals(-1, table.rowOf(last));
+        assertNull(table.viewAt(2, 1));
+        assertTrue(table.checkIndex());
+    }
+
+    @Test
+    void energySurvivesSwap() {
+        EnemyTable table = new EnemyTable(WIDTH, HEIGHT);
+        table.add(enemy(EnemyType.ZOMBIE, 1, 1));
+        Enemy moved = table.add(enemy(EnemyType.OGRE, 2, 2));
+        table.spendEnergy(1, 150);
+
+        table.remove(0);
+
+        assertSame(moved, table.view(0));
+        assertEquals(-150, table.getEnergy(0));
+    }
+
+    @Test
+    void moveUpdatesCellIndex() {
+        EnemyTable table = new EnemyTable(WIDTH, HEIGHT);
+        Enemy enemy = table.add(enemy(EnemyType.ZOMBIE, 1, 1));
+
+        table.move(enemy, 5, 6);
+
+        assertNull(table.viewAt(1, 1));
+        assertSame(enemy, table.viewAt(5, 6));
+        assertEquals(5, enemy.getX());
+        assertTrue(table.checkIndex());
+    }
+
+    @Test
+    void removingEveryRowInAnyOrderKeepsIndexConsistent() {
+        EnemyTable table = new EnemyTable(WIDTH, HEIGHT);
+        for (int i = 0; i < 40; i++) {
+            table.add(enemy(EnemyType.ZOMBIE, i % WIDTH, i / WIDTH));
+        }
+        int[] order = {5, 0, 37, 12, 12, 3, 0, 20};
+        for (int row : order) {
+            table.remove(Math.min(row, table.size() - 1));
+            assertTrue(table.checkIndex());
+        }
+        while (table.size() > 0) {
+            table.remove(table.size() / 2);
+            assertTrue(table.checkIndex());
+        }
+    }
+
+    private static Enemy enemy(EnemyType type, int x, int y) {
+        Enemy enemy = type.create(1);
+        enemy.setX(x);
+        enemy.setY(y);
+        return enemy;
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.domain.entity;
+
+import org.example.domain.enums.EnemyType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Размещение врагов уровня в GameSession.
+ */
+class GameSessionTest {
+
+    @Test
+    void placeEnemiesAcceptsItsOwnEnemyList() {
+        GameSession session = new GameSession();
+        session.placeEnemies(List.of(enemy(EnemyType.ZOMBIE, 1, 1), enemy(EnemyType.OGRE, 2, 2)));
+
+        session.placeEnemies(session.getEnemies());
+
+        assertEquals(2, session.getEnemies().size());
+        assertEquals(EnemyType.OGRE.create(1).getType(), session.getEnemyTable().viewAt(2, 2).getType());
+        assertTrue(session.getEnemyTable().checkIndex());
+    }
+
+    @Test
+    void placeEnemiesSkipsDeadEnemies() {
+        GameSession session = new GameSession();
+        Enemy dead = enemy(EnemyType.ZOMBIE, 1, 1);
+        dead.setHealth(0);
+
+        session.placeEnemies(List.of(dead, enemy(EnemyType.GHOST, 3, 3)));
+
+        assertEquals(1, session.getEnemies().size());
+        assertNull(session.getEnemyTable().viewAt(1, 1));
+    }
+
+    private static Enemy enemy(EnemyType type, int x, int y) {
+        Enemy enemy = type.create(1);
+        enemy.setX(x);
+        enemy.setY(y);
+        return enemy;
+    }
+}
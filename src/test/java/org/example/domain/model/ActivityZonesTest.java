@@ -0,0 +1,101 @@
+package org.example.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Засыпание и пробуждение акторов в зонах активности.
+ */
+class ActivityZonesTest {
+
+    // Карта 50x30 из зон 10x10: 5 столбцов и 3 строки зон
+    private static final int ZONE = 10;
+
+    @Test
+    void everythingIsActiveBeforePlayerIsKnown() {
+        ActivityZones<String> zones = new ActivityZones<>(ZONE, ZONE, 50, 30);
+
+        assertTrue(zones.isActive(0, 0));
+        assertTrue(zones.isActive(49, 29));
+    }
+
+    @Test
+    void playerZoneAndNeighboursAreActive() {
+        ActivityZones<String> zones = new ActivityZones<>(ZONE, ZONE, 50, 30);
+        zones.updateCenter(15, 15, actor -> fail("nothing to wake"));
+
+        assertTrue(zones.isActive(0, 0));
+        assertTrue(zones.isActive(29, 29));
+        assertFalse(zones.isActive(30, 15));
+        assertFalse(zones.isActive(49, 0));
+    }
+
+    @Test
+    void sleeperWakesWhenPlayerApproachesItsZone() {
+        ActivityZones<String> zones = new ActivityZones<>(ZONE, ZONE, 50, 30);
+        List<String> woken = new ArrayList<>();
+        zones.updateCenter(5, 5, woken::add);
+        zones.park("far", 45, 25);
+        zones.park("middle", 35, 5);
+        assertEquals(2, zones.getDormantCount());
+
+        // Зона (2, 0): зона "middle" (3, 0) стала соседней
+        zones.updateCenter(25, 5, woken::add);
+        assertEquals(List.of("middle"), woken);
+        assertEquals(1, zones.getDormantCount());
+
+        // Та же зона игрока: повторного пробуждения нет
+        zones.updateCenter(29, 9, woken::add);
+        assertEquals(List.of("middle"), woken);
+
+        zones.updateCenter(45, 25, woken::add);
+        assertEquals(List.of("middle", "far"), woken);
+        assertEquals(0, zones.getDormantCount());
+    }
+
+    @Test
+    void zoneThatWasAlreadyActiveIsNotRescanned() {
+        ActivityZones<String> zones = new ActivityZones<>(ZONE, ZONE, 50, 30);
+        List<String> woken = new ArrayList<>();
+        zones.updateCenter(5, 5, woken::add);
+        zones.park("sleeper", 45, 5);
+
+        zones.updateCenter(15, 5, woken::add);
+        zones.updateCenter(25, 5, woken::add);
+        assertEquals(List.of(), woken);
+        zones.updateCenter(35, 5, woken::add);
+        assertEquals(List.of("sleeper"), woken);
+    }
+
+    @Test
+    void coordinatesOutsideMapUseEdgeZones() {
+        ActivityZones<String> zones = new ActivityZones<>(ZONE, ZONE, 50, 30);
+        List<String> woken = new ArrayList<>();
+        zones.updateCenter(5, 5, woken::add);
+        zones.park("edge", 500, 300);
+
+        zones.updateCenter(49, 29, woken::add);
+        assertEquals(List.of("edge"), woken);
+    }
+
+    @Test
+    void clearAndResizeDropSleepers() {
+        ActivityZones<String> zones = new ActivityZones<>(ZONE, ZONE, 50, 30);
+        zones.updateCenter(5, 5, actor -> { });
+        zones.park("a", 45, 25);
+
+        zones.clear();
+        assertEquals(0, zones.getDormantCount());
+        assertTrue(zones.isActive(45, 25));
+        zones.updateCenter(45, 25, actor -> fail("cleared actor woke: " + actor));
+
+        zones.park("b", 5, 5);
+        zones.resize(100, 100);
+        assertEquals(0, zones.getDormantCount());
+        zones.updateCenter(5, 5, actor -> fail("resized actor woke: " + actor));
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Колесо времени EnergyScheduler: выборка по тикам и переход через оборот колеса (64 тика).
+ */
+class EnergySchedulerTest {
+
+    private static final int WHEEL_SIZE = 64;
+
+    @Test
+    void actorIsDueOnlyOnItsTick() {
+        EnergyScheduler<String> scheduler = new EnergyScheduler<>();
+        scheduler.schedule("a", 3);
+
+        assertEquals(List.of(), advanceTo(scheduler, 2));
+        assertEquals(List.of("a"), advanceTo(scheduler, 3));
+        assertEquals(List.of(), advanceTo(scheduler, 10));
+    }
+
+    @Test
+    void actorBeyondOneRevolutionWaitsForItsTick() {
+        EnergyScheduler<String> scheduler = new EnergyScheduler<>();
+        // Тики 5 и 5 + 64 попадают в одну ячейку колеса
+        scheduler.schedule("near", 5);
+        scheduler.schedule("far", 5 + WHEEL_SIZE);
+        scheduler.schedule("farther", 5 + 2 * WHEEL_SIZE);
+
+        assertEquals(List.of("near"), advanceTo(scheduler, 5));
+        assertEquals(List.of(), advanceTo(scheduler, 4 + WHEEL_SIZE));
+        assertEquals(List.of("far"), advanceTo(scheduler, 5 + WHEEL_SIZE));
+        assertEquals(List.of("farther"), advanceTo(scheduler, 5 + 2 * WHEEL_SIZE));
+    }
+
+    @Test
+    void reschedulingEveryTickKeepsWorkingAcrossWrapAround() {
+        EnergyScheduler<String> scheduler = new EnergyScheduler<>();
+        scheduler.schedule("a", 1);
+        for (long tick = 1; tick <= 3 * WHEEL_SIZE + 7; tick++) {
+            scheduler.advance();
+            assertEquals(tick, scheduler.getTick());
+            assertEquals("a", scheduler.pollDue(), "tick " + tick);
+            assertNull(scheduler.pollDue());
+            scheduler.schedule("a", tick + 1);
+        }
+    }
+
+    @Test
+    void pastTickIsScheduledOnCurrentTick() {
+        EnergyScheduler<String> scheduler = new EnergyScheduler<>();
+        advanceTo(scheduler, 10);
+        scheduler.schedule("late", 4);
+
+        assertEquals("late", scheduler.pollDue());
+    }
+
+    @Test
+    void manyActorsOnOneTickComeOutInScheduleOrder() {
+        EnergyScheduler<Integer> scheduler = new EnergyScheduler<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            scheduler.schedule(i, WHEEL_SIZE + 1);
+            expected.add(i);
+        }
+        scheduler.schedule(-1, 1);
+
+        assertEquals(List.of(-1), advanceTo(scheduler, 1));
+        assertEquals(expected, advanceTo(scheduler, WHEEL_SIZE + 1));
+    }
+
+    @Test
+    void clearDropsActorsAndResetsTime() {
+        EnergyScheduler<String> scheduler = new EnergyScheduler<>();
+        scheduler.schedule("a", 2);
+        advanceTo(scheduler, 1);
+
+        scheduler.clear();
+
+        assertEquals(0, scheduler.getTick());
+        assertEquals(List.of(), advanceTo(scheduler, 2 * WHEEL_SIZE));
+    }
+
+    /**
+     * Продвигает планировщик до тика target и возвращает акторов, выбранных на последнем тике.
+     */
+    private static <T> List<T> advanceTo(EnergyScheduler<T> scheduler, long target) {
+        List<T> due = new ArrayList<>();
+        while (scheduler.getTick() < target) {
+            scheduler.advance();
+            due.clear();
+            for (T actor = scheduler.pollDue(); actor != null; actor = scheduler.pollDue()) {
+                due.add(actor);
+            }
+        }
+        return due;
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Границы корзин LatencyHistogram и точность процентилей.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void valuesBelowLinearLimitAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 0; v < 64; v++) {
+            histogram.record(v);
+        }
+
+        for (long v = 0; v < 64; v++) {
+            assertEquals(64 - v, histogram.countAtOrAbove(v), "threshold " + v);
+        }
+        assertEquals(31, histogram.getValueAtPercentile(50));
+        assertEquals(63, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void firstLogBucketHoldsTwoValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(63);
+        histogram.record(64);
+        histogram.record(65);
+        histogram.record(66);
+
+        // 64 и 65 - одна корзина, 63 и 66 - соседние
+        assertEquals(3, histogram.countAtOrAbove(64));
+        assertEquals(3, histogram.countAtOrAbove(65));
+        assertEquals(1, histogram.countAtOrAbove(66));
+        assertEquals(65, histogram.getValueAtPercentile(75));
+    }
+
+    @Test
+    void bucketEdgesAtPowersOfTwo() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(127);
+        histogram.record(128);
+        histogram.record(1 << 20);
+
+        assertEquals(2, histogram.countAtOrAbove(128));
+        assertEquals(3, histogram.countAtOrAbove(127));
+        // 127 - последняя корзина шага 2, 128 - первая корзина шага 4 (128..131)
+        assertEquals(127, histogram.getValueAtPercentile(33));
+        assertEquals(131, histogram.getValueAtPercentile(66));
+    }
+
+    @Test
+    void relativeErrorStaysWithinSubBucketResolution() {
+        for (long value = 100; value < 1L << 39; value = value * 3 + 7) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(value);
+            histogram.record(Long.MAX_VALUE);
+
+            long reported = histogram.getValueAtPercentile(50);
+            assertTrue(reported >= value, value + " -> " + reported);
+            assertTrue(reported - value <= value / 32, value + " -> " + reported);
+        }
+    }
+
+    @Test
+    void outOfRangeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.getMin());
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+        assertEquals(1, histogram.countAtOrAbove(Long.MAX_VALUE));
+        assertEquals(2, histogram.countAtOrAbove(-1));
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    void percentileNeverExceedsMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1000);
+
+        assertEquals(1000, histogram.getValueAtPercentile(50));
+        assertEquals(1000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void resetClearsEverything() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(500);
+        histogram.reset();
+
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0.0, histogram.getMean(), 0.0);
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        assertEquals(0, histogram.countAtOrAbove(0));
+    }
+}
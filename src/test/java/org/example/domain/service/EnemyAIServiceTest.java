@@ -0,0 +1,166 @@
+package org.example.domain.service;
+
+import org.example.domain.entity.Enemy;
+import org.example.domain.entity.GameSession;
+import org.example.domain.entity.Player;
+import org.example.domain.enums.EnemyType;
+import org.example.domain.model.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.example.config.GameConstants.ProbabilitiesAndBalance.ACTION_ENERGY_COST;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ходы врагов по энергии: скорость огра, отдых как долг энергии, контратака и дробные скорости.
+ */
+class EnemyAIServiceTest {
+
+    private static final int WIDTH = 30;
+    private static final int HEIGHT = 12;
+
+    private final EnemyAIService ai = new EnemyAIService(new Random(1));
+    private final CombatService combat = new CombatService(new Random(2));
+
+    @Test
+    void restedOgreCounterattacksWhenAdjacent() {
+        GameSession session = session(5, 6, ogre(5, 5, 1));
+        int health = session.getPlayer().getHealth();
+
+        List<String> messages = turn(session);
+
+        assertEquals(1, messages.size());
+        assertTrue(messages.get(0).contains("COUNTERATTACKS"), messages.get(0));
+        assertEquals(0, ogreOf(session).getRestTurns());
+        assertTrue(session.getPlayer().getHealth() < health);
+    }
+
+    @Test
+    void adjacentOgreAttacksOncePerTurnAndCounterattacksAfterEveryHit() {
+        GameSession session = session(5, 6, ogre(5, 5, 0));
+        String previous = null;
+        for (int tick = 0; tick < 40; tick++) {
+            session.getPlayer().setHealth(1000);
+            List<String> messages = turn(session);
+
+            assertEquals(1, messages.size(), "tick " + tick + ": " + messages);
+            String message = messages.get(0);
+            if (previous != null && previous.contains("dealt")) {
+                assertTrue(message.contains("COUNTERATTACKS"), previous + " -> " + message);
+            } else {
+                assertFalse(message.contains("COUNTERATTACKS"), previous + " -> " + message);
+            }
+            previous = message;
+        }
+    }
+
+    @Test
+    void chasingOgreClosesTwoCellsPerTurn() {
+        GameSession session = session(9, 5, ogre(5, 5, 0));
+
+        assertEquals(List.of(), turn(session));
+        assertEquals(7, ogreOf(session).getX());
+        assertEquals(5, ogreOf(session).getY());
+    }
+
+    @Test
+    void ogreRestAfterHitCostsOneAction() {
+        GameSession session = session(5, 6, ogre(5, 5, 0));
+        int tick = 0;
+        while (!turn(session).get(0).contains("dealt")) {
+            session.getPlayer().setHealth(1000);
+            assertTrue(++tick < 100, "ogre never hit");
+        }
+        // Долг отдыха: на следующий ход у огра энергия только на одно действие из двух
+        assertEquals(ACTION_ENERGY_COST, session.getEnemyTable().getEnergy(0));
+
+        // Игрок ушел за пределы агрессии: огр успевает сделать только один шаг
+        session.getPlayer().setPosition(new Position(WIDTH - 2, 1));
+        Enemy ogre = ogreOf(session);
+        int x = ogre.getX();
+        int y = ogre.getY();
+        assertEquals(List.of(), turn(session));
+        assertEquals(1, Math.abs(ogreOf(session).getX() - x) + Math.abs(ogreOf(session).getY() - y));
+        assertEquals(0, ogreOf(session).getRestTurns());
+    }
+
+    @Test
+    void fasterEnemyTakesThreeStepsPerTwoTurns() {
+        assertEquals(30, corridorSteps(150, 20));
+    }
+
+    @Test
+    void slowerEnemyTakesThreeStepsPerFourTurns() {
+        assertEquals(30, corridorSteps(75, 40));
+    }
+
+    /**
+     * Число клеток, пройденных зомби со скоростью speed (шаг - ACTION_ENERGY_COST)
+     * за turns ходов преследования игрока по прямому коридору.
+     */
+    private int corridorSteps(int speed, int turns) {
+        int width = 80;
+        char[][] map = new char[3][width];
+        Arrays.fill(map[0], '~');
+        Arrays.fill(map[1], '.');
+        Arrays.fill(map[2], '~');
+        map[1][0] = '|';
+        map[1][width - 1] = '|';
+
+        // Агрессия зомби уровня 61 - 64 клетки, коридор просматривается целиком
+        Enemy zombie = EnemyType.ZOMBIE.create(61);
+        zombie.setX(60);
+        zombie.setY(1);
+        GameSession session = new GameSession();
+        session.setPlayer(new Player(new Position(1, 1)));
+        session.setCurrentMap(map);
+        session.getEnemyActivity().setZoneSize(width, map.length); // весь коридор - одна зона
+        session.placeEnemies(List.of(zombie));
+        session.getEnemyTable().setSpeed(0, speed, ACTION_ENERGY_COST);
+
+        // Первый ход - энергия, начисленная при расстановке по скорости типа
+        turn(session);
+        int start = session.getEnemies().get(0).getX();
+        for (int i = 0; i < turns; i++) {
+            assertEquals(List.of(), turn(session));
+        }
+        return start - session.getEnemies().get(0).getX();
+    }
+
+    private List<String> turn(GameSession session) {
+        Position pos = session.getPlayer().getPosition();
+        return ai.processEnemiesTurn(session, combat, pos.getX(), pos.getY(), session.getCurrentMap());
+    }
+
+    private static GameSession session(int playerX, int playerY, Enemy ogre) {
+        char[][] map = new char[HEIGHT][WIDTH];
+        for (int y = 0; y < HEIGHT; y++) {
+            Arrays.fill(map[y], '.');
+            map[y][0] = '|';
+            map[y][WIDTH - 1] = '|';
+        }
+        Arrays.fill(map[0], '~');
+        Arrays.fill(map[HEIGHT - 1], '~');
+
+        GameSession session = new GameSession();
+        session.setPlayer(new Player(new Position(playerX, playerY)));
+        session.setCurrentMap(map);
+        session.placeEnemies(List.of(ogre));
+        return session;
+    }
+
+    private static Enemy ogre(int x, int y, int restTurns) {
+        Enemy ogre = EnemyType.OGRE.create(1);
+        ogre.setX(x);
+        ogre.setY(y);
+        ogre.setRestTurns(restTurns);
+        return ogre;
+    }
+
+    private static Enemy ogreOf(GameSession session) {
+        return session.getEnemies().get(0);
+    }
+}
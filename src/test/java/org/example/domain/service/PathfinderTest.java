@@ -0,0 +1,63 @@
+package org.example.domain.service;
+
+import org.example.domain.entity.GameSession;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Поиск пути A*: ограничение поиска окрестностью цели.
+ */
+class PathfinderTest {
+
+    private static final int WIDTH = 60;
+    private static final int HEIGHT = 20;
+
+    @Test
+    void findsDirectPathWithinRadius() {
+        GameSession session = session(openMap());
+        Pathfinder pathfinder = new Pathfinder();
+
+        assertTrue(pathfinder.search(session, session.getCurrentMap(), 5, 5, 10, 5, 8));
+        assertEquals(5, pathfinder.pathLength());
+        assertEquals(6, pathfinder.nextStepX());
+        assertEquals(5, pathfinder.nextStepY());
+    }
+
+    @Test
+    void detourBeyondRadiusIsNotExplored() {
+        // Стена с проходом только у дальнего края карты
+        char[][] map = openMap();
+        for (int y = 1; y < HEIGHT - 2; y++) {
+            map[y][30] = '|';
+        }
+        GameSession session = session(map);
+        Pathfinder pathfinder = new Pathfinder();
+
+        assertTrue(pathfinder.search(session, map, 28, 2, 32, 2));
+        assertTrue(pathfinder.pathLength() > 20);
+
+        assertFalse(pathfinder.search(session, map, 28, 2, 32, 2, 10));
+        assertEquals(-1, pathfinder.pathLength());
+    }
+
+    private static char[][] openMap() {
+        char[][] map = new char[HEIGHT][WIDTH];
+        for (int y = 0; y < HEIGHT; y++) {
+            Arrays.fill(map[y], '.');
+            map[y][0] = '|';
+            map[y][WIDTH - 1] = '|';
+        }
+        Arrays.fill(map[0], '~');
+        Arrays.fill(map[HEIGHT - 1], '~');
+        return map;
+    }
+
+    private static GameSession session(char[][] map) {
+        GameSession session = new GameSession();
+        session.setCurrentMap(map);
+        return session;
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.domain.service;
+
+import org.example.domain.factory.LevelGenerator;
+import org.example.domain.interfaces.FovAlgorithm;
+import org.example.domain.model.CellBitSet;
+import org.example.domain.model.RandomStreams;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Сравнение ShadowcastingFov с эталонным RayCastingFov на уровнях с фиксированным зерном.
+ */
+class ShadowcastingFovTest {
+
+    private static final int RADIUS = 8;
+    private static final long[] SEEDS = {1, 2, 3, 4, 5, 6, 7, 8};
+
+    @Test
+    void seesEveryWallSeenByReferenceRays() {
+        for (long seed : SEEDS) {
+            char[][] map = levelMap(seed);
+            for (int[] origin : floorCells(map)) {
+                CellBitSet shadow = compute(new ShadowcastingFov(), map, origin);
+                CellBitSet rays = compute(new RayCastingFov(), map, origin);
+                forEachCellInRadius(map, origin, (x, y) -> {
+                    if (FovAlgorithm.isOpaque(map, x, y) && rays.get(x, y)) {
+                        assertTrue(shadow.get(x, y), "seed " + seed + ": wall " + x + "," + y
+                                + " seen by rays from " + origin[0] + "," + origin[1]);
+                    }
+                });
+            }
+        }
+    }
+
+    @Test
+    void floorVisibilityAgreesWithReferenceRays() {
+        long both = 0;
+        long either = 0;
+        for (long seed : SEEDS) {
+            char[][] map = levelMap(seed);
+            for (int[] origin : floorCells(map)) {
+                CellBitSet shadow = compute(new ShadowcastingFov(), map, origin);
+                CellBitSet rays = compute(new RayCastingFov(), map, origin);
+                for (int y = 0; y < map.length; y++) {
+                    for (int x = 0; x < map[y].length; x++) {
+                        if (FovAlgorithm.isOpaque(map, x, y)) continue;
+                        boolean s = shadow.get(x, y);
+                        boolean r = rays.get(x, y);
+                        if (s && r) both++;
+                        if (s || r) either++;
+                    }
+                }
+            }
+        }
+        // Лучи Брезенхэма несимметричны, поэтому полного совпадения нет; расхождения - единичные клетки
+        double agreement = (double) both / either;
+        assertTrue(agreement >= 0.98, "floor agreement " + agreement);
+    }
+
+    @Test
+    void visibilityIsSymmetricBetweenFloorCells() {
+        for (long seed : SEEDS) {
+            char[][] map = levelMap(seed);
+            List<int[]> floors = floorCells(map);
+            CellBitSet[] seen = new CellBitSet[floors.size()];
+            for (int i = 0; i < floors.size(); i++) {
+                seen[i] = compute(new ShadowcastingFov(), map, floors.get(i));
+            }
+
+            for (int i = 0; i < floors.size(); i++) {
+                int[] a = floors.get(i);
+                for (int j = i + 1; j < floors.size(); j++) {
+                    int[] b = floors.get(j);
+                    if (Math.max(Math.abs(a[0] - b[0]), Math.abs(a[1] - b[1])) > RADIUS) continue;
+                    assertEquals(seen[i].get(b[0], b[1]), seen[j].get(a[0], a[1]),
+                            "seed " + seed + ": " + a[0] + "," + a[1] + " <-> " + b[0] + "," + b[1]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void originIsAlwaysVisible() {
+        char[][] map = levelMap(SEEDS[0]);
+        int[] origin = floorCells(map).get(0);
+        assertTrue(compute(new ShadowcastingFov(), map, origin).get(origin[0], origin[1]));
+    }
+
+    private static char[][] levelMap(long seed) {
+        return new LevelGenerator(new RandomStreams(seed)).createAsciiMap(1 + (int) (seed % 5));
+    }
+
+    private static List<int[]> floorCells(char[][] map) {
+        List<int[]> cells = new ArrayList<>();
+        for (int y = 0; y < map.length; y++) {
+            for (int x = 0; x < map[y].length; x++) {
+                if (!FovAlgorithm.isOpaque(map, x, y)) {
+                    cells.add(new int[]{x, y});
+                }
+            }
+        }
+        return cells;
+    }
+
+    private static CellBitSet compute(FovAlgorithm fov, char[][] map, int[] origin) {
+        CellBitSet visible = new CellBitSet(map[0].length, map.length);
+        fov.compute(map, origin[0], origin[1], RADIUS, visible);
+        return visible;
+    }
+
+    private static void forEachCellInRadius(char[][] map, int[] origin, CellVisitor visitor) {
+        for (int y = Math.max(0, origin[1] - RADIUS); y <= Math.min(map.length - 1, origin[1] + RADIUS); y++) {
+            for (int x = Math.max(0, origin[0] - RADIUS); x <= Math.min(map[y].length - 1, origin[0] + RADIUS); x++) {
+                visitor.visit(x, y);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface CellVisitor {
+        void visit(int x, int y);
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.domain.service;
+
+import org.example.domain.enums.GamePhase;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Длительность хода в TurnProfiler: сумма фаз одного хода, без замеров отброшенных итераций.
+ */
+class TurnProfilerTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void turnTotalSumsPhasesExceptInput() {
+        TurnProfiler profiler = new TurnProfiler();
+        profiler.record(GamePhase.RENDER, 2 * MS);
+        profiler.record(GamePhase.INPUT, 500 * MS);
+        profiler.record(GamePhase.COMMAND, 3 * MS);
+        profiler.turnCompleted();
+
+        assertEquals(1, profiler.getTurns());
+        assertEquals(5 * MS, profiler.getTurnHistogram().getMax());
+    }
+
+    @Test
+    void discardedIterationIsNotCountedInNextTurn() {
+        TurnProfiler profiler = new TurnProfiler();
+        // Переключение оверлея: отрисовка и ввод без хода
+        profiler.record(GamePhase.RENDER, 40 * MS);
+        profiler.record(GamePhase.INPUT, 1 * MS);
+        profiler.discardTurn();
+
+        profiler.record(GamePhase.RENDER, 2 * MS);
+        profiler.record(GamePhase.COMMAND, 1 * MS);
+        profiler.turnCompleted();
+
+        assertEquals(1, profiler.getTurns());
+        assertEquals(3 * MS, profiler.getTurnHistogram().getMax());
+        assertEquals(2, profiler.getHistogram(GamePhase.RENDER).getTotalCount());
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.domain.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.example.config.GameConstants.Control.ESC_KEY_CODE;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Воспроизведение записанного ввода.
+ */
+class ReplayInputTest {
+
+    @Test
+    void skipsLineBreaksAndEndsWithEscape() {
+        ReplayInput input = new ReplayInput("wa\r\nd\n");
+
+        assertEquals('w', input.nextKey(null));
+        assertEquals('a', input.nextKey(null));
+        assertEquals('d', input.nextKey(null));
+        assertEquals(ESC_KEY_CODE, input.nextKey(null));
+        assertEquals(ESC_KEY_CODE, input.nextKey(null));
+    }
+
+    @Test
+    void emptyRecordingQuitsImmediately() {
+        assertEquals(ESC_KEY_CODE, new ReplayInput("").nextKey(null));
+    }
+}
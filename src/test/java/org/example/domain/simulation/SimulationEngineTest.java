@@ -0,0 +1,59 @@
+package org.example.domain.simulation;
+
+import org.example.domain.entity.SessionStat;
+import org.example.domain.model.MapLayout;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Воспроизводимость безголовых прогонов: одинаковые зерна дают одинаковые партии.
+ */
+class SimulationEngineTest {
+
+    private static final int GAMES = 3;
+    private static final long MAX_KEYS = 400;
+
+    @Test
+    void sameSeedReplaysIdentically() throws IOException {
+        SimulationEngine first = new SimulationEngine(7, MapLayout.DEFAULT, RandomWalkInput::new, MAX_KEYS);
+        SimulationEngine second = new SimulationEngine(7, MapLayout.DEFAULT, RandomWalkInput::new, MAX_KEYS);
+
+        SimulationReport a = first.run(GAMES);
+        SimulationReport b = second.run(GAMES);
+
+        assertEquals(GAMES, a.getGames());
+        assertEquals(GAMES, a.getVictories() + a.getDeaths() + a.getUnfinished());
+        assertEquals(a.getVictories(), b.getVictories());
+        assertEquals(a.getDeaths(), b.getDeaths());
+        assertEquals(a.getUnfinished(), b.getUnfinished());
+        assertEquals(a.getTurns(), b.getTurns());
+        assertEquals(a.getAverageLevel(), b.getAverageLevel(), 0.0);
+        assertEquals(describe(first.getStatRepository().getAllStats()),
+                describe(second.getStatRepository().getAllStats()));
+    }
+
+    @Test
+    void keyLimitEndsEveryGame() throws IOException {
+        // Ввод из одних пробелов не двигает игрока: каждая партия завершается выходом по лимиту
+        SimulationEngine engine = new SimulationEngine(1, MapLayout.DEFAULT, seed -> session -> ' ', 50);
+
+        SimulationReport report = engine.run(2);
+
+        assertEquals(2, report.getUnfinished());
+        assertEquals(0, engine.getStatRepository().size());
+    }
+
+    private static List<String> describe(List<SessionStat> stats) {
+        List<String> lines = new ArrayList<>();
+        for (SessionStat stat : stats) {
+            lines.add(stat.getLevelNum() + "/" + stat.getMoves() + "/" + stat.getEnemies() + "/"
+                    + stat.getTreasures() + "/" + stat.getAttacks() + "/" + stat.getMissed());
+        }
+        return lines;
+    }
+}
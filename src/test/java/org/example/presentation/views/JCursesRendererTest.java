@@ -0,0 +1,175 @@
+package org.example.presentation.views;
+
+import jcurses.system.CharColor;
+import org.example.domain.dto.VisibleMapDto;
+import org.example.domain.factory.LevelGenerator;
+import org.example.domain.model.MapLayout;
+import org.example.domain.model.RandomStreams;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import static org.example.config.GameConstants.Colors.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Отрисовка кадра карты JCursesRenderer без терминала: вывод только изменений
+ * и отсутствие выделений памяти на пути drawMap/drawChar.
+ */
+class JCursesRendererTest {
+
+    private static final int FRAMES = 1000;
+    private static final int ROUNDS = 3;
+
+    private final CountingTerminal terminal = new CountingTerminal();
+    private final JCursesRenderer renderer = new JCursesRenderer(terminal);
+
+    @Test
+    void firstFrameDrawsEveryCellAndUnchangedFrameDrawsNothing() {
+        VisibleMapDto map = levelMap();
+
+        renderer.drawMap(map);
+        assertEquals(map.width() * map.height(), terminal.printedChars);
+
+        terminal.reset();
+        renderer.drawMap(map);
+        assertEquals(0, terminal.printCalls);
+    }
+
+    @Test
+    void steadyStateFrameAllocatesNothing() {
+        VisibleMapDto map = levelMap();
+        warmUp(() -> renderer.drawMap(map));
+
+        assertEquals(0, allocatedBytesPerCall(() -> renderer.drawMap(map)));
+    }
+
+    @Test
+    void movingCellFrameAllocatesNothing() {
+        int width = 80;
+        int row = 15 * width;
+        char[] symbols = new char[width * 30];
+        short[] colors = new short[symbols.length];
+        Arrays.fill(symbols, '.');
+        Arrays.fill(colors, COLOR_WHITE);
+        VisibleMapDto map = new VisibleMapDto(symbols, colors, width, 30);
+        Runnable step = new Runnable() {
+            private int x;
+
+            @Override
+            public void run() {
+                // Сущность сдвигается на одну клетку: меняются две клетки кадра
+                symbols[row + x] = '.';
+                colors[row + x] = COLOR_WHITE;
+                x = (x + 2) % width;
+                symbols[row + x] = '@';
+                colors[row + x] = COLOR_YELLOW;
+                renderer.drawMap(map);
+            }
+        };
+        warmUp(step);
+
+        terminal.reset();
+        assertEquals(0, allocatedBytesPerCall(step));
+        assertEquals(2 * FRAMES * ROUNDS, terminal.printCalls);
+    }
+
+    @Test
+    void drawCharAllocatesNothing() {
+        Runnable draw = new Runnable() {
+            private int i;
+
+            @Override
+            public void run() {
+                renderer.drawChar(i % 80, i % 30, (char) ('!' + i % 90), i % 8);
+                i++;
+            }
+        };
+        warmUp(draw);
+
+        assertEquals(0, allocatedBytesPerCall(draw));
+    }
+
+    private static VisibleMapDto levelMap() {
+        char[][] ascii = new LevelGenerator(new RandomStreams(42L), MapLayout.DEFAULT).createAsciiMap(1);
+        int width = ascii[0].length;
+        char[] symbols = new char[ascii.length * width];
+        short[] colors = new short[symbols.length];
+        for (int y = 0; y < ascii.length; y++) {
+            for (int x = 0; x < width; x++) {
+                symbols[y * width + x] = ascii[y][x];
+                colors[y * width + x] = (short) (ascii[y][x] % 8);
+            }
+        }
+        return new VisibleMapDto(symbols, colors, width, ascii.length);
+    }
+
+    private static void warmUp(Runnable action) {
+        for (int i = 0; i < FRAMES; i++) {
+            action.run();
+        }
+    }
+
+    /**
+     * Байты, выделенные текущим потоком на один вызов действия. Берется лучший из нескольких
+     * прогонов по FRAMES вызовов: разовые выделения JVM (компиляция, деоптимизация) делятся
+     * на число вызовов и дают 0, а выделение в каждом вызове - не меньше размера объекта.
+     */
+    private static long allocatedBytesPerCall(Runnable action) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.getCurrentThreadAllocatedBytes();
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < FRAMES; i++) {
+                action.run();
+            }
+            best = Math.min(best, threads.getCurrentThreadAllocatedBytes() - before);
+        }
+        return best / FRAMES;
+    }
+
+    /**
+     * Терминал, который только считает вывод.
+     */
+    private static final class CountingTerminal implements Terminal {
+        int printCalls;
+        int printedChars;
+
+        void reset() {
+            printCalls = 0;
+            printedChars = 0;
+        }
+
+        @Override
+        public void printString(String text, int x, int y, CharColor color) {
+            printCalls++;
+            printedChars += text.length();
+        }
+
+        @Override
+        public void clearScreen(CharColor color) {
+        }
+
+        @Override
+        public int readCharacter() {
+            return 0;
+        }
+
+        @Override
+        public int getScreenWidth() {
+            return 120;
+        }
+
+        @Override
+        public int getScreenHeight() {
+            return 40;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}